@@ -94,6 +94,8 @@ public class ExampleNamespace implements Namespace {
         this.server = server;
         this.namespaceIndex = namespaceIndex;
 
+        // Items are sampled. Pass true as a third argument to feed items on nodes whose values only change through
+        // UaVariableNode.setValue() from change callbacks instead; see SubscriptionModel.
         subscriptionModel = new SubscriptionModel(server, this);
 
         try {
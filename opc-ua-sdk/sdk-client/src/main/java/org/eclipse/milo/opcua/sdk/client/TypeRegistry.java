@@ -25,6 +25,8 @@ public class TypeRegistry {
 
     private final ConcurrentMap<NodeId, TypeDefinition> typeDefinitions = Maps.newConcurrentMap();
 
+    private volatile TypeResolver typeResolver;
+
     public void registerType(
         NodeId typeDefinition,
         Class<? extends Node> typeClass,
@@ -34,9 +36,26 @@ public class TypeRegistry {
         typeDefinitions.put(typeDefinition, new TypeDefinition(typeClass, nodeClass, nodeFactory));
     }
 
+    /**
+     * Set the {@link TypeResolver} consulted when a type definition that has not been registered is looked up.
+     *
+     * @param typeResolver the {@link TypeResolver} to use, or {@code null} for none.
+     */
+    public void setTypeResolver(TypeResolver typeResolver) {
+        this.typeResolver = typeResolver;
+    }
+
     public Optional<NodeFactory> getNodeFactory(NodeId typeDefinition) {
         TypeDefinition def = typeDefinitions.get(typeDefinition);
 
+        if (def == null) {
+            TypeResolver resolver = typeResolver;
+
+            if (resolver != null && resolver.resolve(typeDefinition, this)) {
+                def = typeDefinitions.get(typeDefinition);
+            }
+        }
+
         return Optional.ofNullable(def).map(d -> d.nodeFactory);
     }
 
@@ -60,4 +79,20 @@ public class TypeRegistry {
         UaNode apply(OpcUaClient client, NodeId nodeId);
     }
 
+    /**
+     * Registers types on demand, the first time their type definition is looked up.
+     */
+    public interface TypeResolver {
+
+        /**
+         * Register the type for {@code typeDefinition} with {@code typeRegistry}, if this resolver knows it.
+         *
+         * @param typeDefinition the {@link NodeId} of the type definition being looked up.
+         * @param typeRegistry   the {@link TypeRegistry} to register with.
+         * @return {@code true} if a type was registered.
+         */
+        boolean resolve(NodeId typeDefinition, TypeRegistry typeRegistry);
+
+    }
+
 }
@@ -86,6 +86,8 @@ public interface OpcUaClientConfig extends UaTcpStackClientConfig {
         builder.setEventLoop(config.getEventLoop());
         builder.setWheelTimer(config.getWheelTimer());
         builder.setSecureChannelReauthenticationEnabled(config.isSecureChannelReauthenticationEnabled());
+        builder.setRetainedExtensionObjectBodiesEnabled(config.isRetainedExtensionObjectBodiesEnabled());
+        builder.setStreamingDecodeEnabled(config.isStreamingDecodeEnabled());
 
         // OpcUaClientConfig values
         builder.setSessionName(config.getSessionName());
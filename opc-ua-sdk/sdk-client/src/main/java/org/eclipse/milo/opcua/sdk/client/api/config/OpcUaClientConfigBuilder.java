@@ -158,6 +158,20 @@ public class OpcUaClientConfigBuilder extends UaTcpStackClientConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaClientConfigBuilder setRetainedExtensionObjectBodiesEnabled(
+        boolean retainedExtensionObjectBodiesEnabled) {
+
+        super.setRetainedExtensionObjectBodiesEnabled(retainedExtensionObjectBodiesEnabled);
+        return this;
+    }
+
+    @Override
+    public OpcUaClientConfigBuilder setStreamingDecodeEnabled(boolean streamingDecodeEnabled) {
+        super.setStreamingDecodeEnabled(streamingDecodeEnabled);
+        return this;
+    }
+
     public OpcUaClientConfig build() {
         UaTcpStackClientConfig stackClientConfig = super.build();
 
@@ -304,6 +318,16 @@ public class OpcUaClientConfigBuilder extends UaTcpStackClientConfigBuilder {
             return stackClientConfig.isSecureChannelReauthenticationEnabled();
         }
 
+        @Override
+        public boolean isRetainedExtensionObjectBodiesEnabled() {
+            return stackClientConfig.isRetainedExtensionObjectBodiesEnabled();
+        }
+
+        @Override
+        public boolean isStreamingDecodeEnabled() {
+            return stackClientConfig.isStreamingDecodeEnabled();
+        }
+
     }
 
 }
@@ -13,1440 +13,253 @@
 
 package org.eclipse.milo.opcua.sdk.client.model;
 
-import org.eclipse.milo.opcua.sdk.client.TypeRegistry;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AcknowledgeableConditionNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AddressSpaceFileNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AggregateConfigurationNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AggregateFunctionNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AlarmConditionNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ApplicationCertificateNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditActivateSessionEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditAddNodesEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditAddReferencesEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCancelEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCertificateDataMismatchEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCertificateEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCertificateExpiredEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCertificateInvalidEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCertificateMismatchEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCertificateRevokedEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCertificateUntrustedEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditChannelEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditConditionAcknowledgeEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditConditionCommentEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditConditionConfirmEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditConditionEnableEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditConditionEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditConditionRespondEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditConditionShelvingEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditCreateSessionEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditDeleteNodesEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditDeleteReferencesEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditHistoryAtTimeDeleteEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditHistoryDeleteEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditHistoryEventDeleteEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditHistoryEventUpdateEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditHistoryRawModifyDeleteEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditHistoryUpdateEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditHistoryValueUpdateEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditNodeManagementEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditOpenSecureChannelEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditProgramTransitionEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditSecurityEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditSessionEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditUpdateEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditUpdateMethodEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditUpdateStateEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditUrlMismatchEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.AuditWriteUpdateEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.BaseConditionClassNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.BaseEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.BaseModelChangeEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.BaseObjectNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.CertificateExpirationAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.CertificateGroupFolderNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.CertificateGroupNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.CertificateNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.CertificateUpdatedAuditEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ConditionNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.DataTypeEncodingNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.DataTypeSystemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.DeviceFailureEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.DialogConditionNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.DiscreteAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.EventQueueOverflowEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ExclusiveDeviationAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ExclusiveLevelAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ExclusiveLimitAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ExclusiveLimitStateMachineNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ExclusiveRateOfChangeAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.FileDirectoryNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.FileNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.FiniteStateMachineNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.FolderNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.GeneralModelChangeEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.HistoricalDataConfigurationNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.HistoryServerCapabilitiesNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.HttpsCertificateNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.InitialStateNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.LimitAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.MaintenanceConditionClassNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ModellingRuleNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NamespaceMetadataNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NamespacesNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NonExclusiveDeviationAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NonExclusiveLevelAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NonExclusiveLimitAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NonExclusiveRateOfChangeAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NonTransparentNetworkRedundancyNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.NonTransparentRedundancyNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.OffNormalAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.OperationLimitsNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ProcessConditionClassNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ProgramStateMachineNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ProgramTransitionAuditEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ProgramTransitionEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ProgressEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.RefreshEndEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.RefreshRequiredEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.RefreshStartEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.RsaMinApplicationCertificateNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.RsaSha256ApplicationCertificateNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.SemanticChangeEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ServerCapabilitiesNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ServerConfigurationNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ServerDiagnosticsNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ServerNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ServerRedundancyNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.SessionDiagnosticsObjectNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.SessionsDiagnosticsSummaryNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ShelvedStateMachineNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.StateMachineNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.StateNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.SystemConditionClassNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.SystemEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.SystemOffNormalAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.SystemStatusChangeEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.TransitionEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.TransitionNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.TransparentRedundancyNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.TripAlarmNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.TrustListNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.TrustListUpdatedAuditEventNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.VendorServerInfoNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.AnalogItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ArrayItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.BaseDataVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.BaseVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.BuildInfoNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ConditionVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.CubeItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.DataItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.DataTypeDescriptionNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.DataTypeDictionaryNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.DiscreteItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.FiniteStateVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.FiniteTransitionVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ImageItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.MultiStateDiscreteNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.MultiStateValueDiscreteNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.NDimensionArrayItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.OptionSetNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ProgramDiagnosticNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.PropertyNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SamplingIntervalDiagnosticsArrayNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SamplingIntervalDiagnosticsNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ServerDiagnosticsSummaryNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ServerStatusNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ServerVendorCapabilityNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SessionDiagnosticsArrayNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SessionDiagnosticsVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SessionSecurityDiagnosticsArrayNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SessionSecurityDiagnosticsNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.StateVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SubscriptionDiagnosticsArrayNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.SubscriptionDiagnosticsNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.TransitionVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.TwoStateDiscreteNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.TwoStateVariableNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.XYArrayItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.YArrayItemNode;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AcknowledgeableConditionType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AddressSpaceFileType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AggregateConfigurationType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AggregateFunctionType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AlarmConditionType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ApplicationCertificateType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditActivateSessionEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditAddNodesEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditAddReferencesEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCancelEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCertificateDataMismatchEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCertificateEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCertificateExpiredEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCertificateInvalidEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCertificateMismatchEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCertificateRevokedEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCertificateUntrustedEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditChannelEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditConditionAcknowledgeEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditConditionCommentEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditConditionConfirmEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditConditionEnableEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditConditionEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditConditionRespondEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditConditionShelvingEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditCreateSessionEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditDeleteNodesEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditDeleteReferencesEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditHistoryAtTimeDeleteEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditHistoryDeleteEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditHistoryEventDeleteEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditHistoryEventUpdateEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditHistoryRawModifyDeleteEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditHistoryUpdateEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditHistoryValueUpdateEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditNodeManagementEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditOpenSecureChannelEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditProgramTransitionEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditSecurityEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditSessionEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditUpdateEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditUpdateMethodEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditUpdateStateEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditUrlMismatchEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.AuditWriteUpdateEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.BaseConditionClassType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.BaseEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.BaseModelChangeEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.BaseObjectType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.CertificateExpirationAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.CertificateGroupFolderType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.CertificateGroupType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.CertificateType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.CertificateUpdatedAuditEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ConditionType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.DataTypeEncodingType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.DataTypeSystemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.DeviceFailureEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.DialogConditionType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.DiscreteAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.EventQueueOverflowEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ExclusiveDeviationAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ExclusiveLevelAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ExclusiveLimitAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ExclusiveLimitStateMachineType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ExclusiveRateOfChangeAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.FileDirectoryType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.FileType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.FiniteStateMachineType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.FolderType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.GeneralModelChangeEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.HistoricalDataConfigurationType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.HistoryServerCapabilitiesType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.HttpsCertificateType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.InitialStateType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.LimitAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.MaintenanceConditionClassType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ModellingRuleType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NamespaceMetadataType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NamespacesType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NonExclusiveDeviationAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NonExclusiveLevelAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NonExclusiveLimitAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NonExclusiveRateOfChangeAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NonTransparentNetworkRedundancyType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.NonTransparentRedundancyType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.OffNormalAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.OperationLimitsType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ProcessConditionClassType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ProgramStateMachineType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ProgramTransitionAuditEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ProgramTransitionEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ProgressEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.RefreshEndEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.RefreshRequiredEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.RefreshStartEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.RsaMinApplicationCertificateType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.RsaSha256ApplicationCertificateType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.SemanticChangeEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ServerCapabilitiesType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ServerConfigurationType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ServerDiagnosticsType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ServerRedundancyType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ServerType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.SessionDiagnosticsObjectType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.SessionsDiagnosticsSummaryType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.ShelvedStateMachineType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.StateMachineType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.StateType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.SystemConditionClassType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.SystemEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.SystemOffNormalAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.SystemStatusChangeEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.TransitionEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.TransitionType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.TransparentRedundancyType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.TripAlarmType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.TrustListType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.TrustListUpdatedAuditEventType;
-import org.eclipse.milo.opcua.sdk.client.model.types.objects.VendorServerInfoType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.AnalogItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.ArrayItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.BaseDataVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.BaseVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.BuildInfoType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.ConditionVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.CubeItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.DataItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.DataTypeDescriptionType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.DataTypeDictionaryType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.DiscreteItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.FiniteStateVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.FiniteTransitionVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.ImageItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.MultiStateDiscreteType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.MultiStateValueDiscreteType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.NDimensionArrayItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.OptionSetType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.ProgramDiagnosticType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.PropertyType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SamplingIntervalDiagnosticsArrayType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SamplingIntervalDiagnosticsType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.ServerDiagnosticsSummaryType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.ServerStatusType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.ServerVendorCapabilityType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SessionDiagnosticsArrayType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SessionDiagnosticsVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SessionSecurityDiagnosticsArrayType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SessionSecurityDiagnosticsType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.StateVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SubscriptionDiagnosticsArrayType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.SubscriptionDiagnosticsType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.TransitionVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.TwoStateDiscreteType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.TwoStateVariableType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.XYArrayItemType;
-import org.eclipse.milo.opcua.sdk.client.model.types.variables.YArrayItemType;
-import org.eclipse.milo.opcua.stack.core.Identifiers;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
 
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.client.TypeRegistry;
+import org.eclipse.milo.opcua.sdk.client.api.nodes.Node;
+import org.eclipse.milo.opcua.sdk.client.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.UaRuntimeException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
+
+/**
+ * Registers the generated object and variable types with a {@link TypeRegistry}.
+ * <p>
+ * Types are registered the first time their type definition is looked up, using an index of the generated types
+ * rather than loading every type and node class up front. The entry {@code objects.Foo} in the index is implemented
+ * by {@code model.types.objects.FooType} and {@code model.nodes.objects.FooNode}.
+ */
 public class TypeRegistryInitializer {
 
+    private static final String TYPES_PACKAGE = "org.eclipse.milo.opcua.sdk.client.model.types.";
+    private static final String NODES_PACKAGE = "org.eclipse.milo.opcua.sdk.client.model.nodes.";
+
+    /**
+     * The namespace 0 ids of the type definitions, in ascending order.
+     */
+    private static final int[] TYPE_DEFINITION_IDS = {
+        58, 61, 62, 63, 68, 69, 72, 75, 76, 77, 2004, 2013, 2020, 2026, 2029, 2033, 2034, 2036, 2039, 2041, 2052, 2058,
+        2059, 2060, 2069, 2071, 2075, 2078, 2080, 2082, 2085, 2086, 2087, 2088, 2089, 2090, 2091, 2093, 2095, 2097,
+        2099, 2100, 2104, 2127, 2130, 2131, 2132, 2133, 2137, 2138, 2150, 2164, 2165, 2171, 2172, 2196, 2197, 2243,
+        2244, 2299, 2307, 2309, 2310, 2311, 2315, 2318, 2330, 2340, 2365, 2368, 2372, 2373, 2376, 2378, 2380, 2391,
+        2738, 2748, 2755, 2760, 2762, 2767, 2771, 2782, 2787, 2788, 2789, 2790, 2803, 2829, 2830, 2881, 2915, 2929,
+        2955, 2999, 3006, 3012, 3014, 3019, 3022, 3035, 3051, 3806, 8927, 8944, 8961, 8995, 9002, 9318, 9341, 9482,
+        9623, 9764, 9906, 10060, 10214, 10368, 10523, 10637, 10751, 11093, 11163, 11164, 11165, 11166, 11187, 11238,
+        11436, 11446, 11487, 11564, 11575, 11595, 11616, 11645, 11753, 11856, 11945, 12021, 12029, 12038, 12047, 12057,
+        12068, 12522, 12555, 12556, 12557, 12558, 12559, 12560, 12561, 12581, 12620, 13225, 13353, 13813
+    };
+
+    /**
+     * The type defined by the id at the same index in {@link #TYPE_DEFINITION_IDS}.
+     */
+    private static final String[] TYPES = {
+        "objects.BaseObject", // 58
+        "objects.Folder", // 61
+        "variables.BaseVariable", // 62
+        "variables.BaseDataVariable", // 63
+        "variables.Property", // 68
+        "variables.DataTypeDescription", // 69
+        "variables.DataTypeDictionary", // 72
+        "objects.DataTypeSystem", // 75
+        "objects.DataTypeEncoding", // 76
+        "objects.ModellingRule", // 77
+        "objects.Server", // 2004
+        "objects.ServerCapabilities", // 2013
+        "objects.ServerDiagnostics", // 2020
+        "objects.SessionsDiagnosticsSummary", // 2026
+        "objects.SessionDiagnosticsObject", // 2029
+        "objects.VendorServerInfo", // 2033
+        "objects.ServerRedundancy", // 2034
+        "objects.TransparentRedundancy", // 2036
+        "objects.NonTransparentRedundancy", // 2039
+        "objects.BaseEvent", // 2041
+        "objects.AuditEvent", // 2052
+        "objects.AuditSecurityEvent", // 2058
+        "objects.AuditChannelEvent", // 2059
+        "objects.AuditOpenSecureChannelEvent", // 2060
+        "objects.AuditSessionEvent", // 2069
+        "objects.AuditCreateSessionEvent", // 2071
+        "objects.AuditActivateSessionEvent", // 2075
+        "objects.AuditCancelEvent", // 2078
+        "objects.AuditCertificateEvent", // 2080
+        "objects.AuditCertificateDataMismatchEvent", // 2082
+        "objects.AuditCertificateExpiredEvent", // 2085
+        "objects.AuditCertificateInvalidEvent", // 2086
+        "objects.AuditCertificateUntrustedEvent", // 2087
+        "objects.AuditCertificateRevokedEvent", // 2088
+        "objects.AuditCertificateMismatchEvent", // 2089
+        "objects.AuditNodeManagementEvent", // 2090
+        "objects.AuditAddNodesEvent", // 2091
+        "objects.AuditDeleteNodesEvent", // 2093
+        "objects.AuditAddReferencesEvent", // 2095
+        "objects.AuditDeleteReferencesEvent", // 2097
+        "objects.AuditUpdateEvent", // 2099
+        "objects.AuditWriteUpdateEvent", // 2100
+        "objects.AuditHistoryUpdateEvent", // 2104
+        "objects.AuditUpdateMethodEvent", // 2127
+        "objects.SystemEvent", // 2130
+        "objects.DeviceFailureEvent", // 2131
+        "objects.BaseModelChangeEvent", // 2132
+        "objects.GeneralModelChangeEvent", // 2133
+        "variables.ServerVendorCapability", // 2137
+        "variables.ServerStatus", // 2138
+        "variables.ServerDiagnosticsSummary", // 2150
+        "variables.SamplingIntervalDiagnosticsArray", // 2164
+        "variables.SamplingIntervalDiagnostics", // 2165
+        "variables.SubscriptionDiagnosticsArray", // 2171
+        "variables.SubscriptionDiagnostics", // 2172
+        "variables.SessionDiagnosticsArray", // 2196
+        "variables.SessionDiagnosticsVariable", // 2197
+        "variables.SessionSecurityDiagnosticsArray", // 2243
+        "variables.SessionSecurityDiagnostics", // 2244
+        "objects.StateMachine", // 2299
+        "objects.State", // 2307
+        "objects.InitialState", // 2309
+        "objects.Transition", // 2310
+        "objects.TransitionEvent", // 2311
+        "objects.AuditUpdateStateEvent", // 2315
+        "objects.HistoricalDataConfiguration", // 2318
+        "objects.HistoryServerCapabilities", // 2330
+        "objects.AggregateFunction", // 2340
+        "variables.DataItem", // 2365
+        "variables.AnalogItem", // 2368
+        "variables.DiscreteItem", // 2372
+        "variables.TwoStateDiscrete", // 2373
+        "variables.MultiStateDiscrete", // 2376
+        "objects.ProgramTransitionEvent", // 2378
+        "variables.ProgramDiagnostic", // 2380
+        "objects.ProgramStateMachine", // 2391
+        "objects.SemanticChangeEvent", // 2738
+        "objects.AuditUrlMismatchEvent", // 2748
+        "variables.StateVariable", // 2755
+        "variables.FiniteStateVariable", // 2760
+        "variables.TransitionVariable", // 2762
+        "variables.FiniteTransitionVariable", // 2767
+        "objects.FiniteStateMachine", // 2771
+        "objects.Condition", // 2782
+        "objects.RefreshStartEvent", // 2787
+        "objects.RefreshEndEvent", // 2788
+        "objects.RefreshRequiredEvent", // 2789
+        "objects.AuditConditionEvent", // 2790
+        "objects.AuditConditionEnableEvent", // 2803
+        "objects.AuditConditionCommentEvent", // 2829
+        "objects.DialogCondition", // 2830
+        "objects.AcknowledgeableCondition", // 2881
+        "objects.AlarmCondition", // 2915
+        "objects.ShelvedStateMachine", // 2929
+        "objects.LimitAlarm", // 2955
+        "objects.AuditHistoryEventUpdateEvent", // 2999
+        "objects.AuditHistoryValueUpdateEvent", // 3006
+        "objects.AuditHistoryDeleteEvent", // 3012
+        "objects.AuditHistoryRawModifyDeleteEvent", // 3014
+        "objects.AuditHistoryAtTimeDeleteEvent", // 3019
+        "objects.AuditHistoryEventDeleteEvent", // 3022
+        "objects.EventQueueOverflowEvent", // 3035
+        "variables.BuildInfo", // 3051
+        "objects.ProgramTransitionAuditEvent", // 3806
+        "objects.AuditConditionRespondEvent", // 8927
+        "objects.AuditConditionAcknowledgeEvent", // 8944
+        "objects.AuditConditionConfirmEvent", // 8961
+        "variables.TwoStateVariable", // 8995
+        "variables.ConditionVariable", // 9002
+        "objects.ExclusiveLimitStateMachine", // 9318
+        "objects.ExclusiveLimitAlarm", // 9341
+        "objects.ExclusiveLevelAlarm", // 9482
+        "objects.ExclusiveRateOfChangeAlarm", // 9623
+        "objects.ExclusiveDeviationAlarm", // 9764
+        "objects.NonExclusiveLimitAlarm", // 9906
+        "objects.NonExclusiveLevelAlarm", // 10060
+        "objects.NonExclusiveRateOfChangeAlarm", // 10214
+        "objects.NonExclusiveDeviationAlarm", // 10368
+        "objects.DiscreteAlarm", // 10523
+        "objects.OffNormalAlarm", // 10637
+        "objects.TripAlarm", // 10751
+        "objects.AuditConditionShelvingEvent", // 11093
+        "objects.BaseConditionClass", // 11163
+        "objects.ProcessConditionClass", // 11164
+        "objects.MaintenanceConditionClass", // 11165
+        "objects.SystemConditionClass", // 11166
+        "objects.AggregateConfiguration", // 11187
+        "variables.MultiStateValueDiscrete", // 11238
+        "objects.ProgressEvent", // 11436
+        "objects.SystemStatusChangeEvent", // 11446
+        "variables.OptionSet", // 11487
+        "objects.OperationLimits", // 11564
+        "objects.File", // 11575
+        "objects.AddressSpaceFile", // 11595
+        "objects.NamespaceMetadata", // 11616
+        "objects.Namespaces", // 11645
+        "objects.SystemOffNormalAlarm", // 11753
+        "objects.AuditProgramTransitionEvent", // 11856
+        "objects.NonTransparentNetworkRedundancy", // 11945
+        "variables.ArrayItem", // 12021
+        "variables.YArrayItem", // 12029
+        "variables.XYArrayItem", // 12038
+        "variables.ImageItem", // 12047
+        "variables.CubeItem", // 12057
+        "variables.NDimensionArrayItem", // 12068
+        "objects.TrustList", // 12522
+        "objects.CertificateGroup", // 12555
+        "objects.Certificate", // 12556
+        "objects.ApplicationCertificate", // 12557
+        "objects.HttpsCertificate", // 12558
+        "objects.RsaMinApplicationCertificate", // 12559
+        "objects.RsaSha256ApplicationCertificate", // 12560
+        "objects.TrustListUpdatedAuditEvent", // 12561
+        "objects.ServerConfiguration", // 12581
+        "objects.CertificateUpdatedAuditEvent", // 12620
+        "objects.CertificateExpirationAlarm", // 13225
+        "objects.FileDirectory", // 13353
+        "objects.CertificateGroupFolder", // 13813
+    };
+
     public static void initialize(TypeRegistry typeRegistry) {
-        registerObjects(typeRegistry);
-        registerVariables(typeRegistry);
+        typeRegistry.setTypeResolver(TypeRegistryInitializer::resolve);
     }
 
-    private static void registerObjects(TypeRegistry typeRegistry) {
-        typeRegistry.registerType(
-            Identifiers.BaseObjectType,
-            BaseObjectType.class,
-            BaseObjectNode.class,
-            BaseObjectNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.FolderType,
-            FolderType.class,
-            FolderNode.class,
-            FolderNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DataTypeSystemType,
-            DataTypeSystemType.class,
-            DataTypeSystemNode.class,
-            DataTypeSystemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DataTypeEncodingType,
-            DataTypeEncodingType.class,
-            DataTypeEncodingNode.class,
-            DataTypeEncodingNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ModellingRuleType,
-            ModellingRuleType.class,
-            ModellingRuleNode.class,
-            ModellingRuleNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TrustListType,
-            TrustListType.class,
-            TrustListNode.class,
-            TrustListNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.CertificateGroupType,
-            CertificateGroupType.class,
-            CertificateGroupNode.class,
-            CertificateGroupNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.CertificateType,
-            CertificateType.class,
-            CertificateNode.class,
-            CertificateNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ApplicationCertificateType,
-            ApplicationCertificateType.class,
-            ApplicationCertificateNode.class,
-            ApplicationCertificateNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.HttpsCertificateType,
-            HttpsCertificateType.class,
-            HttpsCertificateNode.class,
-            HttpsCertificateNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.RsaMinApplicationCertificateType,
-            RsaMinApplicationCertificateType.class,
-            RsaMinApplicationCertificateNode.class,
-            RsaMinApplicationCertificateNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.RsaSha256ApplicationCertificateType,
-            RsaSha256ApplicationCertificateType.class,
-            RsaSha256ApplicationCertificateNode.class,
-            RsaSha256ApplicationCertificateNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TrustListUpdatedAuditEventType,
-            TrustListUpdatedAuditEventType.class,
-            TrustListUpdatedAuditEventNode.class,
-            TrustListUpdatedAuditEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerConfigurationType,
-            ServerConfigurationType.class,
-            ServerConfigurationNode.class,
-            ServerConfigurationNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.CertificateUpdatedAuditEventType,
-            CertificateUpdatedAuditEventType.class,
-            CertificateUpdatedAuditEventNode.class,
-            CertificateUpdatedAuditEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditConditionRespondEventType,
-            AuditConditionRespondEventType.class,
-            AuditConditionRespondEventNode.class,
-            AuditConditionRespondEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditConditionAcknowledgeEventType,
-            AuditConditionAcknowledgeEventType.class,
-            AuditConditionAcknowledgeEventNode.class,
-            AuditConditionAcknowledgeEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditConditionConfirmEventType,
-            AuditConditionConfirmEventType.class,
-            AuditConditionConfirmEventNode.class,
-            AuditConditionConfirmEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.CertificateExpirationAlarmType,
-            CertificateExpirationAlarmType.class,
-            CertificateExpirationAlarmNode.class,
-            CertificateExpirationAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.FileDirectoryType,
-            FileDirectoryType.class,
-            FileDirectoryNode.class,
-            FileDirectoryNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ExclusiveLimitStateMachineType,
-            ExclusiveLimitStateMachineType.class,
-            ExclusiveLimitStateMachineNode.class,
-            ExclusiveLimitStateMachineNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ExclusiveLimitAlarmType,
-            ExclusiveLimitAlarmType.class,
-            ExclusiveLimitAlarmNode.class,
-            ExclusiveLimitAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ExclusiveLevelAlarmType,
-            ExclusiveLevelAlarmType.class,
-            ExclusiveLevelAlarmNode.class,
-            ExclusiveLevelAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ExclusiveRateOfChangeAlarmType,
-            ExclusiveRateOfChangeAlarmType.class,
-            ExclusiveRateOfChangeAlarmNode.class,
-            ExclusiveRateOfChangeAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.CertificateGroupFolderType,
-            CertificateGroupFolderType.class,
-            CertificateGroupFolderNode.class,
-            CertificateGroupFolderNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ExclusiveDeviationAlarmType,
-            ExclusiveDeviationAlarmType.class,
-            ExclusiveDeviationAlarmNode.class,
-            ExclusiveDeviationAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NonExclusiveLimitAlarmType,
-            NonExclusiveLimitAlarmType.class,
-            NonExclusiveLimitAlarmNode.class,
-            NonExclusiveLimitAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NonExclusiveLevelAlarmType,
-            NonExclusiveLevelAlarmType.class,
-            NonExclusiveLevelAlarmNode.class,
-            NonExclusiveLevelAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerType,
-            ServerType.class,
-            ServerNode.class,
-            ServerNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerCapabilitiesType,
-            ServerCapabilitiesType.class,
-            ServerCapabilitiesNode.class,
-            ServerCapabilitiesNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerDiagnosticsType,
-            ServerDiagnosticsType.class,
-            ServerDiagnosticsNode.class,
-            ServerDiagnosticsNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NonExclusiveRateOfChangeAlarmType,
-            NonExclusiveRateOfChangeAlarmType.class,
-            NonExclusiveRateOfChangeAlarmNode.class,
-            NonExclusiveRateOfChangeAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SessionsDiagnosticsSummaryType,
-            SessionsDiagnosticsSummaryType.class,
-            SessionsDiagnosticsSummaryNode.class,
-            SessionsDiagnosticsSummaryNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SessionDiagnosticsObjectType,
-            SessionDiagnosticsObjectType.class,
-            SessionDiagnosticsObjectNode.class,
-            SessionDiagnosticsObjectNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.VendorServerInfoType,
-            VendorServerInfoType.class,
-            VendorServerInfoNode.class,
-            VendorServerInfoNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerRedundancyType,
-            ServerRedundancyType.class,
-            ServerRedundancyNode.class,
-            ServerRedundancyNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TransparentRedundancyType,
-            TransparentRedundancyType.class,
-            TransparentRedundancyNode.class,
-            TransparentRedundancyNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NonTransparentRedundancyType,
-            NonTransparentRedundancyType.class,
-            NonTransparentRedundancyNode.class,
-            NonTransparentRedundancyNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.BaseEventType,
-            BaseEventType.class,
-            BaseEventNode.class,
-            BaseEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditEventType,
-            AuditEventType.class,
-            AuditEventNode.class,
-            AuditEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditSecurityEventType,
-            AuditSecurityEventType.class,
-            AuditSecurityEventNode.class,
-            AuditSecurityEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditChannelEventType,
-            AuditChannelEventType.class,
-            AuditChannelEventNode.class,
-            AuditChannelEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditOpenSecureChannelEventType,
-            AuditOpenSecureChannelEventType.class,
-            AuditOpenSecureChannelEventNode.class,
-            AuditOpenSecureChannelEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditSessionEventType,
-            AuditSessionEventType.class,
-            AuditSessionEventNode.class,
-            AuditSessionEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCreateSessionEventType,
-            AuditCreateSessionEventType.class,
-            AuditCreateSessionEventNode.class,
-            AuditCreateSessionEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditActivateSessionEventType,
-            AuditActivateSessionEventType.class,
-            AuditActivateSessionEventNode.class,
-            AuditActivateSessionEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCancelEventType,
-            AuditCancelEventType.class,
-            AuditCancelEventNode.class,
-            AuditCancelEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCertificateEventType,
-            AuditCertificateEventType.class,
-            AuditCertificateEventNode.class,
-            AuditCertificateEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCertificateDataMismatchEventType,
-            AuditCertificateDataMismatchEventType.class,
-            AuditCertificateDataMismatchEventNode.class,
-            AuditCertificateDataMismatchEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCertificateExpiredEventType,
-            AuditCertificateExpiredEventType.class,
-            AuditCertificateExpiredEventNode.class,
-            AuditCertificateExpiredEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCertificateInvalidEventType,
-            AuditCertificateInvalidEventType.class,
-            AuditCertificateInvalidEventNode.class,
-            AuditCertificateInvalidEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCertificateUntrustedEventType,
-            AuditCertificateUntrustedEventType.class,
-            AuditCertificateUntrustedEventNode.class,
-            AuditCertificateUntrustedEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCertificateRevokedEventType,
-            AuditCertificateRevokedEventType.class,
-            AuditCertificateRevokedEventNode.class,
-            AuditCertificateRevokedEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditCertificateMismatchEventType,
-            AuditCertificateMismatchEventType.class,
-            AuditCertificateMismatchEventNode.class,
-            AuditCertificateMismatchEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditNodeManagementEventType,
-            AuditNodeManagementEventType.class,
-            AuditNodeManagementEventNode.class,
-            AuditNodeManagementEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditAddNodesEventType,
-            AuditAddNodesEventType.class,
-            AuditAddNodesEventNode.class,
-            AuditAddNodesEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditDeleteNodesEventType,
-            AuditDeleteNodesEventType.class,
-            AuditDeleteNodesEventNode.class,
-            AuditDeleteNodesEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditAddReferencesEventType,
-            AuditAddReferencesEventType.class,
-            AuditAddReferencesEventNode.class,
-            AuditAddReferencesEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditDeleteReferencesEventType,
-            AuditDeleteReferencesEventType.class,
-            AuditDeleteReferencesEventNode.class,
-            AuditDeleteReferencesEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditUpdateEventType,
-            AuditUpdateEventType.class,
-            AuditUpdateEventNode.class,
-            AuditUpdateEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditWriteUpdateEventType,
-            AuditWriteUpdateEventType.class,
-            AuditWriteUpdateEventNode.class,
-            AuditWriteUpdateEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditHistoryUpdateEventType,
-            AuditHistoryUpdateEventType.class,
-            AuditHistoryUpdateEventNode.class,
-            AuditHistoryUpdateEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditUpdateMethodEventType,
-            AuditUpdateMethodEventType.class,
-            AuditUpdateMethodEventNode.class,
-            AuditUpdateMethodEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SystemEventType,
-            SystemEventType.class,
-            SystemEventNode.class,
-            SystemEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DeviceFailureEventType,
-            DeviceFailureEventType.class,
-            DeviceFailureEventNode.class,
-            DeviceFailureEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.BaseModelChangeEventType,
-            BaseModelChangeEventType.class,
-            BaseModelChangeEventNode.class,
-            BaseModelChangeEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.GeneralModelChangeEventType,
-            GeneralModelChangeEventType.class,
-            GeneralModelChangeEventNode.class,
-            GeneralModelChangeEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NonExclusiveDeviationAlarmType,
-            NonExclusiveDeviationAlarmType.class,
-            NonExclusiveDeviationAlarmNode.class,
-            NonExclusiveDeviationAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.StateMachineType,
-            StateMachineType.class,
-            StateMachineNode.class,
-            StateMachineNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.StateType,
-            StateType.class,
-            StateNode.class,
-            StateNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.InitialStateType,
-            InitialStateType.class,
-            InitialStateNode.class,
-            InitialStateNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TransitionType,
-            TransitionType.class,
-            TransitionNode.class,
-            TransitionNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TransitionEventType,
-            TransitionEventType.class,
-            TransitionEventNode.class,
-            TransitionEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditUpdateStateEventType,
-            AuditUpdateStateEventType.class,
-            AuditUpdateStateEventNode.class,
-            AuditUpdateStateEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.HistoricalDataConfigurationType,
-            HistoricalDataConfigurationType.class,
-            HistoricalDataConfigurationNode.class,
-            HistoricalDataConfigurationNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.HistoryServerCapabilitiesType,
-            HistoryServerCapabilitiesType.class,
-            HistoryServerCapabilitiesNode.class,
-            HistoryServerCapabilitiesNode::new
-        );
+    private static boolean resolve(NodeId typeDefinition, TypeRegistry typeRegistry) {
+        if (typeDefinition.getType() == IdType.Numeric && typeDefinition.getNamespaceIndex().intValue() == 0) {
+            long id = typeDefinition.getNumericIdentifier();
+            int index = id <= Integer.MAX_VALUE ? Arrays.binarySearch(TYPE_DEFINITION_IDS, (int) id) : -1;
 
-        typeRegistry.registerType(
-            Identifiers.DiscreteAlarmType,
-            DiscreteAlarmType.class,
-            DiscreteAlarmNode.class,
-            DiscreteAlarmNode::new
-        );
+            if (index >= 0) {
+                register(typeRegistry, typeDefinition, TYPES[index]);
+                return true;
+            }
+        }
 
-        typeRegistry.registerType(
-            Identifiers.AggregateFunctionType,
-            AggregateFunctionType.class,
-            AggregateFunctionNode.class,
-            AggregateFunctionNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ProgramTransitionEventType,
-            ProgramTransitionEventType.class,
-            ProgramTransitionEventNode.class,
-            ProgramTransitionEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ProgramStateMachineType,
-            ProgramStateMachineType.class,
-            ProgramStateMachineNode.class,
-            ProgramStateMachineNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.OffNormalAlarmType,
-            OffNormalAlarmType.class,
-            OffNormalAlarmNode.class,
-            OffNormalAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TripAlarmType,
-            TripAlarmType.class,
-            TripAlarmNode.class,
-            TripAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SemanticChangeEventType,
-            SemanticChangeEventType.class,
-            SemanticChangeEventNode.class,
-            SemanticChangeEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditUrlMismatchEventType,
-            AuditUrlMismatchEventType.class,
-            AuditUrlMismatchEventNode.class,
-            AuditUrlMismatchEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.FiniteStateMachineType,
-            FiniteStateMachineType.class,
-            FiniteStateMachineNode.class,
-            FiniteStateMachineNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ConditionType,
-            ConditionType.class,
-            ConditionNode.class,
-            ConditionNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.RefreshStartEventType,
-            RefreshStartEventType.class,
-            RefreshStartEventNode.class,
-            RefreshStartEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.RefreshEndEventType,
-            RefreshEndEventType.class,
-            RefreshEndEventNode.class,
-            RefreshEndEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.RefreshRequiredEventType,
-            RefreshRequiredEventType.class,
-            RefreshRequiredEventNode.class,
-            RefreshRequiredEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditConditionEventType,
-            AuditConditionEventType.class,
-            AuditConditionEventNode.class,
-            AuditConditionEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditConditionEnableEventType,
-            AuditConditionEnableEventType.class,
-            AuditConditionEnableEventNode.class,
-            AuditConditionEnableEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditConditionCommentEventType,
-            AuditConditionCommentEventType.class,
-            AuditConditionCommentEventNode.class,
-            AuditConditionCommentEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DialogConditionType,
-            DialogConditionType.class,
-            DialogConditionNode.class,
-            DialogConditionNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AcknowledgeableConditionType,
-            AcknowledgeableConditionType.class,
-            AcknowledgeableConditionNode.class,
-            AcknowledgeableConditionNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditConditionShelvingEventType,
-            AuditConditionShelvingEventType.class,
-            AuditConditionShelvingEventNode.class,
-            AuditConditionShelvingEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AlarmConditionType,
-            AlarmConditionType.class,
-            AlarmConditionNode.class,
-            AlarmConditionNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ShelvedStateMachineType,
-            ShelvedStateMachineType.class,
-            ShelvedStateMachineNode.class,
-            ShelvedStateMachineNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.LimitAlarmType,
-            LimitAlarmType.class,
-            LimitAlarmNode.class,
-            LimitAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.BaseConditionClassType,
-            BaseConditionClassType.class,
-            BaseConditionClassNode.class,
-            BaseConditionClassNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ProcessConditionClassType,
-            ProcessConditionClassType.class,
-            ProcessConditionClassNode.class,
-            ProcessConditionClassNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.MaintenanceConditionClassType,
-            MaintenanceConditionClassType.class,
-            MaintenanceConditionClassNode.class,
-            MaintenanceConditionClassNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SystemConditionClassType,
-            SystemConditionClassType.class,
-            SystemConditionClassNode.class,
-            SystemConditionClassNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AggregateConfigurationType,
-            AggregateConfigurationType.class,
-            AggregateConfigurationNode.class,
-            AggregateConfigurationNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditHistoryEventUpdateEventType,
-            AuditHistoryEventUpdateEventType.class,
-            AuditHistoryEventUpdateEventNode.class,
-            AuditHistoryEventUpdateEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditHistoryValueUpdateEventType,
-            AuditHistoryValueUpdateEventType.class,
-            AuditHistoryValueUpdateEventNode.class,
-            AuditHistoryValueUpdateEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditHistoryDeleteEventType,
-            AuditHistoryDeleteEventType.class,
-            AuditHistoryDeleteEventNode.class,
-            AuditHistoryDeleteEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditHistoryRawModifyDeleteEventType,
-            AuditHistoryRawModifyDeleteEventType.class,
-            AuditHistoryRawModifyDeleteEventNode.class,
-            AuditHistoryRawModifyDeleteEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditHistoryAtTimeDeleteEventType,
-            AuditHistoryAtTimeDeleteEventType.class,
-            AuditHistoryAtTimeDeleteEventNode.class,
-            AuditHistoryAtTimeDeleteEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditHistoryEventDeleteEventType,
-            AuditHistoryEventDeleteEventType.class,
-            AuditHistoryEventDeleteEventNode.class,
-            AuditHistoryEventDeleteEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.EventQueueOverflowEventType,
-            EventQueueOverflowEventType.class,
-            EventQueueOverflowEventNode.class,
-            EventQueueOverflowEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ProgressEventType,
-            ProgressEventType.class,
-            ProgressEventNode.class,
-            ProgressEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SystemStatusChangeEventType,
-            SystemStatusChangeEventType.class,
-            SystemStatusChangeEventNode.class,
-            SystemStatusChangeEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.OperationLimitsType,
-            OperationLimitsType.class,
-            OperationLimitsNode.class,
-            OperationLimitsNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.FileType,
-            FileType.class,
-            FileNode.class,
-            FileNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AddressSpaceFileType,
-            AddressSpaceFileType.class,
-            AddressSpaceFileNode.class,
-            AddressSpaceFileNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NamespaceMetadataType,
-            NamespaceMetadataType.class,
-            NamespaceMetadataNode.class,
-            NamespaceMetadataNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NamespacesType,
-            NamespacesType.class,
-            NamespacesNode.class,
-            NamespacesNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SystemOffNormalAlarmType,
-            SystemOffNormalAlarmType.class,
-            SystemOffNormalAlarmNode.class,
-            SystemOffNormalAlarmNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AuditProgramTransitionEventType,
-            AuditProgramTransitionEventType.class,
-            AuditProgramTransitionEventNode.class,
-            AuditProgramTransitionEventNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NonTransparentNetworkRedundancyType,
-            NonTransparentNetworkRedundancyType.class,
-            NonTransparentNetworkRedundancyNode.class,
-            NonTransparentNetworkRedundancyNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ProgramTransitionAuditEventType,
-            ProgramTransitionAuditEventType.class,
-            ProgramTransitionAuditEventNode.class,
-            ProgramTransitionAuditEventNode::new
-        );
+        return false;
     }
 
-    private static void registerVariables(TypeRegistry typeRegistry) {
-        typeRegistry.registerType(
-            Identifiers.BaseVariableType,
-            BaseVariableType.class,
-            BaseVariableNode.class,
-            BaseVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.BaseDataVariableType,
-            BaseDataVariableType.class,
-            BaseDataVariableNode.class,
-            BaseDataVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.PropertyType,
-            PropertyType.class,
-            PropertyNode.class,
-            PropertyNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DataTypeDescriptionType,
-            DataTypeDescriptionType.class,
-            DataTypeDescriptionNode.class,
-            DataTypeDescriptionNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DataTypeDictionaryType,
-            DataTypeDictionaryType.class,
-            DataTypeDictionaryNode.class,
-            DataTypeDictionaryNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TwoStateVariableType,
-            TwoStateVariableType.class,
-            TwoStateVariableNode.class,
-            TwoStateVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ConditionVariableType,
-            ConditionVariableType.class,
-            ConditionVariableNode.class,
-            ConditionVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerVendorCapabilityType,
-            ServerVendorCapabilityType.class,
-            ServerVendorCapabilityNode.class,
-            ServerVendorCapabilityNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerStatusType,
-            ServerStatusType.class,
-            ServerStatusNode.class,
-            ServerStatusNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ServerDiagnosticsSummaryType,
-            ServerDiagnosticsSummaryType.class,
-            ServerDiagnosticsSummaryNode.class,
-            ServerDiagnosticsSummaryNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SamplingIntervalDiagnosticsArrayType,
-            SamplingIntervalDiagnosticsArrayType.class,
-            SamplingIntervalDiagnosticsArrayNode.class,
-            SamplingIntervalDiagnosticsArrayNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SamplingIntervalDiagnosticsType,
-            SamplingIntervalDiagnosticsType.class,
-            SamplingIntervalDiagnosticsNode.class,
-            SamplingIntervalDiagnosticsNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SubscriptionDiagnosticsArrayType,
-            SubscriptionDiagnosticsArrayType.class,
-            SubscriptionDiagnosticsArrayNode.class,
-            SubscriptionDiagnosticsArrayNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SubscriptionDiagnosticsType,
-            SubscriptionDiagnosticsType.class,
-            SubscriptionDiagnosticsNode.class,
-            SubscriptionDiagnosticsNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SessionDiagnosticsArrayType,
-            SessionDiagnosticsArrayType.class,
-            SessionDiagnosticsArrayNode.class,
-            SessionDiagnosticsArrayNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SessionDiagnosticsVariableType,
-            SessionDiagnosticsVariableType.class,
-            SessionDiagnosticsVariableNode.class,
-            SessionDiagnosticsVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SessionSecurityDiagnosticsArrayType,
-            SessionSecurityDiagnosticsArrayType.class,
-            SessionSecurityDiagnosticsArrayNode.class,
-            SessionSecurityDiagnosticsArrayNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.SessionSecurityDiagnosticsType,
-            SessionSecurityDiagnosticsType.class,
-            SessionSecurityDiagnosticsNode.class,
-            SessionSecurityDiagnosticsNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DataItemType,
-            DataItemType.class,
-            DataItemNode.class,
-            DataItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.AnalogItemType,
-            AnalogItemType.class,
-            AnalogItemNode.class,
-            AnalogItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.DiscreteItemType,
-            DiscreteItemType.class,
-            DiscreteItemNode.class,
-            DiscreteItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TwoStateDiscreteType,
-            TwoStateDiscreteType.class,
-            TwoStateDiscreteNode.class,
-            TwoStateDiscreteNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.MultiStateDiscreteType,
-            MultiStateDiscreteType.class,
-            MultiStateDiscreteNode.class,
-            MultiStateDiscreteNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ProgramDiagnosticType,
-            ProgramDiagnosticType.class,
-            ProgramDiagnosticNode.class,
-            ProgramDiagnosticNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.StateVariableType,
-            StateVariableType.class,
-            StateVariableNode.class,
-            StateVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.FiniteStateVariableType,
-            FiniteStateVariableType.class,
-            FiniteStateVariableNode.class,
-            FiniteStateVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.TransitionVariableType,
-            TransitionVariableType.class,
-            TransitionVariableNode.class,
-            TransitionVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.FiniteTransitionVariableType,
-            FiniteTransitionVariableType.class,
-            FiniteTransitionVariableNode.class,
-            FiniteTransitionVariableNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.MultiStateValueDiscreteType,
-            MultiStateValueDiscreteType.class,
-            MultiStateValueDiscreteNode.class,
-            MultiStateValueDiscreteNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.BuildInfoType,
-            BuildInfoType.class,
-            BuildInfoNode.class,
-            BuildInfoNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.OptionSetType,
-            OptionSetType.class,
-            OptionSetNode.class,
-            OptionSetNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ArrayItemType,
-            ArrayItemType.class,
-            ArrayItemNode.class,
-            ArrayItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.YArrayItemType,
-            YArrayItemType.class,
-            YArrayItemNode.class,
-            YArrayItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.XYArrayItemType,
-            XYArrayItemType.class,
-            XYArrayItemNode.class,
-            XYArrayItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.ImageItemType,
-            ImageItemType.class,
-            ImageItemNode.class,
-            ImageItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.CubeItemType,
-            CubeItemType.class,
-            CubeItemNode.class,
-            CubeItemNode::new
-        );
-
-        typeRegistry.registerType(
-            Identifiers.NDimensionArrayItemType,
-            NDimensionArrayItemType.class,
-            NDimensionArrayItemNode.class,
-            NDimensionArrayItemNode::new
-        );
+    private static void register(TypeRegistry typeRegistry, NodeId typeDefinition, String type) {
+        ClassLoader classLoader = TypeRegistryInitializer.class.getClassLoader();
+
+        try {
+            Class<? extends Node> typeClass =
+                Class.forName(TYPES_PACKAGE + type + "Type", true, classLoader).asSubclass(Node.class);
+
+            Class<? extends UaNode> nodeClass =
+                Class.forName(NODES_PACKAGE + type + "Node", true, classLoader).asSubclass(UaNode.class);
+
+            Constructor<? extends UaNode> constructor = nodeClass.getConstructor(OpcUaClient.class, NodeId.class);
+
+            typeRegistry.registerType(
+                typeDefinition,
+                typeClass,
+                nodeClass,
+                (client, nodeId) -> {
+                    try {
+                        return constructor.newInstance(client, nodeId);
+                    } catch (ReflectiveOperationException e) {
+                        throw new UaRuntimeException(e);
+                    }
+                }
+            );
+        } catch (ReflectiveOperationException e) {
+            throw new UaRuntimeException(e);
+        }
     }
 
 }
@@ -25,6 +25,7 @@ import com.google.common.collect.Maps;
 import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
 import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
 import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -118,7 +119,7 @@ public class OpcUaSubscription implements UaSubscription {
                     result.getStatusCode(),
                     result.getRevisedSamplingInterval(),
                     result.getRevisedQueueSize(),
-                    result.getFilterResult(),
+                    detached(result.getFilterResult()),
                     request.getMonitoringMode(),
                     request.getRequestedParameters().getFilter()
                 );
@@ -187,7 +188,7 @@ public class OpcUaSubscription implements UaSubscription {
                     item.setStatusCode(statusCode);
                     item.setRevisedSamplingInterval(result.getRevisedSamplingInterval());
                     item.setRevisedQueueSize(result.getRevisedQueueSize());
-                    item.setFilterResult(result.getFilterResult());
+                    item.setFilterResult(detached(result.getFilterResult()));
 
                     item.setRequestedSamplingInterval(request.getRequestedParameters().getSamplingInterval());
                     item.setRequestedQueueSize(request.getRequestedParameters().getQueueSize());
@@ -388,4 +389,12 @@ public class OpcUaSubscription implements UaSubscription {
         this.lastSequenceNumber = lastSequenceNumber;
     }
 
+    /**
+     * Items keep their filter result for as long as they exist, so it must not keep its receive buffer allocated when
+     * the client retains {@link ExtensionObject} bodies.
+     */
+    private static ExtensionObject detached(ExtensionObject filterResult) {
+        return filterResult != null ? filterResult.detachBody() : null;
+    }
+
 }
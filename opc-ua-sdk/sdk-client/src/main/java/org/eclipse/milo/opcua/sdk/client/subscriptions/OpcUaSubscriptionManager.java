@@ -150,7 +150,7 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
             subscription.setRequestedLifetimeCount(requestedLifetimeCount);
             subscription.setRequestedMaxKeepAliveCount(requestedMaxKeepAliveCount);
 
-            subscriptions.put(subscription.getSubscriptionId(), subscription);
+            addSubscription(subscription);
 
             maybeSendPublishRequests();
 
@@ -365,7 +365,7 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
                 logger.debug("Received PublishResponse, sequenceNumber={}",
                     response.getNotificationMessage().getSequenceNumber());
 
-                processingQueue.submit(() -> onPublishComplete(response));
+                onPublishResponse(response);
 
                 maybeSendPublishRequests();
             } else {
@@ -391,6 +391,16 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
         });
     }
 
+    void addSubscription(OpcUaSubscription subscription) {
+        subscriptions.put(subscription.getSubscriptionId(), subscription);
+    }
+
+    void onPublishResponse(PublishResponse response) {
+        decodeNotificationData(response.getNotificationMessage());
+
+        processingQueue.submit(() -> onPublishComplete(response));
+    }
+
     private void onPublishComplete(PublishResponse response) {
         logger.debug("onPublishComplete() response for subscriptionId={}", response.getSubscriptionId());
 
@@ -503,6 +513,8 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
         NotificationMessage notificationMessage = response.getNotificationMessage();
         UInteger sequenceNumber = notificationMessage.getSequenceNumber();
 
+        decodeNotificationData(notificationMessage);
+
         if (!sequenceNumber.equals(expectedSequenceNumber)) {
             throw new UaException(StatusCodes.Bad_SequenceNumberInvalid,
                 "expected sequence=" + expectedSequenceNumber + ", received sequence=" + sequenceNumber);
@@ -511,6 +523,32 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
         onNotificationMessage(subscriptionId, notificationMessage);
     }
 
+    /**
+     * Decode the notification data of a received {@link NotificationMessage} right away.
+     * <p>
+     * When the client retains {@link ExtensionObject} bodies each one keeps the buffer it was received in allocated
+     * until it's decoded. Decoding on receipt, rather than when processing and delivery get to the message, releases
+     * them even if the message then waits behind others or the notification semaphore, waits for delivery to be
+     * resumed, or is dropped because its subscription is gone. Bodies that fail to decode are released too.
+     *
+     * @param notificationMessage the received {@link NotificationMessage}.
+     */
+    private void decodeNotificationData(NotificationMessage notificationMessage) {
+        ExtensionObject[] notificationData = notificationMessage.getNotificationData();
+
+        if (notificationData == null) return;
+
+        for (ExtensionObject xo : notificationData) {
+            try {
+                xo.decode();
+            } catch (Throwable t) {
+                logger.warn("Error decoding notification data, encodingTypeId={}", xo.getEncodingTypeId(), t);
+            } finally {
+                xo.releaseBody();
+            }
+        }
+    }
+
     private void onNotificationMessage(UInteger subscriptionId, NotificationMessage notificationMessage) {
         DateTime publishTime = notificationMessage.getPublishTime();
 
@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -42,6 +43,7 @@ import org.eclipse.milo.opcua.sdk.server.namespaces.OpcUaNamespace;
 import org.eclipse.milo.opcua.sdk.server.namespaces.VendorNamespace;
 import org.eclipse.milo.opcua.sdk.server.services.helpers.BrowseHelper.BrowseContinuationPoint;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
+import org.eclipse.milo.opcua.sdk.server.util.ShardedTimer;
 import org.eclipse.milo.opcua.stack.core.BuiltinReferenceType;
 import org.eclipse.milo.opcua.stack.core.ReferenceType;
 import org.eclipse.milo.opcua.stack.core.Stack;
@@ -98,6 +100,7 @@ public class OpcUaServer {
     private final VendorNamespace vendorNamespace;
 
     private final OpcUaServerConfig config;
+    private final ShardedTimer timer;
 
     public OpcUaServer(OpcUaServerConfig config) {
         this.config = config;
@@ -162,6 +165,13 @@ public class OpcUaServer {
 
         eventBus = new AsyncEventBus("server", stackServer.getExecutorService());
 
+        timer = new ShardedTimer(
+            config.getTimerShardCount(),
+            config.getTimerTickMillis(),
+            TimeUnit.MILLISECONDS,
+            stackServer.getExecutorService()
+        );
+
         logger.info("eclipse milo opc-ua stack version: {}", Stack.VERSION);
         logger.info("eclipse milo opc-ua sdk version: {}", SDK_VERSION);
     }
@@ -171,7 +181,11 @@ public class OpcUaServer {
     }
 
     public CompletableFuture<OpcUaServer> shutdown() {
-        return stackServer.shutdown().thenApply(ignored -> OpcUaServer.this);
+        return stackServer.shutdown().thenApply(ignored -> {
+            timer.stop();
+
+            return OpcUaServer.this;
+        });
     }
 
     private static String endpointUrl(String hostname, int port, String serverName) {
@@ -236,6 +250,13 @@ public class OpcUaServer {
         return Stack.sharedScheduledExecutor();
     }
 
+    /**
+     * @return the {@link ShardedTimer} subscription publishing and session timeouts are scheduled on.
+     */
+    public ShardedTimer getTimer() {
+        return timer;
+    }
+
     public ChannelConfig getChannelConfig() {
         return stackServer.getChannelConfig();
     }
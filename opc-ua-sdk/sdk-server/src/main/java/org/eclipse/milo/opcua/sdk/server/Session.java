@@ -15,11 +15,11 @@ package org.eclipse.milo.opcua.sdk.server;
 
 import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
 import com.google.common.collect.Lists;
+import io.netty.util.Timeout;
 import org.eclipse.milo.opcua.sdk.server.services.AttributeHistoryServices;
 import org.eclipse.milo.opcua.sdk.server.services.AttributeServices;
 import org.eclipse.milo.opcua.sdk.server.services.MethodServices;
@@ -65,7 +65,7 @@ public class Session implements SessionServiceSet {
     private volatile ByteString lastNonce = ByteString.NULL_VALUE;
 
     private volatile long lastActivity = System.nanoTime();
-    private volatile ScheduledFuture<?> checkTimeoutFuture;
+    private volatile Timeout checkTimeoutFuture;
 
     private final AttributeServices attributeServices;
     private final AttributeHistoryServices attributeHistoryServices;
@@ -104,8 +104,8 @@ public class Session implements SessionServiceSet {
         subscriptionServices = new SubscriptionServices(subscriptionManager);
         viewServices = new ViewServices();
 
-        checkTimeoutFuture = server.getScheduledExecutorService().schedule(
-            this::checkTimeout, sessionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        checkTimeoutFuture = server.getTimer().schedule(
+            sessionId, this::checkTimeout, sessionTimeout.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     public long getSecureChannelId() {
@@ -164,8 +164,8 @@ public class Session implements SessionServiceSet {
             logger.trace("Session id={} timeout scheduled for +{}s.",
                 sessionId, Duration.ofNanos(remaining).getSeconds());
 
-            checkTimeoutFuture = server.getScheduledExecutorService()
-                .schedule(this::checkTimeout, remaining, TimeUnit.NANOSECONDS);
+            checkTimeoutFuture = server.getTimer()
+                .schedule(sessionId, this::checkTimeout, remaining, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -239,7 +239,7 @@ public class Session implements SessionServiceSet {
 
     void close(boolean deleteSubscriptions) {
         if (checkTimeoutFuture != null) {
-            checkTimeoutFuture.cancel(false);
+            checkTimeoutFuture.cancel();
         }
 
         subscriptionManager.sessionClosed(deleteSubscriptions);
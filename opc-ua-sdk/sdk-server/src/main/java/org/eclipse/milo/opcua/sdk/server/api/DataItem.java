@@ -13,6 +13,7 @@
 
 package org.eclipse.milo.opcua.sdk.server.api;
 
+import org.eclipse.milo.opcua.sdk.server.util.DataChangeMonitoringFilter;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 
@@ -25,6 +26,16 @@ public interface DataItem extends MonitoredItem {
      */
     void setValue(DataValue value);
 
+    /**
+     * Set the latest value, reusing the outcome of filtering it from {@code results} where possible.
+     *
+     * @param value   the latest value.
+     * @param results the {@link DataChangeMonitoringFilter.Results} of other items this value was set on.
+     */
+    default void setValue(DataValue value, DataChangeMonitoringFilter.Results results) {
+        setValue(value);
+    }
+
     /**
      * Apply a new {@link StatusCode} to the last value that passed the filter and then set the derived value.
      *
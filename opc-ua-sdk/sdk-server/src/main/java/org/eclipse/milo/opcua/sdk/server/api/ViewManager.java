@@ -27,9 +27,6 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
-import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
-
-import static java.util.stream.Collectors.toList;
 
 public interface ViewManager {
 
@@ -40,12 +37,8 @@ public interface ViewManager {
 
         OpcUaServer server = context.getServer();
 
-        List<CompletableFuture<BrowseResult>> futures = nodesToBrowse.stream()
-            .map(browseDescription ->
-                BrowseHelper.browse(context, server, view, maxReferencesPerNode, browseDescription))
-            .collect(toList());
-
-        FutureUtils.sequence(futures).thenAccept(context::complete);
+        BrowseHelper.browse(context, server, view, maxReferencesPerNode, nodesToBrowse)
+            .thenAccept(context::complete);
     }
 
     /**
@@ -113,6 +113,17 @@ public interface OpcUaServerConfig extends UaTcpStackServerConfig {
      */
     Function<String, Set<String>> getHostnameResolver();
 
+    /**
+     * @return the number of wheels the server's subscription and session timers are spread across.
+     * @see org.eclipse.milo.opcua.sdk.server.util.ShardedTimer
+     */
+    int getTimerShardCount();
+
+    /**
+     * @return the tick duration, in milliseconds, of the server's timer wheels; timers expire at most this late.
+     */
+    long getTimerTickMillis();
+
     /**
      * @return a {@link OpcUaServerConfigBuilder}.
      */
@@ -143,6 +154,10 @@ public interface OpcUaServerConfig extends UaTcpStackServerConfig {
         builder.setSoftwareCertificates(config.getSoftwareCertificates());
         builder.setChannelConfig(config.getChannelConfig());
         builder.setStrictEndpointUrlsEnabled(config.isStrictEndpointUrlsEnabled());
+        builder.setResponseFlushMaxDelayMicros(config.getResponseFlushMaxDelayMicros());
+        builder.setResponseFlushMaxBytes(config.getResponseFlushMaxBytes());
+        builder.setInterningCacheSize(config.getInterningCacheSize());
+        builder.setStreamingDecodeEnabled(config.isStreamingDecodeEnabled());
 
         // OpcUaServerConfig values
         builder.setSecurityPolicies(config.getSecurityPolicies());
@@ -153,6 +168,8 @@ public interface OpcUaServerConfig extends UaTcpStackServerConfig {
         builder.setBuildInfo(config.getBuildInfo());
         builder.setLimits(config.getLimits());
         builder.setHostnameResolver(config.getHostnameResolver());
+        builder.setTimerShardCount(config.getTimerShardCount());
+        builder.setTimerTickMillis(config.getTimerTickMillis());
 
         return builder;
     }
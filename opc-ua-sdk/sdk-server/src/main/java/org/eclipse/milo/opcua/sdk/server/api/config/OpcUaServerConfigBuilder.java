@@ -56,6 +56,9 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
         new OpcUaServerConfigLimits() {
         };
 
+    private int timerShardCount = Runtime.getRuntime().availableProcessors();
+    private long timerTickMillis = 10L;
+
     public OpcUaServerConfigBuilder setHostname(String hostname) {
         this.hostname = hostname;
         return this;
@@ -96,6 +99,16 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
         return this;
     }
 
+    public OpcUaServerConfigBuilder setTimerShardCount(int timerShardCount) {
+        this.timerShardCount = timerShardCount;
+        return this;
+    }
+
+    public OpcUaServerConfigBuilder setTimerTickMillis(long timerTickMillis) {
+        this.timerTickMillis = timerTickMillis;
+        return this;
+    }
+
     @Override
     public OpcUaServerConfigBuilder setServerName(String serverName) {
         super.setServerName(serverName);
@@ -162,6 +175,30 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaServerConfigBuilder setResponseFlushMaxDelayMicros(long responseFlushMaxDelayMicros) {
+        super.setResponseFlushMaxDelayMicros(responseFlushMaxDelayMicros);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setResponseFlushMaxBytes(int responseFlushMaxBytes) {
+        super.setResponseFlushMaxBytes(responseFlushMaxBytes);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setInterningCacheSize(int interningCacheSize) {
+        super.setInterningCacheSize(interningCacheSize);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setStreamingDecodeEnabled(boolean streamingDecodeEnabled) {
+        super.setStreamingDecodeEnabled(streamingDecodeEnabled);
+        return this;
+    }
+
     public OpcUaServerConfig build() {
         UaTcpStackServerConfig stackServerConfig = super.build();
 
@@ -174,7 +211,9 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
             identityValidator,
             buildInfo,
             limits,
-            hostnameResolver
+            hostnameResolver,
+            timerShardCount,
+            timerTickMillis
         );
     }
 
@@ -199,6 +238,8 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
         private final BuildInfo buildInfo;
         private final OpcUaServerConfigLimits limits;
         private final Function<String, Set<String>> hostnameResolver;
+        private final int timerShardCount;
+        private final long timerTickMillis;
 
         public OpcUaServerConfigImpl(UaTcpStackServerConfig stackServerConfig,
                                      String hostname,
@@ -208,7 +249,9 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
                                      IdentityValidator identityValidator,
                                      BuildInfo buildInfo,
                                      OpcUaServerConfigLimits limits,
-                                     Function<String, Set<String>> hostnameResolver) {
+                                     Function<String, Set<String>> hostnameResolver,
+                                     int timerShardCount,
+                                     long timerTickMillis) {
 
             this.stackServerConfig = stackServerConfig;
 
@@ -220,6 +263,8 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
             this.buildInfo = buildInfo;
             this.limits = limits;
             this.hostnameResolver = hostnameResolver;
+            this.timerShardCount = timerShardCount;
+            this.timerTickMillis = timerTickMillis;
         }
 
         @Override
@@ -312,11 +357,41 @@ public class OpcUaServerConfigBuilder extends UaTcpStackServerConfigBuilder {
             return stackServerConfig.isStrictEndpointUrlsEnabled();
         }
 
+        @Override
+        public long getResponseFlushMaxDelayMicros() {
+            return stackServerConfig.getResponseFlushMaxDelayMicros();
+        }
+
+        @Override
+        public int getResponseFlushMaxBytes() {
+            return stackServerConfig.getResponseFlushMaxBytes();
+        }
+
+        @Override
+        public int getInterningCacheSize() {
+            return stackServerConfig.getInterningCacheSize();
+        }
+
+        @Override
+        public boolean isStreamingDecodeEnabled() {
+            return stackServerConfig.isStreamingDecodeEnabled();
+        }
+
         @Override
         public Function<String, Set<String>> getHostnameResolver() {
             return hostnameResolver;
         }
 
+        @Override
+        public int getTimerShardCount() {
+            return timerShardCount;
+        }
+
+        @Override
+        public long getTimerTickMillis() {
+            return timerTickMillis;
+        }
+
     }
 
 }
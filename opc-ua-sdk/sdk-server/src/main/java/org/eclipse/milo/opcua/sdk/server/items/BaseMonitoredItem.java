@@ -16,6 +16,8 @@ package org.eclipse.milo.opcua.sdk.server.items;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import com.google.common.primitives.Ints;
 import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
@@ -35,6 +37,9 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
     protected volatile Map<UInteger, BaseMonitoredItem<?>> triggeredItems;
     protected volatile boolean triggered = false;
 
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile Consumer<BaseMonitoredItem<?>> dirtyListener;
+
     protected volatile RingBuffer<T> queue;
 
     protected volatile long clientHandle;
@@ -97,6 +102,49 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
         return queueIsEmpty;
     }
 
+    /**
+     * Set the listener notified when this item may have become ready to report, i.e. it queued a value, was
+     * triggered, or had its monitoring mode changed.
+     * <p>
+     * The listener is notified once, then not again until {@link #clearDirty()} is called. It is notified
+     * immediately when set so that anything that happened before it was set is not missed.
+     *
+     * @param dirtyListener the listener to notify.
+     */
+    public void setDirtyListener(Consumer<BaseMonitoredItem<?>> dirtyListener) {
+        this.dirtyListener = dirtyListener;
+
+        dirty.set(true);
+        dirtyListener.accept(this);
+    }
+
+    /**
+     * Clear the dirty flag so the dirty listener is notified of the next change.
+     * <p>
+     * Call this before checking {@link #hasNotifications()} or {@link #isTriggered()} so a change that happens
+     * concurrently with the check is not missed.
+     */
+    public void clearDirty() {
+        dirty.set(false);
+    }
+
+    protected void markDirty() {
+        Consumer<BaseMonitoredItem<?>> listener = dirtyListener;
+
+        if (listener != null && dirty.compareAndSet(false, true)) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Mark this item as triggered by an item it is linked to.
+     */
+    protected void trigger() {
+        triggered = true;
+
+        markDirty();
+    }
+
     public synchronized boolean hasNotifications() {
         return (queue.size() > 0 && monitoringMode == MonitoringMode.Reporting);
     }
@@ -135,6 +183,8 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
         if (monitoringMode == MonitoringMode.Disabled) {
             queue.clear();
         }
+
+        markDirty();
     }
 
     @Override
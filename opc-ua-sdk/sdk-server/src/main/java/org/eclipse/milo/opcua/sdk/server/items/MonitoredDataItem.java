@@ -71,13 +71,25 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
     public synchronized void setValue(DataValue value) {
         boolean valuePassesFilter = DataChangeMonitoringFilter.filter(lastValue, value, filter);
 
+        setFilteredValue(value, valuePassesFilter);
+    }
+
+    @Override
+    public synchronized void setValue(DataValue value, DataChangeMonitoringFilter.Results results) {
+        boolean valuePassesFilter = results.filter(lastValue, value, filter);
+
+        setFilteredValue(value, valuePassesFilter);
+    }
+
+    private void setFilteredValue(DataValue value, boolean valuePassesFilter) {
         if (valuePassesFilter) {
             lastValue = value;
 
             enqueue(value);
+            markDirty();
 
             if (triggeredItems != null) {
-                triggeredItems.values().forEach(item -> item.triggered = true);
+                triggeredItems.values().forEach(BaseMonitoredItem::trigger);
             }
         }
     }
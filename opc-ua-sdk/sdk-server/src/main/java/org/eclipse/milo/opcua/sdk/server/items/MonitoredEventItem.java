@@ -62,6 +62,7 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
         };
 
         enqueue(variants);
+        markDirty();
     }
 
     @Override
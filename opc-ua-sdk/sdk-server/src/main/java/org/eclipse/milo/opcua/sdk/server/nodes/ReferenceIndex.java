@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.server.nodes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+
+/**
+ * The references of a {@link UaNode}, in the order they were added and indexed by reference type and direction.
+ * <p>
+ * Adding a reference is an append to two lists rather than a copy of every reference. Not thread safe; {@link UaNode}
+ * guards it with its own lock and caches the list of all references between changes.
+ */
+final class ReferenceIndex {
+
+    private final List<Reference> references = new ArrayList<>();
+
+    private final Map<NodeId, List<Reference>> forward = new HashMap<>();
+    private final Map<NodeId, List<Reference>> inverse = new HashMap<>();
+
+    void add(Reference reference) {
+        references.add(reference);
+
+        index(reference.isForward()).computeIfAbsent(reference.getReferenceTypeId(), k -> new ArrayList<>())
+            .add(reference);
+    }
+
+    /**
+     * @return {@code true} if {@code reference} was present and has been removed.
+     */
+    boolean remove(Reference reference) {
+        Map<NodeId, List<Reference>> index = index(reference.isForward());
+        List<Reference> group = index.get(reference.getReferenceTypeId());
+
+        if (group != null && group.remove(reference)) {
+            if (group.isEmpty()) {
+                index.remove(reference.getReferenceTypeId());
+            }
+
+            references.remove(reference);
+
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @return all references, in the order they were added.
+     */
+    ImmutableList<Reference> getReferences() {
+        return ImmutableList.copyOf(references);
+    }
+
+    /**
+     * @param referenceTypeId the exact reference type to match; subtypes are not included.
+     * @param forward         {@code true} for forward references, {@code false} for inverse references.
+     * @return the references of type {@code referenceTypeId} in the given direction, in the order they were added.
+     */
+    ImmutableList<Reference> getReferences(NodeId referenceTypeId, boolean forward) {
+        List<Reference> group = index(forward).get(referenceTypeId);
+
+        return group != null ? ImmutableList.copyOf(group) : ImmutableList.of();
+    }
+
+    private Map<NodeId, List<Reference>> index(boolean forward) {
+        return forward ? this.forward : inverse;
+    }
+
+}
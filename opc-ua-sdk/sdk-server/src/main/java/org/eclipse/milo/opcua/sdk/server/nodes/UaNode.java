@@ -19,7 +19,6 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -58,7 +57,12 @@ public abstract class UaNode implements ServerNode {
 
     private final AtomicInteger refCount = new AtomicInteger(0);
 
-    private final List<Reference> references = new CopyOnWriteArrayList<>();
+    private final ReferenceIndex references = new ReferenceIndex();
+
+    /**
+     * The last list returned by {@link #getReferences()}; cleared whenever a reference is added or removed.
+     */
+    private volatile ImmutableList<Reference> referencesSnapshot = ImmutableList.of();
 
     private final AtomicReference<AttributeDelegate> attributeDelegate =
         new AtomicReference<>(DEFAULT_ATTRIBUTE_DELEGATE);
@@ -204,11 +208,31 @@ public abstract class UaNode implements ServerNode {
     }
 
     public ImmutableList<Reference> getReferences() {
-        return ImmutableList.copyOf(references);
+        ImmutableList<Reference> snapshot = referencesSnapshot;
+
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = referencesSnapshot = references.getReferences();
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Get the references of one type and direction without going through all of this node's references.
+     *
+     * @param referenceTypeId the {@link NodeId} of the reference type; subtypes are not included.
+     * @param forward         {@code true} for forward references, {@code false} for inverse references.
+     * @return the matching references, in the order they were added.
+     */
+    public synchronized ImmutableList<Reference> getReferences(NodeId referenceTypeId, boolean forward) {
+        return references.getReferences(referenceTypeId, forward);
     }
 
     public synchronized void addReference(Reference reference) {
         references.add(reference);
+        referencesSnapshot = null;
 
         if (reference.isInverse()) {
             int count = refCount.incrementAndGet();
@@ -226,6 +250,7 @@ public abstract class UaNode implements ServerNode {
 
     public synchronized void removeReference(Reference reference) {
         references.remove(reference);
+        referencesSnapshot = null;
 
         if (reference.isInverse()) {
             int count = refCount.decrementAndGet();
@@ -314,8 +339,7 @@ public abstract class UaNode implements ServerNode {
     }
 
     public Optional<VariableNode> getPropertyNode(QualifiedName browseName) {
-        Node node = references.stream()
-            .filter(Reference.HAS_PROPERTY_PREDICATE)
+        Node node = getReferences(Identifiers.HasProperty, true).stream()
             .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
             .filter(n -> n.getBrowseName().equals(browseName))
             .findFirst().orElse(null);
@@ -368,8 +392,8 @@ public abstract class UaNode implements ServerNode {
     }
 
     protected Optional<ObjectNode> getObjectComponent(QualifiedName browseName) {
-        ObjectNode node = (ObjectNode) references.stream()
-            .filter(Reference.HAS_COMPONENT_PREDICATE.and(r -> r.getTargetNodeClass() == NodeClass.Object))
+        ObjectNode node = (ObjectNode) getReferences(Identifiers.HasComponent, true).stream()
+            .filter(r -> r.getTargetNodeClass() == NodeClass.Object)
             .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
             .filter(n -> n.getBrowseName().equals(browseName))
             .findFirst().orElse(null);
@@ -382,8 +406,8 @@ public abstract class UaNode implements ServerNode {
     }
 
     protected Optional<VariableNode> getVariableComponent(QualifiedName browseName) {
-        VariableNode node = (VariableNode) references.stream()
-            .filter(Reference.HAS_COMPONENT_PREDICATE.and(r -> r.getTargetNodeClass() == NodeClass.Variable))
+        VariableNode node = (VariableNode) getReferences(Identifiers.HasComponent, true).stream()
+            .filter(r -> r.getTargetNodeClass() == NodeClass.Variable)
             .flatMap(r -> opt2stream(getNode(r.getTargetNodeId())))
             .filter(n -> n.getBrowseName().equals(browseName))
             .findFirst().orElse(null);
@@ -443,6 +467,13 @@ public abstract class UaNode implements ServerNode {
         this.attributeDelegate.set(attributeDelegate);
     }
 
+    /**
+     * @return the {@link AttributeDelegate} for this node; {@link AttributeDelegate#DEFAULT} unless one has been set.
+     */
+    public AttributeDelegate getAttributeDelegate() {
+        return attributeDelegate.get();
+    }
+
     @Override
     public DataValue getAttribute(AttributeContext context, AttributeId attributeId) {
         return attributeDelegate.get().getAttribute(context, this, attributeId);
@@ -16,9 +16,14 @@ package org.eclipse.milo.opcua.sdk.server.services.helpers;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.primitives.Ints;
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.server.DiagnosticsContext;
@@ -30,6 +35,7 @@ import org.eclipse.milo.opcua.sdk.server.api.Namespace;
 import org.eclipse.milo.opcua.sdk.server.services.ServiceAttributes;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.ReferenceType;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.application.services.ServiceRequest;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
@@ -41,6 +47,7 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseResultMask;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
@@ -54,7 +61,6 @@ import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.NonceUtil;
-import org.jooq.lambda.tuple.Tuple3;
 
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.milo.opcua.sdk.server.util.UaEnumUtil.browseResultMasks;
@@ -96,11 +102,31 @@ public class BrowseHelper {
         UInteger maxReferencesPerNode,
         BrowseDescription browseDescription) {
 
+        return browse(context, server, view, maxReferencesPerNode, Collections.singletonList(browseDescription))
+            .thenApply(results -> results.get(0));
+    }
+
+    /**
+     * Browse several nodes at once.
+     * <p>
+     * The attributes of the targets of every {@link BrowseDescription} are resolved together: one read per namespace
+     * for the BrowseName, DisplayName and NodeClass of each distinct target, limited to the attributes the result
+     * masks ask for, and a TypeDefinition lookup per distinct target only if a result mask asks for it.
+     *
+     * @return a future completed with a {@link BrowseResult} for each of {@code browseDescriptions}, in order.
+     */
+    public static CompletableFuture<List<BrowseResult>> browse(
+        AccessContext context,
+        OpcUaServer server,
+        ViewDescription view,
+        UInteger maxReferencesPerNode,
+        List<BrowseDescription> browseDescriptions) {
+
         Browse browse = new Browse(
             context,
             server,
             maxReferencesPerNode,
-            browseDescription
+            browseDescriptions
         );
 
         server.getExecutorService().execute(browse);
@@ -110,63 +136,98 @@ public class BrowseHelper {
 
     private static class Browse implements Runnable {
 
-        private final CompletableFuture<BrowseResult> future = new CompletableFuture<>();
+        private final CompletableFuture<List<BrowseResult>> future = new CompletableFuture<>();
 
         private final AccessContext context;
         private final OpcUaServer server;
         private final UInteger maxReferencesPerNode;
-        private final BrowseDescription browseDescription;
+        private final List<BrowseDescription> browseDescriptions;
 
         private Browse(AccessContext context,
                        OpcUaServer server,
                        UInteger maxReferencesPerNode,
-                       BrowseDescription browseDescription) {
+                       List<BrowseDescription> browseDescriptions) {
 
             this.context = context;
-            this.browseDescription = browseDescription;
+            this.browseDescriptions = browseDescriptions;
             this.maxReferencesPerNode = maxReferencesPerNode;
             this.server = server;
         }
 
-        public CompletableFuture<BrowseResult> getFuture() {
+        public CompletableFuture<List<BrowseResult>> getFuture() {
             return future;
         }
 
         @Override
         public void run() {
             NamespaceManager namespaceManager = server.getNamespaceManager();
-            Namespace namespace = namespaceManager.getNamespace(browseDescription.getNodeId().getNamespaceIndex());
 
-            CompletableFuture<List<Reference>> referencesFuture =
-                namespace.browse(context, browseDescription.getNodeId());
+            List<CompletableFuture<List<Reference>>> referencesFutures = browseDescriptions.stream()
+                .map(browseDescription -> {
+                    Namespace namespace =
+                        namespaceManager.getNamespace(browseDescription.getNodeId().getNamespaceIndex());
+
+                    // A node that can't be browsed yields null references, and NODE_ID_UNKNOWN_RESULT below.
+                    return namespace.browse(context, browseDescription.getNodeId())
+                        .handle((references, ex) -> references);
+                })
+                .collect(toList());
+
+            FutureUtils.sequence(referencesFutures).thenAccept(this::browse);
+        }
+
+        private void browse(List<List<Reference>> referencesLists) {
+            Targets targets = new Targets();
+
+            List<List<Reference>> filtered = Lists.newArrayListWithCapacity(browseDescriptions.size());
+
+            for (int i = 0; i < browseDescriptions.size(); i++) {
+                BrowseDescription browseDescription = browseDescriptions.get(i);
+                List<Reference> references = referencesLists.get(i);
 
-            referencesFuture.whenComplete((references, ex) -> {
                 if (references != null) {
-                    browse(references).whenComplete((result, ex2) -> {
-                        if (result != null) future.complete(result);
-                        else future.complete(NODE_ID_UNKNOWN_RESULT);
-                    });
-                } else {
-                    future.complete(NODE_ID_UNKNOWN_RESULT);
+                    EnumSet<BrowseResultMask> masks = browseResultMasks(browseDescription.getResultMask().longValue());
+                    Set<NodeId> referenceTypeIds = referenceTypeIds(browseDescription);
+
+                    references = references.stream()
+                        .filter(r -> directionFilter(browseDescription, r))
+                        .filter(r -> referenceTypeIds == null || referenceTypeIds.contains(r.getReferenceTypeId()))
+                        .filter(r -> nodeClassFilter(browseDescription, r))
+                        .distinct()
+                        .collect(toList());
+
+                    references.forEach(r -> r.getTargetNodeId().local().ifPresent(id -> targets.add(id, masks)));
                 }
-            });
-        }
 
-        private CompletableFuture<BrowseResult> browse(List<Reference> references) {
-            List<CompletableFuture<ReferenceDescription>> fs = references.stream()
-                .filter(this::directionFilter)
-                .filter(this::referenceTypeFilter)
-                .filter(this::nodeClassFilter)
-                .distinct()
-                .map(this::referenceDescription)
-                .collect(toList());
+                filtered.add(references);
+            }
 
-            return FutureUtils.sequence(fs).thenApply(referenceDescriptions -> {
+            targets.resolve().thenAccept(v -> {
                 int max = maxReferencesPerNode.longValue() == 0 ?
                     Integer.MAX_VALUE :
                     Ints.saturatedCast(maxReferencesPerNode.longValue());
 
-                return browseResult(referenceDescriptions, max);
+                List<BrowseResult> results = Lists.newArrayListWithCapacity(browseDescriptions.size());
+
+                for (int i = 0; i < browseDescriptions.size(); i++) {
+                    BrowseDescription browseDescription = browseDescriptions.get(i);
+                    List<Reference> references = filtered.get(i);
+
+                    if (references != null) {
+                        EnumSet<BrowseResultMask> masks =
+                            browseResultMasks(browseDescription.getResultMask().longValue());
+
+                        List<ReferenceDescription> referenceDescriptions = references.stream()
+                            .map(r -> referenceDescription(r, masks, targets))
+                            .collect(toList());
+
+                        results.add(browseResult(referenceDescriptions, max));
+                    } else {
+                        results.add(NODE_ID_UNKNOWN_RESULT);
+                    }
+                }
+
+                future.complete(results);
             });
         }
 
@@ -193,7 +254,7 @@ public class BrowseHelper {
             }
         }
 
-        private boolean directionFilter(Reference reference) {
+        private boolean directionFilter(BrowseDescription browseDescription, Reference reference) {
             switch (browseDescription.getBrowseDirection()) {
                 case Forward:
                     return reference.isForward();
@@ -205,17 +266,52 @@ public class BrowseHelper {
             }
         }
 
-        private boolean referenceTypeFilter(Reference reference) {
+        /**
+         * @return the reference types {@code browseDescription} matches, including subtypes if requested, or
+         * {@code null} if it matches any reference type.
+         */
+        @Nullable
+        private Set<NodeId> referenceTypeIds(BrowseDescription browseDescription) {
             NodeId referenceTypeId = browseDescription.getReferenceTypeId();
 
-            boolean includeAny = referenceTypeId == null || referenceTypeId.isNull();
-            boolean includeSubtypes = browseDescription.getIncludeSubtypes();
+            if (referenceTypeId == null || referenceTypeId.isNull()) return null;
 
-            return includeAny || reference.getReferenceTypeId().equals(referenceTypeId) ||
-                (includeSubtypes && reference.subtypeOf(referenceTypeId, server.getReferenceTypes()));
+            Set<NodeId> referenceTypeIds = Sets.newHashSet(referenceTypeId);
+
+            if (browseDescription.getIncludeSubtypes()) {
+                Map<NodeId, ReferenceType> referenceTypes = server.getReferenceTypes();
+
+                for (ReferenceType referenceType : referenceTypes.values()) {
+                    if (isSubtype(referenceType, referenceTypeId, referenceTypes)) {
+                        referenceTypeIds.add(referenceType.getNodeId());
+                    }
+                }
+            }
+
+            return referenceTypeIds;
         }
 
-        private boolean nodeClassFilter(Reference reference) {
+        private boolean isSubtype(
+            ReferenceType referenceType,
+            NodeId superTypeId,
+            Map<NodeId, ReferenceType> referenceTypes) {
+
+            // Bounded by the number of reference types in case the hierarchy contains a cycle.
+            for (int i = 0; i < referenceTypes.size(); i++) {
+                NodeId parentId = referenceType.getSuperTypeId().orElse(null);
+
+                if (parentId == null) return false;
+                if (parentId.equals(superTypeId)) return true;
+
+                referenceType = referenceTypes.get(parentId);
+
+                if (referenceType == null) return false;
+            }
+
+            return false;
+        }
+
+        private boolean nodeClassFilter(BrowseDescription browseDescription, Reference reference) {
             long mask = browseDescription.getNodeClassMask().longValue();
 
             EnumSet<NodeClass> nodeClasses = (mask == 0L) ?
@@ -224,83 +320,142 @@ public class BrowseHelper {
             return nodeClasses.contains(reference.getTargetNodeClass());
         }
 
-        private CompletableFuture<ReferenceDescription> referenceDescription(Reference reference) {
-            EnumSet<BrowseResultMask> masks = browseResultMasks(browseDescription.getResultMask().longValue());
+        private ReferenceDescription referenceDescription(
+            Reference reference,
+            EnumSet<BrowseResultMask> masks,
+            Targets targets) {
 
             ExpandedNodeId targetNodeId = reference.getTargetNodeId();
 
             NodeId referenceTypeId = masks.contains(BrowseResultMask.ReferenceTypeId) ?
                 reference.getReferenceTypeId() : NodeId.NULL_VALUE;
 
-            return targetNodeId.local().map(nodeId -> {
-                CompletableFuture<BrowseAttributes> af = browseAttributes(nodeId, masks);
-
-                return af.thenCombine(getTypeDefinition(nodeId), (as, typeDefinition) ->
-                    new ReferenceDescription(
-                        referenceTypeId,
-                        reference.isForward(),
-                        targetNodeId,
-                        as.getBrowseName(),
-                        as.getDisplayName(),
-                        as.getNodeClass(),
-                        typeDefinition));
-            }).orElse(
-                CompletableFuture.completedFuture(new ReferenceDescription(
+            Target target = targetNodeId.local().map(targets::get).orElse(null);
+
+            if (target != null) {
+                QualifiedName browseName = masks.contains(BrowseResultMask.BrowseName) ?
+                    target.browseName : QualifiedName.NULL_VALUE;
+
+                LocalizedText displayName = masks.contains(BrowseResultMask.DisplayName) ?
+                    target.displayName : LocalizedText.NULL_VALUE;
+
+                NodeClass nodeClass = masks.contains(BrowseResultMask.NodeClass) ?
+                    target.nodeClass : NodeClass.Unspecified;
+
+                ExpandedNodeId typeDefinition = masks.contains(BrowseResultMask.TypeDefinition) ?
+                    target.typeDefinition : ExpandedNodeId.NULL_VALUE;
+
+                return new ReferenceDescription(
+                    referenceTypeId,
+                    reference.isForward(),
+                    targetNodeId,
+                    browseName,
+                    displayName,
+                    nodeClass,
+                    typeDefinition);
+            } else {
+                return new ReferenceDescription(
                     referenceTypeId, reference.isForward(), targetNodeId,
                     QualifiedName.NULL_VALUE, LocalizedText.NULL_VALUE,
-                    NodeClass.Unspecified, ExpandedNodeId.NULL_VALUE))
-            );
+                    NodeClass.Unspecified, ExpandedNodeId.NULL_VALUE);
+            }
         }
 
-        private CompletableFuture<BrowseAttributes> browseAttributes(NodeId nodeId, EnumSet<BrowseResultMask> masks) {
-            List<ReadValueId> readValueIds = Lists.newArrayList();
+        /**
+         * The distinct local targets of every reference being described, grouped by namespace.
+         */
+        private class Targets {
 
-            readValueIds.add(new ReadValueId(nodeId, AttributeId.BrowseName.uid(), null, QualifiedName.NULL_VALUE));
-            readValueIds.add(new ReadValueId(nodeId, AttributeId.DisplayName.uid(), null, QualifiedName.NULL_VALUE));
-            readValueIds.add(new ReadValueId(nodeId, AttributeId.NodeClass.uid(), null, QualifiedName.NULL_VALUE));
+            private final Map<UShort, Map<NodeId, Target>> targets = Maps.newLinkedHashMap();
 
-            CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
+            private final EnumSet<AttributeId> attributes = EnumSet.noneOf(AttributeId.class);
 
-            ReadContext context = new ReadContext(
-                server, null, future,
-                new DiagnosticsContext<>());
+            private void add(NodeId nodeId, EnumSet<BrowseResultMask> masks) {
+                Target target = targets
+                    .computeIfAbsent(nodeId.getNamespaceIndex(), k -> Maps.newLinkedHashMap())
+                    .computeIfAbsent(nodeId, Target::new);
 
-            server.getNamespaceManager().getNamespace(nodeId.getNamespaceIndex()).read(
-                context, 0.0, TimestampsToReturn.Neither, readValueIds);
+                if (masks.contains(BrowseResultMask.BrowseName)) attributes.add(AttributeId.BrowseName);
+                if (masks.contains(BrowseResultMask.DisplayName)) attributes.add(AttributeId.DisplayName);
+                if (masks.contains(BrowseResultMask.NodeClass)) attributes.add(AttributeId.NodeClass);
+
+                target.typeDefinitionRequested |= masks.contains(BrowseResultMask.TypeDefinition);
+            }
 
-            return future.thenApply(values -> {
-                QualifiedName browseName = QualifiedName.NULL_VALUE;
-                LocalizedText displayName = LocalizedText.NULL_VALUE;
-                NodeClass nodeClass = NodeClass.Unspecified;
+            @Nullable
+            private Target get(NodeId nodeId) {
+                Map<NodeId, Target> ts = targets.get(nodeId.getNamespaceIndex());
 
-                if (masks.contains(BrowseResultMask.BrowseName)) {
-                    DataValue value0 = values.get(0);
-                    if (value0.getStatusCode().isGood()) {
-                        browseName = (QualifiedName) value0.getValue().getValue();
+                return ts != null ? ts.get(nodeId) : null;
+            }
+
+            /**
+             * Read the requested attributes of every target, with one read per namespace, and look up the requested
+             * type definitions. The returned future does not fail; targets that could not be resolved keep their
+             * defaults.
+             */
+            private CompletableFuture<Void> resolve() {
+                List<CompletableFuture<?>> futures = Lists.newArrayList();
+
+                targets.forEach((namespaceIndex, ts) -> {
+                    Namespace namespace = server.getNamespaceManager().getNamespace(namespaceIndex);
+
+                    // Failures are recovered per lookup, leaving the affected targets at their defaults, so that
+                    // one unknown target doesn't fail the other descriptions being browsed.
+                    if (!attributes.isEmpty()) {
+                        futures.add(readAttributes(namespace, Lists.newArrayList(ts.values()))
+                            .exceptionally(ex -> null));
                     }
-                }
 
-                if (masks.contains(BrowseResultMask.DisplayName)) {
-                    DataValue value1 = values.get(1);
-                    if (value1.getStatusCode().isGood()) {
-                        displayName = (LocalizedText) value1.getValue().getValue();
+                    for (Target target : ts.values()) {
+                        if (target.typeDefinitionRequested) {
+                            futures.add(getTypeDefinition(namespace, target.nodeId)
+                                .exceptionally(ex -> ExpandedNodeId.NULL_VALUE)
+                                .thenAccept(typeDefinition -> target.typeDefinition = typeDefinition));
+                        }
                     }
-                }
+                });
 
-                if (masks.contains(BrowseResultMask.NodeClass)) {
-                    DataValue value2 = values.get(2);
-                    if (value2.getStatusCode().isGood()) {
-                        nodeClass = (NodeClass) value2.getValue().getValue();
+                return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+            }
+
+            private CompletableFuture<Void> readAttributes(Namespace namespace, List<Target> ts) {
+                List<AttributeId> attributeIds = Lists.newArrayList(attributes);
+                List<ReadValueId> readValueIds = Lists.newArrayListWithCapacity(ts.size() * attributeIds.size());
+
+                for (Target target : ts) {
+                    for (AttributeId attributeId : attributeIds) {
+                        readValueIds.add(new ReadValueId(
+                            target.nodeId, attributeId.uid(), null, QualifiedName.NULL_VALUE));
                     }
                 }
 
-                return new BrowseAttributes(browseName, displayName, nodeClass);
-            });
-        }
+                CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
+
+                ReadContext context = new ReadContext(
+                    server, null, future,
+                    new DiagnosticsContext<>());
+
+                namespace.read(context, 0.0, TimestampsToReturn.Neither, readValueIds);
+
+                return future.thenAccept(values -> {
+                    for (int i = 0; i < ts.size(); i++) {
+                        Target target = ts.get(i);
+
+                        for (int j = 0; j < attributeIds.size(); j++) {
+                            DataValue value = values.get(i * attributeIds.size() + j);
 
-        private CompletableFuture<ExpandedNodeId> getTypeDefinition(NodeId nodeId) {
-            Namespace namespace = server.getNamespaceManager().getNamespace(nodeId.getNamespaceIndex());
+                            if (value.getStatusCode().isGood()) {
+                                target.setAttribute(attributeIds.get(j), value.getValue().getValue());
+                            }
+                        }
+                    }
+                });
+            }
 
+        }
+
+        private CompletableFuture<ExpandedNodeId> getTypeDefinition(Namespace namespace, NodeId nodeId) {
             return namespace.browse(context, nodeId).thenApply(references ->
                 references.stream()
                     .filter(r -> Identifiers.HasTypeDefinition.equals(r.getReferenceTypeId()))
@@ -420,22 +575,35 @@ public class BrowseHelper {
 
     }
 
-    private static class BrowseAttributes extends Tuple3<QualifiedName, LocalizedText, NodeClass> {
+    private static class Target {
 
-        private BrowseAttributes(QualifiedName browseName, LocalizedText displayName, NodeClass nodeClass) {
-            super(browseName, displayName, nodeClass);
-        }
+        private final NodeId nodeId;
 
-        private QualifiedName getBrowseName() {
-            return v1();
-        }
+        private QualifiedName browseName = QualifiedName.NULL_VALUE;
+        private LocalizedText displayName = LocalizedText.NULL_VALUE;
+        private NodeClass nodeClass = NodeClass.Unspecified;
+        private ExpandedNodeId typeDefinition = ExpandedNodeId.NULL_VALUE;
+
+        private boolean typeDefinitionRequested = false;
 
-        private LocalizedText getDisplayName() {
-            return v2();
+        private Target(NodeId nodeId) {
+            this.nodeId = nodeId;
         }
 
-        private NodeClass getNodeClass() {
-            return v3();
+        private void setAttribute(AttributeId attributeId, Object value) {
+            switch (attributeId) {
+                case BrowseName:
+                    browseName = (QualifiedName) value;
+                    break;
+                case DisplayName:
+                    displayName = (LocalizedText) value;
+                    break;
+                case NodeClass:
+                    nodeClass = (NodeClass) value;
+                    break;
+                default:
+                    break;
+            }
         }
 
     }
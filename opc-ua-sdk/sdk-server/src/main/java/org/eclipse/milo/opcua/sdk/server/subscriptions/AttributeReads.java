@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
+
+import com.google.common.collect.Maps;
+import org.eclipse.milo.opcua.sdk.server.DiagnosticsContext;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.AttributeManager.ReadContext;
+import org.eclipse.milo.opcua.sdk.server.api.Namespace;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * Collects the attribute reads needed to validate the items of one request so they can be made with a single
+ * {@link Namespace#read} per namespace instead of one per item.
+ */
+class AttributeReads {
+
+    private final Map<UShort, List<ReadValueId>> readValueIds = Maps.newLinkedHashMap();
+    private final Map<UShort, List<PendingRead>> pendingReads = Maps.newHashMap();
+
+    private final OpcUaServer server;
+    private final Session session;
+
+    AttributeReads(OpcUaServer server, @Nullable Session session) {
+        this.server = server;
+        this.session = session;
+    }
+
+    /**
+     * @param nodeId       the node to read.
+     * @param attributeIds the attributes to read.
+     * @return a future completed with the value of each of {@code attributeIds}, in order, once
+     * {@link #execute()} has been called and the read has completed.
+     */
+    CompletableFuture<List<DataValue>> read(NodeId nodeId, AttributeId... attributeIds) {
+        UShort namespaceIndex = nodeId.getNamespaceIndex();
+
+        List<ReadValueId> ids = readValueIds.computeIfAbsent(namespaceIndex, k -> newArrayList());
+        int fromIndex = ids.size();
+
+        for (AttributeId attributeId : attributeIds) {
+            ids.add(new ReadValueId(nodeId, attributeId.uid(), null, QualifiedName.NULL_VALUE));
+        }
+
+        PendingRead pendingRead = new PendingRead(fromIndex, ids.size());
+        pendingReads.computeIfAbsent(namespaceIndex, k -> newArrayList()).add(pendingRead);
+
+        return pendingRead.future;
+    }
+
+    /**
+     * Read everything requested so far, with one read per namespace.
+     * <p>
+     * If a namespace returns fewer values than were requested, the reads that did not get all of their values fail
+     * with Bad_InternalError rather than being left incomplete.
+     */
+    void execute() {
+        readValueIds.forEach((namespaceIndex, ids) -> {
+            Namespace namespace = server.getNamespaceManager().getNamespace(namespaceIndex);
+            List<PendingRead> pending = pendingReads.get(namespaceIndex);
+
+            CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
+
+            ReadContext readContext = new ReadContext(
+                server, session, future, new DiagnosticsContext<>());
+
+            future.whenComplete((values, ex) -> {
+                for (PendingRead p : pending) {
+                    if (values == null) {
+                        p.future.completeExceptionally(ex);
+                    } else if (values.size() < p.toIndex) {
+                        p.future.completeExceptionally(new UaException(
+                            StatusCodes.Bad_InternalError,
+                            String.format("namespace %s returned %d values, expected %d",
+                                namespaceIndex, values.size(), ids.size())));
+                    } else {
+                        p.future.complete(values.subList(p.fromIndex, p.toIndex));
+                    }
+                }
+            });
+
+            namespace.read(readContext, 0.0, TimestampsToReturn.Neither, ids);
+        });
+
+        readValueIds.clear();
+        pendingReads.clear();
+    }
+
+    private static class PendingRead {
+
+        private final CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
+
+        private final int fromIndex;
+        private final int toIndex;
+
+        private PendingRead(int fromIndex, int toIndex) {
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+    }
+
+}
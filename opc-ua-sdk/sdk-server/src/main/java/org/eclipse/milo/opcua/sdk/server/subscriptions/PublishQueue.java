@@ -13,12 +13,13 @@
 
 package org.eclipse.milo.opcua.sdk.server.subscriptions;
 
+import java.util.Comparator;
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.eclipse.milo.opcua.stack.core.application.services.ServiceRequest;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
@@ -32,7 +33,21 @@ public class PublishQueue {
 
     private final LinkedList<ServiceRequest<PublishRequest, PublishResponse>> serviceQueue = new LinkedList<>();
 
-    private final LinkedHashMap<UInteger, WaitingSubscription> waitList = new LinkedHashMap<>();
+    /**
+     * Wait-listed subscriptions, highest priority first and then longest waiting first.
+     */
+    private final PriorityQueue<WaitingSubscription> waitList = new PriorityQueue<>(
+        Comparator.comparingInt(WaitingSubscription::getPriority).reversed()
+            .thenComparingLong(w -> w.getWaitingSince().getTime())
+            .thenComparingLong(w -> w.sequence)
+    );
+
+    /**
+     * The wait-listed subscriptions by id, so a subscription is never wait-listed twice.
+     */
+    private final Map<UInteger, WaitingSubscription> waitListIndex = Maps.newHashMap();
+
+    private long waitListSequence = 0L;
 
     /**
      * Add a Publish {@link ServiceRequest} to the queue.
@@ -43,42 +58,19 @@ public class PublishQueue {
      * @param service the Publish {@link ServiceRequest}.
      */
     public synchronized void addRequest(ServiceRequest<PublishRequest, PublishResponse> service) {
-        List<WaitingSubscription> waitingSubscriptions = Lists.newArrayList(waitList.values());
+        WaitingSubscription subscription = waitList.poll();
 
-        if (waitingSubscriptions.isEmpty()) {
+        if (subscription == null) {
             serviceQueue.add(service);
 
             logger.debug("Queued PublishRequest, size={}", serviceQueue.size());
         } else {
-            WaitingSubscription subscription = null;
-
-            int maxPriority = 0;
-            long minWaitingSince = Long.MAX_VALUE;
-
-            for (WaitingSubscription waiting : waitingSubscriptions) {
-                int priority = waiting.getSubscription().getPriority();
-                long waitingSince = waiting.getWaitingSince().getTime();
-
-                if (priority > maxPriority) {
-                    maxPriority = priority;
-                    minWaitingSince = Long.MAX_VALUE;
-                }
-                if (priority >= maxPriority && waitingSince < minWaitingSince) {
-                    minWaitingSince = waitingSince;
-                    subscription = waiting;
-                }
-            }
+            waitListIndex.remove(subscription.subscription.getId());
 
-            if (subscription != null) {
-                waitList.remove(subscription.subscription.getId());
+            logger.debug("Delivering PublishRequest to Subscription [id={}]",
+                subscription.getSubscription().getId());
 
-                logger.debug("Delivering PublishRequest to Subscription [id={}]",
-                    subscription.getSubscription().getId());
-
-                subscription.subscription.onPublish(service);
-            } else {
-                serviceQueue.add(service);
-            }
+            subscription.subscription.onPublish(service);
         }
     }
 
@@ -93,13 +85,22 @@ public class PublishQueue {
      * b) The publishing timer of a Subscription expired and there were either Notifications to be sent or a keep-alive
      * Message to be sent.
      *
+     * The subscription's priority is captured when it is wait-listed.
+     *
      * @param subscription the subscription to wait-list.
      */
     public synchronized void addSubscription(Subscription subscription) {
         if (waitList.isEmpty() && !serviceQueue.isEmpty()) {
             subscription.onPublish(serviceQueue.poll());
         } else {
-            waitList.putIfAbsent(subscription.getId(), new WaitingSubscription(subscription));
+            UInteger id = subscription.getId();
+
+            if (!waitListIndex.containsKey(id)) {
+                WaitingSubscription waiting = new WaitingSubscription(subscription, waitListSequence++);
+
+                waitListIndex.put(id, waiting);
+                waitList.add(waiting);
+            }
         }
     }
 
@@ -120,9 +121,17 @@ public class PublishQueue {
         private final Date waitingSince = new Date();
 
         private final Subscription subscription;
+        private final int priority;
+        private final long sequence;
 
         public WaitingSubscription(Subscription subscription) {
+            this(subscription, 0L);
+        }
+
+        private WaitingSubscription(Subscription subscription, long sequence) {
             this.subscription = subscription;
+            this.priority = subscription.getPriority();
+            this.sequence = sequence;
         }
 
         public Subscription getSubscription() {
@@ -133,6 +142,13 @@ public class PublishQueue {
             return waitingSince;
         }
 
+        /**
+         * @return the priority of the subscription at the time it was wait-listed.
+         */
+        public int getPriority() {
+            return priority;
+        }
+
     }
 
 }
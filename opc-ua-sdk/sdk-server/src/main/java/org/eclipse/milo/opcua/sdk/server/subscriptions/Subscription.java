@@ -21,7 +21,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -75,6 +77,11 @@ public class Subscription {
     private final AtomicLong itemIds = new AtomicLong(1L);
     private final Map<UInteger, BaseMonitoredItem<?>> itemsById = Maps.newConcurrentMap();
 
+    /**
+     * Items that may have notifications to report, so publishing doesn't have to check every item.
+     */
+    private final Queue<BaseMonitoredItem<?>> dirtyItems = new ConcurrentLinkedQueue<>();
+
     private final AtomicReference<State> state = new AtomicReference<>(State.Normal);
     private final AtomicReference<StateListener> stateListener = new AtomicReference<>();
 
@@ -90,6 +97,12 @@ public class Subscription {
     private volatile long keepAliveCounter;
     private volatile long lifetimeCounter;
 
+    /**
+     * The {@link System#nanoTime()} the publishing timer was last scheduled to elapse at, or the creation time until it
+     * is first started. Only accessed while synchronized on 'this'.
+     */
+    private long publishingDeadline = System.nanoTime();
+
     private volatile double publishingInterval;
     private volatile long lifetimeCount;
     private volatile long maxKeepAliveCount;
@@ -161,6 +174,7 @@ public class Subscription {
     public synchronized void addMonitoredItems(List<BaseMonitoredItem<?>> createdItems) {
         for (BaseMonitoredItem<?> item : createdItems) {
             itemsById.put(item.getId(), item);
+            item.setDirtyListener(dirtyItems::add);
         }
 
         resetLifetimeCounter();
@@ -337,7 +351,7 @@ public class Subscription {
         NotificationMessage notificationMessage = new NotificationMessage(
             sequenceNumber,
             new DateTime(),
-            new ExtensionObject[]{ExtensionObject.encode(statusChange)}
+            new ExtensionObject[]{ExtensionObject.encodeLazily(statusChange)}
         );
 
         ResponseHeader header = service.createResponseHeader();
@@ -357,9 +371,15 @@ public class Subscription {
 
         lastIterator.forEachRemaining(items::add);
 
-        itemsById.values().stream()
-            .filter(item -> item.hasNotifications() || item.isTriggered())
-            .forEach(items::add);
+        BaseMonitoredItem<?> item;
+
+        while ((item = dirtyItems.poll()) != null) {
+            item.clearDirty();
+
+            if (isReportable(item)) {
+                items.add(item);
+            }
+        }
 
         PeekingIterator<BaseMonitoredItem<?>> iterator = Iterators.peekingIterator(items.iterator());
 
@@ -431,14 +451,14 @@ public class Subscription {
                 dataNotifications.toArray(new MonitoredItemNotification[dataNotifications.size()]),
                 new DiagnosticInfo[0]);
 
-            notificationData.add(ExtensionObject.encode(dataChange));
+            notificationData.add(ExtensionObject.encodeLazily(dataChange));
         }
 
         if (eventNotifications.size() > 0) {
             EventNotificationList eventChange = new EventNotificationList(
                 eventNotifications.toArray(new EventFieldList[eventNotifications.size()]));
 
-            notificationData.add(ExtensionObject.encode(eventChange));
+            notificationData.add(ExtensionObject.encodeLazily(eventChange));
         }
 
         UInteger sequenceNumber = uint(nextSequenceNumber());
@@ -470,8 +490,13 @@ public class Subscription {
     }
 
     private boolean notificationsAvailable() {
-        return itemsById.values().stream()
-            .anyMatch(item -> item.hasNotifications() || item.isTriggered());
+        // Items left over from a publish cut short by maxNotificationsPerPublish are no longer in dirtyItems.
+        return lastIterator.hasNext() || dirtyItems.stream().anyMatch(this::isReportable);
+    }
+
+    private boolean isReportable(BaseMonitoredItem<?> item) {
+        // Deleted items may linger in dirtyItems until the next publish drains it.
+        return itemsById.get(item.getId()) == item && (item.hasNotifications() || item.isTriggered());
     }
 
     private void setState(State state) {
@@ -600,12 +625,25 @@ public class Subscription {
 
             setState(State.Closing);
         } else {
-            long interval = DoubleMath.roundToLong(publishingInterval, RoundingMode.UP);
+            long interval = TimeUnit.MILLISECONDS.toNanos(
+                DoubleMath.roundToLong(publishingInterval, RoundingMode.UP));
+
+            // The next deadline is one interval after the previous one, not after now, so the timer's tick and the
+            // time spent publishing don't accumulate. More than an interval behind, skip ahead instead.
+            long now = System.nanoTime();
+            long deadline = publishingDeadline + interval;
+
+            if (now - deadline > interval) {
+                deadline = now;
+            }
+
+            publishingDeadline = deadline;
 
-            subscriptionManager.getServer().getScheduledExecutorService().schedule(
+            subscriptionManager.getServer().getTimer().schedule(
+                subscriptionId,
                 this::onPublishingTimer,
-                interval,
-                TimeUnit.MILLISECONDS
+                Math.max(0L, deadline - now),
+                TimeUnit.NANOSECONDS
             );
         }
     }
@@ -21,21 +21,17 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.eclipse.milo.opcua.sdk.core.AccessLevel;
 import org.eclipse.milo.opcua.sdk.core.NumericRange;
-import org.eclipse.milo.opcua.sdk.server.DiagnosticsContext;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
-import org.eclipse.milo.opcua.sdk.server.api.AttributeManager.ReadContext;
 import org.eclipse.milo.opcua.sdk.server.api.DataItem;
 import org.eclipse.milo.opcua.sdk.server.api.EventItem;
 import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
-import org.eclipse.milo.opcua.sdk.server.api.Namespace;
 import org.eclipse.milo.opcua.sdk.server.items.BaseMonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredDataItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredEventItem;
@@ -74,7 +70,6 @@ import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringParameters;
 import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
-import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.RepublishRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.RepublishResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
@@ -325,6 +320,9 @@ public class SubscriptionManager {
                 .map(PendingItemCreation::new)
                 .collect(toList());
 
+            AttributeReads dataReads = new AttributeReads(server, session);
+            AttributeReads eventReads = new AttributeReads(server, null);
+
             for (PendingItemCreation p : pending) {
                 MonitoredItemCreateRequest r = p.getRequest();
                 NodeId nodeId = r.getItemToMonitor().getNodeId();
@@ -360,10 +358,8 @@ public class SubscriptionManager {
                     }
                 }
 
-                Namespace namespace = server.getNamespaceManager().getNamespace(nodeId.getNamespaceIndex());
-
                 if (attributeId.equals(AttributeId.EventNotifier.uid())) {
-                    readEventAttributes(namespace, nodeId).thenAccept(as -> {
+                    readEventAttributes(eventReads, nodeId).thenAccept(as -> {
                         Optional<UByte> eventNotifier = as.v3();
 
                         try {
@@ -401,7 +397,7 @@ public class SubscriptionManager {
                         }
                     });
                 } else {
-                    readDataAttributes(session, namespace, nodeId).thenAccept(vs -> {
+                    readDataAttributes(dataReads, nodeId).thenAccept(vs -> {
                         try {
                             for (DataValue value : vs) {
                                 StatusCode statusCode = value.getStatusCode();
@@ -479,6 +475,9 @@ public class SubscriptionManager {
                 }
             }
 
+            dataReads.execute();
+            eventReads.execute();
+
             List<CompletableFuture<MonitoredItemCreateResult>> futures = pending.stream()
                 .map(PendingItemCreation::getResultFuture)
                 .collect(toList());
@@ -553,6 +552,8 @@ public class SubscriptionManager {
             List<BaseMonitoredItem<?>> modifiedItems =
                 Collections.synchronizedList(newArrayListWithCapacity(itemsToModify.size()));
 
+            AttributeReads dataReads = new AttributeReads(server, session);
+
             /*
              * Modify requested items and prepare results.
              */
@@ -572,9 +573,8 @@ public class SubscriptionManager {
                     p.getResultFuture().complete(result);
                 } else {
                     NodeId nodeId = item.getReadValueId().getNodeId();
-                    Namespace namespace = server.getNamespaceManager().getNamespace(nodeId.getNamespaceIndex());
 
-                    readDataAttributes(session, namespace, nodeId).thenAccept(vs -> {
+                    readDataAttributes(dataReads, nodeId).thenAccept(vs -> {
                         try {
                             for (DataValue value : vs) {
                                 StatusCode statusCode = value.getStatusCode();
@@ -640,6 +640,8 @@ public class SubscriptionManager {
                 }
             }
 
+            dataReads.execute();
+
             subscription.resetLifetimeCounter();
 
             /*
@@ -693,40 +695,20 @@ public class SubscriptionManager {
         }
     }
 
-    private CompletableFuture<List<DataValue>> readDataAttributes(Session session, Namespace namespace, NodeId itemId) {
-        Function<AttributeId, ReadValueId> f = id ->
-            new ReadValueId(itemId, id.uid(), null, QualifiedName.NULL_VALUE);
-
-        CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
-
-        ReadContext readContext = new ReadContext(
-            server, session, future, new DiagnosticsContext<>());
-
-        List<ReadValueId> attributes = newArrayList(
-            f.apply(AttributeId.AccessLevel),
-            f.apply(AttributeId.UserAccessLevel),
-            f.apply(AttributeId.MinimumSamplingInterval));
-
-        namespace.read(readContext, 0.0, TimestampsToReturn.Neither, attributes);
-
-        return future;
+    private static CompletableFuture<List<DataValue>> readDataAttributes(AttributeReads reads, NodeId nodeId) {
+        return reads.read(
+            nodeId,
+            AttributeId.AccessLevel,
+            AttributeId.UserAccessLevel,
+            AttributeId.MinimumSamplingInterval);
     }
 
-    private CompletableFuture<EventAttributes> readEventAttributes(Namespace namespace, NodeId nodeId) {
-        Function<AttributeId, ReadValueId> f = id ->
-            new ReadValueId(nodeId, id.uid(), null, QualifiedName.NULL_VALUE);
-
-        CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
-
-        ReadContext readContext = new ReadContext(
-            server, null, future, new DiagnosticsContext<>());
-
-        List<ReadValueId> readValueIds = newArrayList(
-            f.apply(AttributeId.AccessLevel),
-            f.apply(AttributeId.UserAccessLevel),
-            f.apply(AttributeId.EventNotifier));
-
-        namespace.read(readContext, 0.0, TimestampsToReturn.Neither, readValueIds);
+    private static CompletableFuture<EventAttributes> readEventAttributes(AttributeReads reads, NodeId nodeId) {
+        CompletableFuture<List<DataValue>> future = reads.read(
+            nodeId,
+            AttributeId.AccessLevel,
+            AttributeId.UserAccessLevel,
+            AttributeId.EventNotifier);
 
         return future.thenApply(values -> {
             UByte accessLevel = Optional.ofNullable((UByte) values.get(0).getValue().getValue()).orElse(ubyte(1));
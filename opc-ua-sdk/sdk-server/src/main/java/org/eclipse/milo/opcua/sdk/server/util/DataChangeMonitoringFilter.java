@@ -13,6 +13,7 @@
 
 package org.eclipse.milo.opcua.sdk.server.util;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
@@ -26,6 +27,64 @@ public class DataChangeMonitoringFilter {
         return triggerFilter(lastValue, currentValue, filter) && deadbandFilter(lastValue, currentValue, filter);
     }
 
+    /**
+     * Remembers the outcome of {@link #filter(DataValue, DataValue, DataChangeFilter)} so that items sharing a filter,
+     * last value and current value only run the filter once. Values are compared by identity; filters by trigger and
+     * deadband. Not thread safe.
+     */
+    public static final class Results {
+
+        private static final int MAX_ENTRIES = 16;
+
+        private final DataValue[] lastValues = new DataValue[MAX_ENTRIES];
+        private final DataValue[] currentValues = new DataValue[MAX_ENTRIES];
+        private final DataChangeFilter[] filters = new DataChangeFilter[MAX_ENTRIES];
+        private final boolean[] results = new boolean[MAX_ENTRIES];
+
+        private int size = 0;
+
+        /**
+         * Same as {@link DataChangeMonitoringFilter#filter(DataValue, DataValue, DataChangeFilter)}, but reusing a
+         * remembered outcome if there is one.
+         */
+        public boolean filter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
+            for (int i = 0; i < size; i++) {
+                if (lastValues[i] == lastValue && currentValues[i] == currentValue && sameFilter(filters[i], filter)) {
+                    return results[i];
+                }
+            }
+
+            boolean result = DataChangeMonitoringFilter.filter(lastValue, currentValue, filter);
+
+            if (size < MAX_ENTRIES) {
+                lastValues[size] = lastValue;
+                currentValues[size] = currentValue;
+                filters[size] = filter;
+                results[size] = result;
+                size++;
+            }
+
+            return result;
+        }
+
+        /**
+         * Forget all remembered outcomes.
+         */
+        public void clear() {
+            Arrays.fill(lastValues, 0, size, null);
+            Arrays.fill(currentValues, 0, size, null);
+            Arrays.fill(filters, 0, size, null);
+            size = 0;
+        }
+
+        private static boolean sameFilter(DataChangeFilter f1, DataChangeFilter f2) {
+            return f1 == f2 || (f1.getTrigger() == f2.getTrigger() &&
+                Objects.equals(f1.getDeadbandType(), f2.getDeadbandType()) &&
+                Double.compare(f1.getDeadbandValue(), f2.getDeadbandValue()) == 0);
+        }
+
+    }
+
     private static boolean triggerFilter(DataValue lastValue, DataValue currentValue, DataChangeFilter filter) {
         if (lastValue == null) return true;
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.base.Preconditions;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules one-shot timers, such as subscription publishing and session timeouts, on several
+ * {@link HashedWheelTimer}s.
+ * <p>
+ * Each timer is scheduled on the wheel its key hashes to, spreading the timers of many subscriptions and sessions
+ * across several threads. A wheel thread only hands expired timers to the {@link Executor}, so a slow task does not
+ * delay the timers that expire after it. How late timers expire is recorded per shard; see
+ * {@link #getShardStatistics()}.
+ */
+public class ShardedTimer {
+
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Shard[] shards;
+    private final Executor executor;
+
+    /**
+     * @param shardCount   the number of wheels, each with its own thread.
+     * @param tickDuration the duration between ticks of each wheel; timers expire at most this late.
+     * @param unit         the unit of {@code tickDuration}.
+     * @param executor     the {@link Executor} to run expired tasks on.
+     */
+    public ShardedTimer(int shardCount, long tickDuration, TimeUnit unit, Executor executor) {
+        Preconditions.checkArgument(shardCount > 0, "shardCount must be > 0");
+        Preconditions.checkArgument(tickDuration > 0, "tickDuration must be > 0");
+
+        this.executor = executor;
+
+        shards = new Shard[shardCount];
+
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, tickDuration, unit);
+        }
+    }
+
+    /**
+     * Schedule {@code task} to run once after {@code delay}.
+     *
+     * @param key   the key that selects the shard, e.g. a subscription or session id.
+     * @param task  the task to run.
+     * @param delay the delay after which {@code task} is run.
+     * @param unit  the unit of {@code delay}.
+     * @return a {@link Timeout} that can be used to cancel the task.
+     */
+    public Timeout schedule(Object key, Runnable task, long delay, TimeUnit unit) {
+        Shard shard = shards[Math.floorMod(spread(key.hashCode()), shards.length)];
+
+        return shard.schedule(task, delay, unit);
+    }
+
+    /**
+     * @return the {@link ShardStatistics} of each shard.
+     */
+    public List<ShardStatistics> getShardStatistics() {
+        return Stream.of(shards).map(s -> s.statistics).collect(Collectors.toList());
+    }
+
+    /**
+     * Stop every wheel; pending timers are discarded.
+     */
+    public void stop() {
+        for (Shard shard : shards) {
+            shard.wheel.stop();
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private class Shard {
+
+        private final HashedWheelTimer wheel;
+        private final ShardStatistics statistics = new ShardStatistics();
+
+        private Shard(int index, long tickDuration, TimeUnit unit) {
+            ThreadFactory threadFactory = r -> {
+                Thread thread = new Thread(r, "ua-server-timer-" + index);
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            wheel = new HashedWheelTimer(threadFactory, tickDuration, unit, TICKS_PER_WHEEL);
+        }
+
+        private Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+            long deadline = System.nanoTime() + unit.toNanos(delay);
+
+            return wheel.newTimeout(timeout -> {
+                statistics.record(System.nanoTime() - deadline);
+
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    logger.warn("Timer task rejected by executor.", e);
+                }
+            }, delay, unit);
+        }
+
+    }
+
+    public static class ShardStatistics {
+
+        private final LongAdder expiredCount = new LongAdder();
+        private final LongAdder totalLatenessNanos = new LongAdder();
+        private final AtomicLong maxLatenessNanos = new AtomicLong(0L);
+
+        private void record(long latenessNanos) {
+            long lateness = Math.max(0L, latenessNanos);
+
+            expiredCount.increment();
+            totalLatenessNanos.add(lateness);
+            maxLatenessNanos.accumulateAndGet(lateness, Math::max);
+        }
+
+        /**
+         * @return the number of timers that have expired.
+         */
+        public long getExpiredCount() {
+            return expiredCount.sum();
+        }
+
+        /**
+         * @return the average time, in nanoseconds, timers expired after they were due.
+         */
+        public long getAverageLatenessNanos() {
+            long count = expiredCount.sum();
+
+            return count > 0 ? totalLatenessNanos.sum() / count : 0L;
+        }
+
+        /**
+         * @return the maximum time, in nanoseconds, a timer expired after it was due.
+         */
+        public long getMaxLatenessNanos() {
+            return maxLatenessNanos.get();
+        }
+
+    }
+
+}
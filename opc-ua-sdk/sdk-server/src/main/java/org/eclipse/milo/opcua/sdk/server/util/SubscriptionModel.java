@@ -14,53 +14,136 @@
 package org.eclipse.milo.opcua.sdk.server.util;
 
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.math.DoubleMath;
+import io.netty.util.Timeout;
 import org.eclipse.milo.opcua.sdk.server.DiagnosticsContext;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.api.AttributeManager;
 import org.eclipse.milo.opcua.sdk.server.api.AttributeManager.ReadContext;
 import org.eclipse.milo.opcua.sdk.server.api.DataItem;
 import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeObserver;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.delegates.AttributeDelegate;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
 
+/**
+ * Samples {@link DataItem}s by reading them from an {@link AttributeManager} at their sampling interval.
+ * <p>
+ * Items with the same (rounded up, in milliseconds) sampling interval form a group, and each group is split into
+ * shards that are sampled independently on the server's executor; the server's {@link ShardedTimer} only fires
+ * each shard's next sample. Creating, modifying or deleting items only touches the shards those items move in or
+ * out of.
+ * <p>
+ * Items in a group that read the same node, attribute, index range and data encoding are placed in the same shard
+ * and sampled with a single read, whose value is delivered to each of them.
+ * <p>
+ * Shards sample at a fixed rate: the next sample is due one interval after the previous one was due, not after it
+ * completed. A shard that falls more than an interval behind skips the missed samples rather than bursting to catch
+ * up. How late samples start, and how many reads sharing saved, is recorded per sampling interval; see
+ * {@link #getSamplingStatistics()}.
+ * <p>
+ * If event-driven sampling is enabled, items that monitor the Value of a {@link UaVariableNode} in the server's node
+ * map that uses the default {@link AttributeDelegate} are not sampled at all. They are fed from the node's
+ * {@link AttributeObserver} callbacks instead, at most once per sampling interval; a change that arrives sooner is
+ * held back, replaced by any later change, and delivered when the interval has elapsed. The callback only records
+ * the change; it is delivered to the item on the server's executor, not on the thread that set the value. This is
+ * off by default; enable it with {@link #SubscriptionModel(OpcUaServer, AttributeManager, boolean)}, and only when the
+ * {@link AttributeManager} reads such nodes by their stored value, so that every change goes through
+ * {@link UaVariableNode#setValue(DataValue)}.
+ * <p>
+ * Namespaces that receive values from elsewhere can also hand them straight to the items monitoring them with
+ * {@link #ingest(Map)}, which finds the items through an index maintained as items are created and deleted.
+ */
 public class SubscriptionModel {
 
+    private static final int SHARD_COUNT = Runtime.getRuntime().availableProcessors();
+
     private final Set<DataItem> itemSet = Collections.newSetFromMap(Maps.newConcurrentMap());
 
-    private final List<ScheduledUpdate> schedule = Lists.newCopyOnWriteArrayList();
+    /**
+     * The {@link Shard} each sampled item is currently in. Only modified on the {@link #executionQueue}.
+     */
+    private final Map<DataItem, Shard> placements = Maps.newHashMap();
+
+    private final ConcurrentMap<Long, SamplingGroup> groups = Maps.newConcurrentMap();
+
+    /**
+     * The items monitoring the plain Value of each node, for {@link #ingest(Map)}. Only modified on the
+     * {@link #executionQueue}, but read from any thread.
+     */
+    private final ConcurrentMap<NodeId, Set<DataItem>> valueItems = Maps.newConcurrentMap();
+
+    /**
+     * The {@link PushedItem} of each event-driven item. Only modified on the {@link #executionQueue}.
+     */
+    private final Map<DataItem, PushedItem> pushedItems = Maps.newHashMap();
+
+    /**
+     * The size of {@link #pushedItems}, readable from any thread.
+     */
+    private volatile int eventDrivenItemCount = 0;
+
+    /**
+     * The {@link NodeObserver} feeding the event-driven items on each node. Only modified on the
+     * {@link #executionQueue}; held here because nodes only keep weak references to their observers.
+     */
+    private final Map<NodeId, NodeObserver> nodeObservers = Maps.newHashMap();
 
     private final ExecutorService executor;
-    private final ScheduledExecutorService scheduler;
+    private final ShardedTimer timer;
     private final ExecutionQueue executionQueue;
 
     private final OpcUaServer server;
     private final AttributeManager attributeServices;
+    private final boolean eventDrivenEnabled;
 
     public SubscriptionModel(OpcUaServer server, AttributeManager attributeServices) {
+        this(server, attributeServices, false);
+    }
+
+    /**
+     * @param server             the {@link OpcUaServer}.
+     * @param attributeServices  the {@link AttributeManager} items are read from.
+     * @param eventDrivenEnabled {@code true} to feed items on in-memory variable nodes from attribute change
+     *                           callbacks instead of sampling them.
+     */
+    public SubscriptionModel(OpcUaServer server, AttributeManager attributeServices, boolean eventDrivenEnabled) {
         this.server = server;
 
         this.attributeServices = attributeServices;
+        this.eventDrivenEnabled = eventDrivenEnabled;
 
         executor = server.getExecutorService();
-        scheduler = server.getScheduledExecutorService();
+        timer = server.getTimer();
 
         executionQueue = new ExecutionQueue(executor);
     }
@@ -68,69 +151,363 @@ public class SubscriptionModel {
     public void onDataItemsCreated(List<DataItem> items) {
         executionQueue.submit(() -> {
             itemSet.addAll(items);
-            reschedule();
+            items.forEach(this::index);
+            items.forEach(this::place);
         });
     }
 
     public void onDataItemsModified(List<DataItem> items) {
-        executionQueue.submit(this::reschedule);
+        executionQueue.submit(() -> items.stream()
+            .filter(itemSet::contains)
+            .forEach(this::place));
     }
 
     public void onDataItemsDeleted(List<DataItem> items) {
         executionQueue.submit(() -> {
             itemSet.removeAll(items);
-            reschedule();
+            items.forEach(this::unindex);
+            items.forEach(this::unplace);
         });
     }
 
     public void onMonitoringModeChanged(List<MonitoredItem> items) {
-        executionQueue.submit(this::reschedule);
+        executionQueue.submit(() -> items.stream()
+            .filter(itemSet::contains)
+            .map(item -> (DataItem) item)
+            .forEach(this::place));
+    }
+
+    /**
+     * @return a snapshot of the {@link SamplingStatistics} of each sampling interval currently in use, keyed by the
+     * sampling interval in milliseconds.
+     */
+    public Map<Long, SamplingStatistics> getSamplingStatistics() {
+        return ImmutableMap.copyOf(
+            groups.values().stream().collect(Collectors.toMap(g -> g.samplingInterval, g -> g.statistics)));
+    }
+
+    /**
+     * Deliver values obtained outside of sampling, such as from a device driver, to every item monitoring the Value
+     * of their nodes, without any read or sampling interval.
+     * <p>
+     * Items that are disabled, or that read an index range or data encoding, are not delivered to. Each value is
+     * derived once per {@link TimestampsToReturn} and run through each distinct {@link DataChangeFilter} and last
+     * value once, however many items share them. Delivery happens on the calling thread, so batches ingested from
+     * several threads are delivered in parallel.
+     *
+     * @param values the latest value of each node that changed.
+     */
+    public void ingest(Map<NodeId, DataValue> values) {
+        DataValue[] derived = new DataValue[TimestampsToReturn.values().length];
+        DataChangeMonitoringFilter.Results results = new DataChangeMonitoringFilter.Results();
+
+        values.forEach((nodeId, value) -> {
+            Set<DataItem> items = valueItems.get(nodeId);
+
+            if (items != null) {
+                Arrays.fill(derived, null);
+
+                for (DataItem item : items) {
+                    if (!item.isSamplingEnabled()) continue;
+
+                    TimestampsToReturn timestamps = item.getTimestampsToReturn();
+                    DataValue itemValue = value;
+
+                    if (timestamps != null) {
+                        itemValue = derived[timestamps.ordinal()];
+
+                        if (itemValue == null) {
+                            itemValue = DataValue.derivedValue(value, timestamps);
+                            derived[timestamps.ordinal()] = itemValue;
+                        }
+                    }
+
+                    item.setValue(itemValue, results);
+                }
+
+                results.clear();
+            }
+        });
+    }
+
+    private void index(DataItem item) {
+        ReadValueId readValueId = item.getReadValueId();
+
+        if (isPlainValue(readValueId)) {
+            valueItems.computeIfAbsent(
+                readValueId.getNodeId(),
+                id -> Collections.newSetFromMap(Maps.newConcurrentMap())
+            ).add(item);
+        }
+    }
+
+    private void unindex(DataItem item) {
+        NodeId nodeId = item.getReadValueId().getNodeId();
+        Set<DataItem> items = valueItems.get(nodeId);
+
+        if (items != null && items.remove(item) && items.isEmpty()) {
+            valueItems.remove(nodeId, items);
+        }
+    }
+
+    /**
+     * @return the number of items currently fed from attribute change callbacks rather than sampled.
+     */
+    public int getEventDrivenItemCount() {
+        return eventDrivenItemCount;
+    }
+
+    private void place(DataItem item) {
+        if (eventDrivenEnabled && item.isSamplingEnabled()) {
+            UaVariableNode node = getEventSource(item);
+
+            if (node != null) {
+                unplaceSampled(item);
+                push(item, node);
+                return;
+            }
+        }
+
+        unpush(item);
+        placeSampled(item);
+    }
+
+    private void unplace(DataItem item) {
+        unpush(item);
+        unplaceSampled(item);
+    }
+
+    /**
+     * @return the node {@code item} can be fed from by attribute change callbacks, or {@code null} if it must be
+     * sampled.
+     */
+    private UaVariableNode getEventSource(DataItem item) {
+        ReadValueId readValueId = item.getReadValueId();
+
+        if (!isPlainValue(readValueId)) return null;
+
+        return server.getNodeMap().getNode(readValueId.getNodeId())
+            .filter(n -> n instanceof UaVariableNode)
+            .map(n -> (UaVariableNode) n)
+            .filter(n -> n.getAttributeDelegate() == AttributeDelegate.DEFAULT)
+            .orElse(null);
+    }
+
+    /**
+     * @return {@code true} if {@code readValueId} reads the whole Value attribute in its default encoding.
+     */
+    private static boolean isPlainValue(ReadValueId readValueId) {
+        if (!AttributeId.Value.isEqual(readValueId.getAttributeId())) return false;
+
+        String indexRange = readValueId.getIndexRange();
+        if (indexRange != null && !indexRange.isEmpty()) return false;
+
+        QualifiedName dataEncoding = readValueId.getDataEncoding();
+        return dataEncoding == null || dataEncoding.isNull();
+    }
+
+    private void push(DataItem item, UaVariableNode node) {
+        PushedItem pushedItem = pushedItems.get(item);
+
+        if (pushedItem != null) {
+            pushedItem.updateSamplingInterval();
+            return;
+        }
+
+        NodeObserver observer = nodeObservers.computeIfAbsent(node.getNodeId(), id -> {
+            NodeObserver o = new NodeObserver();
+            node.addAttributeObserver(o);
+            return o;
+        });
+
+        pushedItem = new PushedItem(item, node, observer);
+        pushedItems.put(item, pushedItem);
+        eventDrivenItemCount = pushedItems.size();
+        observer.items.add(pushedItem);
+
+        // The initial value is read like any sample, then kept up to date by the observer.
+        CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
+
+        ReadContext context = new ReadContext(
+            server, null, future, new DiagnosticsContext<>());
+
+        PushedItem p = pushedItem;
+        future.thenAcceptAsync(values -> p.initialValue(values.get(0)), executor);
+
+        attributeServices.read(context, 0d, TimestampsToReturn.Both, Collections.singletonList(item.getReadValueId()));
     }
 
-    private void reschedule() {
-        Map<Double, List<DataItem>> bySamplingInterval = itemSet.stream()
-            .filter(DataItem::isSamplingEnabled)
-            .collect(Collectors.groupingBy(DataItem::getSamplingInterval));
+    private void unpush(DataItem item) {
+        PushedItem pushedItem = pushedItems.remove(item);
+        eventDrivenItemCount = pushedItems.size();
 
-        List<ScheduledUpdate> updates = bySamplingInterval.keySet().stream()
-            .map(samplingInterval -> {
-                List<DataItem> items = bySamplingInterval.get(samplingInterval);
+        if (pushedItem != null) {
+            pushedItem.close();
 
-                return new ScheduledUpdate(samplingInterval, items);
-            })
-            .collect(Collectors.toList());
+            NodeObserver observer = pushedItem.observer;
+            observer.items.remove(pushedItem);
 
-        schedule.forEach(ScheduledUpdate::cancel);
-        schedule.clear();
-        schedule.addAll(updates);
-        schedule.forEach(scheduler::execute);
+            if (observer.items.isEmpty()) {
+                nodeObservers.remove(pushedItem.node.getNodeId(), observer);
+                pushedItem.node.removeAttributeObserver(observer);
+            }
+        }
     }
 
-    private class ScheduledUpdate implements Runnable {
+    /**
+     * Move {@code item} into the shard for its current sampling interval, or out of sampling if it is disabled.
+     */
+    private void placeSampled(DataItem item) {
+        Shard current = placements.get(item);
+
+        if (item.isSamplingEnabled()) {
+            long samplingInterval = DoubleMath.roundToLong(item.getSamplingInterval(), RoundingMode.UP);
+
+            if (current != null && current.group.samplingInterval == samplingInterval) return;
 
-        private volatile boolean cancelled = false;
+            if (current != null) remove(current, item);
+
+            SamplingGroup group = groups.computeIfAbsent(samplingInterval, SamplingGroup::new);
+            Shard shard = group.shardFor(new ReadKey(item.getReadValueId()));
+
+            shard.add(item);
+            placements.put(item, shard);
+        } else if (current != null) {
+            unplaceSampled(item);
+        }
+    }
+
+    private void unplaceSampled(DataItem item) {
+        Shard current = placements.remove(item);
+
+        if (current != null) remove(current, item);
+    }
+
+    private void remove(Shard shard, DataItem item) {
+        shard.remove(item);
+
+        SamplingGroup group = shard.group;
+
+        if (group.isEmpty()) {
+            groups.remove(group.samplingInterval, group);
+        }
+    }
+
+    private class SamplingGroup {
+
+        private final SamplingStatistics statistics = new SamplingStatistics();
 
         private final long samplingInterval;
-        private final List<DataItem> items;
+        private final Shard[] shards;
+
+        private SamplingGroup(long samplingInterval) {
+            this.samplingInterval = samplingInterval;
 
-        private ScheduledUpdate(double samplingInterval, List<DataItem> items) {
-            this.samplingInterval = DoubleMath.roundToLong(samplingInterval, RoundingMode.UP);
-            this.items = items;
+            shards = new Shard[SHARD_COUNT];
+            for (int i = 0; i < shards.length; i++) {
+                shards[i] = new Shard(this);
+            }
         }
 
-        private void cancel() {
-            cancelled = true;
+        private Shard shardFor(ReadKey key) {
+            return shards[Math.floorMod(key.hashCode(), shards.length)];
         }
 
-        @Override
-        public void run() {
-            List<PendingRead> pending = items.stream()
-                .map(item -> new PendingRead(item.getReadValueId()))
-                .collect(Collectors.toList());
+        private boolean isEmpty() {
+            for (Shard shard : shards) {
+                if (!shard.reads.isEmpty()) return false;
+            }
+            return true;
+        }
+
+    }
+
+    private class Shard {
+
+        /**
+         * The items in this shard, keyed by what they read. Only modified on the {@link #executionQueue}.
+         */
+        private final ConcurrentMap<ReadKey, Set<DataItem>> reads = Maps.newConcurrentMap();
+
+        /**
+         * Incremented on every start and stop; a sampling chain only continues while its generation is current.
+         */
+        private volatile long generation = 0L;
+        private volatile boolean running = false;
+        private volatile Timeout nextSample;
+
+        private final SamplingGroup group;
+        private final long intervalNanos;
+
+        private Shard(SamplingGroup group) {
+            this.group = group;
 
-            List<ReadValueId> ids = pending.stream()
-                .map(PendingRead::getInput)
-                .collect(Collectors.toList());
+            intervalNanos = TimeUnit.MILLISECONDS.toNanos(group.samplingInterval);
+        }
+
+        private void add(DataItem item) {
+            reads.computeIfAbsent(
+                new ReadKey(item.getReadValueId()),
+                k -> Collections.newSetFromMap(Maps.newConcurrentMap())
+            ).add(item);
+
+            if (!running) {
+                long g = ++generation;
+                running = true;
+
+                long now = System.nanoTime();
+                executor.execute(() -> sample(g, now));
+            }
+        }
+
+        private void remove(DataItem item) {
+            ReadKey key = new ReadKey(item.getReadValueId());
+            Set<DataItem> items = reads.get(key);
+
+            if (items != null) {
+                items.remove(item);
+
+                if (items.isEmpty()) reads.remove(key, items);
+            }
+
+            if (reads.isEmpty() && running) {
+                running = false;
+                generation++;
+
+                Timeout t = nextSample;
+                if (t != null) t.cancel();
+            }
+        }
+
+        private boolean isCurrent(long g) {
+            return running && generation == g;
+        }
+
+        private void sample(long g, long deadline) {
+            if (!isCurrent(g)) return;
+
+            group.statistics.record(System.nanoTime() - deadline);
+
+            List<ReadValueId> ids = new ArrayList<>(reads.size());
+            List<List<DataItem>> sampled = new ArrayList<>(reads.size());
+            int requested = 0;
+
+            for (Map.Entry<ReadKey, Set<DataItem>> entry : reads.entrySet()) {
+                List<DataItem> items = new ArrayList<>(entry.getValue());
+
+                if (!items.isEmpty()) {
+                    ids.add(entry.getKey().readValueId);
+                    sampled.add(items);
+                    requested += items.size();
+                }
+            }
+
+            if (ids.isEmpty()) {
+                scheduleNext(g, deadline);
+                return;
+            }
+
+            group.statistics.recordReads(requested, ids.size());
 
             CompletableFuture<List<DataValue>> future = new CompletableFuture<>();
 
@@ -138,32 +515,283 @@ public class SubscriptionModel {
                 server, null, future, new DiagnosticsContext<>());
 
             future.thenAcceptAsync(values -> {
-                Iterator<DataItem> ii = items.iterator();
+                Iterator<List<DataItem>> ii = sampled.iterator();
                 Iterator<DataValue> vi = values.iterator();
 
                 while (ii.hasNext() && vi.hasNext()) {
-                    DataItem item = ii.next();
+                    List<DataItem> items = ii.next();
                     DataValue value = vi.next();
 
-                    TimestampsToReturn timestamps = item.getTimestampsToReturn();
+                    for (DataItem item : items) {
+                        item.setValue(derive(item, value));
+                    }
+                }
 
-                    if (timestamps != null) {
-                        UInteger attributeId = item.getReadValueId().getAttributeId();
+                scheduleNext(g, deadline);
+            }, executor);
 
-                        value = (AttributeId.Value.isEqual(attributeId)) ?
-                            DataValue.derivedValue(value, timestamps) :
-                            DataValue.derivedNonValue(value, timestamps);
-                    }
+            attributeServices.read(context, 0d, TimestampsToReturn.Both, ids);
+        }
+
+        private void scheduleNext(long g, long previousDeadline) {
+            if (!isCurrent(g)) return;
+
+            long now = System.nanoTime();
+            long deadline = previousDeadline + intervalNanos;
+
+            if (now - deadline > intervalNanos) {
+                // More than an interval behind; skip the missed samples.
+                deadline = now;
+            }
+
+            long d = deadline;
+
+            nextSample = timer.schedule(
+                this,
+                () -> sample(g, d),
+                deadline - now,
+                TimeUnit.NANOSECONDS
+            );
+        }
+
+    }
+
+    /**
+     * Feeds the event-driven items on one node from its Value changes.
+     */
+    private static class NodeObserver implements AttributeObserver {
 
-                    item.setValue(value);
+        private final Set<PushedItem> items = Collections.newSetFromMap(Maps.newConcurrentMap());
+
+        @Override
+        public void attributeChanged(UaNode node, AttributeId attributeId, Object value) {
+            if (attributeId == AttributeId.Value) {
+                for (PushedItem item : items) {
+                    item.valueChanged((DataValue) value);
                 }
+            }
+        }
+
+    }
+
+    /**
+     * An item fed from attribute change callbacks, rate limited to its sampling interval.
+     */
+    private class PushedItem {
+
+        private final DataItem item;
+        private final UaVariableNode node;
+        private final NodeObserver observer;
+
+        private volatile long intervalNanos;
+
+        private boolean delivered = false;
+        private boolean closed = false;
+        private long lastDeliveryNanos;
+        private DataValue pendingValue;
+        private boolean deliveryScheduled = false;
+        private Timeout pendingDelivery;
+
+        private PushedItem(DataItem item, UaVariableNode node, NodeObserver observer) {
+            this.item = item;
+            this.node = node;
+            this.observer = observer;
+
+            updateSamplingInterval();
+        }
 
-                if (!cancelled) {
-                    scheduler.schedule(this, samplingInterval, TimeUnit.MILLISECONDS);
+        private void updateSamplingInterval() {
+            double samplingInterval = Math.max(0d, item.getSamplingInterval());
+
+            intervalNanos = DoubleMath.roundToLong(samplingInterval * 1_000_000d, RoundingMode.UP);
+        }
+
+        private synchronized void initialValue(DataValue value) {
+            // A change recorded before the initial read completed is newer than the value read.
+            if (!delivered && !closed && pendingValue == null) {
+                deliver(value, System.nanoTime());
+            }
+        }
+
+        /**
+         * Called on the thread that changed the node's value. Only records the value and schedules its delivery on
+         * the server's executor, right away or once the sampling interval has elapsed since the last delivery.
+         */
+        private synchronized void valueChanged(DataValue value) {
+            if (closed) return;
+
+            pendingValue = value;
+
+            if (deliveryScheduled) return;
+
+            long now = System.nanoTime();
+            long due = lastDeliveryNanos + intervalNanos;
+
+            if (!delivered || now - due >= 0) {
+                try {
+                    executor.execute(this::deliverPending);
+                } catch (RejectedExecutionException e) {
+                    pendingValue = null;
+                    return;
                 }
-            }, executor);
+            } else {
+                pendingDelivery = timer.schedule(
+                    this,
+                    this::deliverPending,
+                    due - now,
+                    TimeUnit.NANOSECONDS
+                );
+            }
+
+            deliveryScheduled = true;
+        }
+
+        private synchronized void deliverPending() {
+            DataValue value = pendingValue;
+
+            pendingValue = null;
+            pendingDelivery = null;
+            deliveryScheduled = false;
+
+            if (value != null && !closed) {
+                deliver(value, System.nanoTime());
+            }
+        }
+
+        private void deliver(DataValue value, long now) {
+            delivered = true;
+            lastDeliveryNanos = now;
+
+            item.setValue(derive(item, value));
+        }
+
+        private synchronized void close() {
+            closed = true;
+            pendingValue = null;
+
+            if (pendingDelivery != null) {
+                pendingDelivery.cancel();
+                pendingDelivery = null;
+            }
+        }
+
+    }
+
+    private static DataValue derive(DataItem item, DataValue value) {
+        TimestampsToReturn timestamps = item.getTimestampsToReturn();
+
+        if (timestamps != null) {
+            UInteger attributeId = item.getReadValueId().getAttributeId();
+
+            return AttributeId.Value.isEqual(attributeId) ?
+                DataValue.derivedValue(value, timestamps) :
+                DataValue.derivedNonValue(value, timestamps);
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * What a {@link DataItem} reads; items with equal keys in the same {@link SamplingGroup} share a read.
+     */
+    private static final class ReadKey {
+
+        private final ReadValueId readValueId;
+        private final int hash;
+
+        private ReadKey(ReadValueId readValueId) {
+            this.readValueId = readValueId;
+
+            hash = Objects.hash(
+                readValueId.getNodeId(),
+                readValueId.getAttributeId(),
+                readValueId.getIndexRange(),
+                readValueId.getDataEncoding()
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            ReadValueId that = ((ReadKey) o).readValueId;
+
+            return Objects.equals(readValueId.getNodeId(), that.getNodeId()) &&
+                Objects.equals(readValueId.getAttributeId(), that.getAttributeId()) &&
+                Objects.equals(readValueId.getIndexRange(), that.getIndexRange()) &&
+                Objects.equals(readValueId.getDataEncoding(), that.getDataEncoding());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    /**
+     * How late samples for one sampling interval started, relative to when they were due, and how many reads were
+     * saved by sharing them between items.
+     */
+    public static class SamplingStatistics {
+
+        private final LongAdder sampleCount = new LongAdder();
+        private final LongAdder totalLatenessNanos = new LongAdder();
+        private final AtomicLong maxLatenessNanos = new AtomicLong(0L);
+
+        private final LongAdder requestedReadCount = new LongAdder();
+        private final LongAdder performedReadCount = new LongAdder();
+
+        private void record(long latenessNanos) {
+            long lateness = Math.max(0L, latenessNanos);
+
+            sampleCount.increment();
+            totalLatenessNanos.add(lateness);
+            maxLatenessNanos.accumulateAndGet(lateness, Math::max);
+        }
+
+        private void recordReads(int requested, int performed) {
+            requestedReadCount.add(requested);
+            performedReadCount.add(performed);
+        }
+
+        /**
+         * @return the number of samples taken.
+         */
+        public long getSampleCount() {
+            return sampleCount.sum();
+        }
+
+        /**
+         * @return the average time, in nanoseconds, samples started after they were due.
+         */
+        public long getAverageLatenessNanos() {
+            long count = sampleCount.sum();
+
+            return count > 0 ? totalLatenessNanos.sum() / count : 0L;
+        }
+
+        /**
+         * @return the maximum time, in nanoseconds, a sample started after it was due.
+         */
+        public long getMaxLatenessNanos() {
+            return maxLatenessNanos.get();
+        }
+
+        /**
+         * @return the number of item samples taken, i.e. the number of reads that would have been performed without
+         * sharing.
+         */
+        public long getRequestedReadCount() {
+            return requestedReadCount.sum();
+        }
 
-            executor.execute(() -> attributeServices.read(context, 0d, TimestampsToReturn.Both, ids));
+        /**
+         * @return the number of reads actually performed.
+         */
+        public long getPerformedReadCount() {
+            return performedReadCount.sum();
         }
 
     }
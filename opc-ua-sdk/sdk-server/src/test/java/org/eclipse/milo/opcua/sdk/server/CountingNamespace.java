@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.api.AccessContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.ServerNode;
+import org.eclipse.milo.opcua.sdk.server.util.NoOpNamespace;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+
+/**
+ * A {@link org.eclipse.milo.opcua.sdk.server.api.Namespace} that reads and browses the nodes in the server's node
+ * map and records every read it is asked to perform.
+ */
+public class CountingNamespace extends NoOpNamespace {
+
+    private final List<List<ReadValueId>> reads = new CopyOnWriteArrayList<>();
+
+    private volatile int droppedValueCount = 0;
+
+    private final OpcUaServer server;
+    private final UShort namespaceIndex;
+    private final String namespaceUri;
+
+    public CountingNamespace(OpcUaServer server, UShort namespaceIndex, String namespaceUri) {
+        this.server = server;
+        this.namespaceIndex = namespaceIndex;
+        this.namespaceUri = namespaceUri;
+    }
+
+    @Override
+    public UShort getNamespaceIndex() {
+        return namespaceIndex;
+    }
+
+    @Override
+    public String getNamespaceUri() {
+        return namespaceUri;
+    }
+
+    @Override
+    public CompletableFuture<List<Reference>> browse(AccessContext context, NodeId nodeId) {
+        ServerNode node = server.getNodeMap().get(nodeId);
+
+        if (node != null) {
+            return CompletableFuture.completedFuture(node.getReferences());
+        } else {
+            CompletableFuture<List<Reference>> f = new CompletableFuture<>();
+            f.completeExceptionally(new UaException(StatusCodes.Bad_NodeIdUnknown));
+            return f;
+        }
+    }
+
+    @Override
+    public void read(ReadContext context, Double maxAge,
+                     TimestampsToReturn timestamps,
+                     List<ReadValueId> readValueIds) {
+
+        reads.add(ImmutableList.copyOf(readValueIds));
+
+        List<DataValue> values = Lists.newArrayListWithCapacity(readValueIds.size());
+
+        for (ReadValueId id : readValueIds) {
+            ServerNode node = server.getNodeMap().get(id.getNodeId());
+
+            if (node != null) {
+                values.add(node.readAttribute(
+                    new AttributeContext(context),
+                    id.getAttributeId(),
+                    timestamps,
+                    id.getIndexRange()
+                ));
+            } else {
+                values.add(new DataValue(StatusCodes.Bad_NodeIdUnknown));
+            }
+        }
+
+        int size = Math.max(0, values.size() - droppedValueCount);
+
+        context.complete(values.subList(0, size));
+    }
+
+    /**
+     * @return every list of {@link ReadValueId}s read so far, in order.
+     */
+    public List<List<ReadValueId>> getReads() {
+        return reads;
+    }
+
+    public void clearReads() {
+        reads.clear();
+    }
+
+    /**
+     * Drop the last {@code droppedValueCount} values from every read result, to simulate a misbehaving namespace.
+     */
+    public void setDroppedValueCount(int droppedValueCount) {
+        this.droppedValueCount = droppedValueCount;
+    }
+
+}
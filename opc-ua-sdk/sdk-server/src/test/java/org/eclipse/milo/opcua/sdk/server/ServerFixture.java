@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+package org.eclipse.milo.opcua.sdk.server;
+
+import com.google.common.io.Files;
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.application.DefaultCertificateManager;
+import org.eclipse.milo.opcua.stack.core.application.DefaultCertificateValidator;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+
+/**
+ * Provides an {@link OpcUaServer} with its node map and namespaces set up but no endpoints bound, for tests that
+ * exercise server internals without a client.
+ */
+public abstract class ServerFixture {
+
+    protected OpcUaServer server;
+
+    @BeforeClass
+    public void createServer() throws Exception {
+        OpcUaServerConfig config = OpcUaServerConfig.builder()
+            .setCertificateManager(new DefaultCertificateManager())
+            .setCertificateValidator(new DefaultCertificateValidator(Files.createTempDir()))
+            .setBindAddresses(newArrayList("localhost"))
+            .build();
+
+        server = new OpcUaServer(config);
+    }
+
+    @AfterClass
+    public void shutdownServer() throws Exception {
+        server.shutdown().get();
+    }
+
+    protected CountingNamespace addCountingNamespace(String namespaceUri) {
+        return server.getNamespaceManager().registerAndAdd(
+            namespaceUri,
+            index -> new CountingNamespace(server, index, namespaceUri));
+    }
+
+    protected UaVariableNode addVariableNode(UShort namespaceIndex, String name, Object value) {
+        UaVariableNode node = new UaVariableNode.UaVariableNodeBuilder(server.getNodeMap())
+            .setNodeId(new NodeId(namespaceIndex, name))
+            .setAccessLevel(ubyte(AccessLevel.getMask(AccessLevel.READ_WRITE)))
+            .setUserAccessLevel(ubyte(AccessLevel.getMask(AccessLevel.READ_WRITE)))
+            .setBrowseName(new QualifiedName(namespaceIndex, name))
+            .setDisplayName(LocalizedText.english(name))
+            .setDataType(Identifiers.BaseDataType)
+            .setTypeDefinition(Identifiers.BaseDataVariableType)
+            .build();
+
+        node.setValue(new DataValue(new Variant(value)));
+
+        server.getNodeMap().put(node.getNodeId(), node);
+
+        return node;
+    }
+
+}
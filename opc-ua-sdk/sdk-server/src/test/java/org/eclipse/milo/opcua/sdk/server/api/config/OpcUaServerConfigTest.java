@@ -41,6 +41,8 @@ public class OpcUaServerConfigTest {
             .setIdentityValidator(AnonymousIdentityValidator.INSTANCE)
             .setBuildInfo(new BuildInfo("a", "b", "c", "d", "e", DateTime.MIN_VALUE))
             .setLimits(new OpcUaServerConfigLimits() {})
+            .setTimerShardCount(3)
+            .setTimerTickMillis(5L)
             .build();
 
         OpcUaServerConfig copy = OpcUaServerConfig.copy(original).build();
@@ -51,6 +53,8 @@ public class OpcUaServerConfigTest {
         assertEquals(copy.getIdentityValidator(), original.getIdentityValidator());
         assertEquals(copy.getBuildInfo(), original.getBuildInfo());
         assertEquals(copy.getLimits(), original.getLimits());
+        assertEquals(copy.getTimerShardCount(), original.getTimerShardCount());
+        assertEquals(copy.getTimerTickMillis(), original.getTimerTickMillis());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.server.nodes;
+
+import com.google.common.collect.ImmutableList;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ReferenceIndexTest {
+
+    private final NodeId source = new NodeId(1, "source");
+
+    @Test
+    public void testIndexedByTypeAndDirection() {
+        Reference organizes = reference(Identifiers.Organizes, "a", true);
+        Reference component = reference(Identifiers.HasComponent, "b", true);
+        Reference inverse = reference(Identifiers.Organizes, "c", false);
+        Reference organizes2 = reference(Identifiers.Organizes, "d", true);
+
+        ReferenceIndex index = new ReferenceIndex();
+        index.add(organizes);
+        index.add(component);
+        index.add(inverse);
+        index.add(organizes2);
+
+        assertEquals(index.getReferences(), ImmutableList.of(organizes, component, inverse, organizes2));
+        assertEquals(index.getReferences(Identifiers.Organizes, true), ImmutableList.of(organizes, organizes2));
+        assertEquals(index.getReferences(Identifiers.Organizes, false), ImmutableList.of(inverse));
+        assertEquals(index.getReferences(Identifiers.HasProperty, true), ImmutableList.of());
+
+        assertTrue(index.remove(organizes));
+        assertFalse(index.remove(organizes));
+
+        assertEquals(index.getReferences(), ImmutableList.of(component, inverse, organizes2));
+        assertEquals(index.getReferences(Identifiers.Organizes, true), ImmutableList.of(organizes2));
+    }
+
+    private Reference reference(NodeId referenceTypeId, String target, boolean forward) {
+        return new Reference(source, referenceTypeId, new NodeId(1, target).expanded(), NodeClass.Object, forward);
+    }
+
+}
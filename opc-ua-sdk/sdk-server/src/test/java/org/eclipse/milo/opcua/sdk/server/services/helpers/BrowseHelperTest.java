@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.server.services.helpers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.CountingNamespace;
+import org.eclipse.milo.opcua.sdk.server.ServerFixture;
+import org.eclipse.milo.opcua.sdk.server.api.AccessContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseResultMask;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static java.util.stream.Collectors.toSet;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class BrowseHelperTest extends ServerFixture {
+
+    private final AccessContext context = Optional::empty;
+
+    private final ViewDescription view = new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0));
+
+    private CountingNamespace namespaceA;
+    private CountingNamespace namespaceB;
+
+    private UaVariableNode parent1;
+    private UaVariableNode parent2;
+
+    @BeforeClass
+    public void addNamespaces() {
+        namespaceA = addCountingNamespace("urn:eclipse:milo:test:browse:a");
+        namespaceB = addCountingNamespace("urn:eclipse:milo:test:browse:b");
+
+        parent1 = addVariableNode(namespaceA.getNamespaceIndex(), "parent1", 0);
+        parent2 = addVariableNode(namespaceA.getNamespaceIndex(), "parent2", 0);
+
+        UaVariableNode a1 = addVariableNode(namespaceA.getNamespaceIndex(), "a1", 1);
+        UaVariableNode a2 = addVariableNode(namespaceA.getNamespaceIndex(), "a2", 2);
+        UaVariableNode b1 = addVariableNode(namespaceB.getNamespaceIndex(), "b1", 3);
+
+        // Both parents organize b1, so it's a target of both descriptions.
+        organize(parent1, a1);
+        organize(parent1, b1);
+        organize(parent2, a2);
+        organize(parent2, b1);
+    }
+
+    @BeforeMethod
+    public void resetNamespaces() {
+        namespaceA.clearReads();
+        namespaceB.clearReads();
+    }
+
+    @Test
+    public void testDescriptionsShareOneReadPerNamespace() throws Exception {
+        NodeId unknown = new NodeId(namespaceA.getNamespaceIndex(), "unknown");
+
+        List<BrowseResult> results = browse(BrowseResultMask.All, parent1.getNodeId(), unknown, parent2.getNodeId());
+
+        assertEquals(results.size(), 3);
+        assertEquals(results.get(1).getStatusCode().getValue(), StatusCodes.Bad_NodeIdUnknown);
+
+        // One read per namespace for the distinct targets: a1 and a2 in one, b1 only once in the other.
+        assertEquals(namespaceA.getReads().size(), 1);
+        assertEquals(namespaceA.getReads().get(0).size(), 2 * 3);
+        assertEquals(namespaceB.getReads().size(), 1);
+        assertEquals(namespaceB.getReads().get(0).size(), 3);
+
+        assertTargets(results.get(0), "a1", "b1");
+        assertTargets(results.get(2), "a2", "b1");
+
+        for (BrowseResult result : new BrowseResult[]{results.get(0), results.get(2)}) {
+            for (ReferenceDescription reference : result.getReferences()) {
+                assertEquals(reference.getReferenceTypeId(), Identifiers.Organizes);
+                assertEquals(reference.getNodeClass(), NodeClass.Variable);
+                assertEquals(reference.getTypeDefinition(), new ExpandedNodeId(Identifiers.BaseDataVariableType));
+                assertEquals(reference.getDisplayName(), LocalizedText.english(reference.getBrowseName().getName()));
+            }
+        }
+    }
+
+    @Test
+    public void testResultMaskLimitsAttributesRead() throws Exception {
+        List<BrowseResult> results = browse(BrowseResultMask.BrowseName, parent1.getNodeId(), parent2.getNodeId());
+
+        for (List<ReadValueId> read : ImmutableList.of(namespaceA.getReads().get(0), namespaceB.getReads().get(0))) {
+            for (ReadValueId readValueId : read) {
+                assertEquals(readValueId.getAttributeId(), AttributeId.BrowseName.uid());
+            }
+        }
+
+        assertTargets(results.get(0), "a1", "b1");
+        assertTargets(results.get(1), "a2", "b1");
+
+        for (BrowseResult result : results) {
+            for (ReferenceDescription reference : result.getReferences()) {
+                assertEquals(reference.getReferenceTypeId(), NodeId.NULL_VALUE);
+                assertEquals(reference.getDisplayName(), LocalizedText.NULL_VALUE);
+                assertEquals(reference.getNodeClass(), NodeClass.Unspecified);
+                assertEquals(reference.getTypeDefinition(), ExpandedNodeId.NULL_VALUE);
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyResultMaskReadsNothing() throws Exception {
+        List<BrowseResult> results = browse(BrowseResultMask.None, parent1.getNodeId(), parent2.getNodeId());
+
+        assertTrue(namespaceA.getReads().isEmpty());
+        assertTrue(namespaceB.getReads().isEmpty());
+
+        for (BrowseResult result : results) {
+            assertEquals(result.getReferences().length, 2);
+
+            for (ReferenceDescription reference : result.getReferences()) {
+                assertEquals(reference.getBrowseName(), QualifiedName.NULL_VALUE);
+                assertEquals(reference.getTypeDefinition(), ExpandedNodeId.NULL_VALUE);
+            }
+        }
+    }
+
+    private List<BrowseResult> browse(BrowseResultMask resultMask, NodeId... nodeIds) throws Exception {
+        ImmutableList.Builder<BrowseDescription> browseDescriptions = ImmutableList.builder();
+
+        for (NodeId nodeId : nodeIds) {
+            browseDescriptions.add(new BrowseDescription(
+                nodeId,
+                BrowseDirection.Forward,
+                Identifiers.Organizes,
+                false,
+                uint(0),
+                uint(resultMask.getValue())
+            ));
+        }
+
+        return BrowseHelper.browse(context, server, view, uint(0), browseDescriptions.build())
+            .get(5, TimeUnit.SECONDS);
+    }
+
+    private static void organize(UaVariableNode source, UaVariableNode target) {
+        source.addReference(new Reference(
+            source.getNodeId(),
+            Identifiers.Organizes,
+            new ExpandedNodeId(target.getNodeId()),
+            NodeClass.Variable,
+            true
+        ));
+    }
+
+    private static void assertTargets(BrowseResult result, String... names) {
+        assertTrue(result.getStatusCode().isGood());
+
+        Set<String> browseNames = Arrays.stream(result.getReferences())
+            .map(r -> r.getBrowseName().getName())
+            .collect(toSet());
+
+        assertEquals(result.getReferences().length, names.length);
+        assertEquals(browseNames, ImmutableSet.copyOf(names));
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.server.CountingNamespace;
+import org.eclipse.milo.opcua.sdk.server.ServerFixture;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class AttributeReadsTest extends ServerFixture {
+
+    private CountingNamespace namespaceA;
+    private CountingNamespace namespaceB;
+
+    private UaVariableNode a1;
+    private UaVariableNode a2;
+    private UaVariableNode b1;
+
+    @BeforeClass
+    public void addNamespaces() {
+        namespaceA = addCountingNamespace("urn:eclipse:milo:test:a");
+        namespaceB = addCountingNamespace("urn:eclipse:milo:test:b");
+
+        a1 = addVariableNode(namespaceA.getNamespaceIndex(), "a1", 1);
+        a2 = addVariableNode(namespaceA.getNamespaceIndex(), "a2", 2);
+        b1 = addVariableNode(namespaceB.getNamespaceIndex(), "b1", 3);
+    }
+
+    @BeforeMethod
+    public void resetNamespaces() {
+        namespaceA.clearReads();
+        namespaceB.clearReads();
+        namespaceA.setDroppedValueCount(0);
+        namespaceB.setDroppedValueCount(0);
+    }
+
+    @Test
+    public void testOneReadPerNamespace() throws Exception {
+        AttributeReads reads = new AttributeReads(server, null);
+
+        CompletableFuture<List<DataValue>> fa1 =
+            reads.read(a1.getNodeId(), AttributeId.BrowseName, AttributeId.Value);
+        CompletableFuture<List<DataValue>> fb1 =
+            reads.read(b1.getNodeId(), AttributeId.BrowseName, AttributeId.Value);
+        CompletableFuture<List<DataValue>> fa2 =
+            reads.read(a2.getNodeId(), AttributeId.BrowseName, AttributeId.Value);
+
+        reads.execute();
+
+        assertEquals(namespaceA.getReads().size(), 1);
+        assertEquals(namespaceA.getReads().get(0).size(), 4);
+        assertEquals(namespaceB.getReads().size(), 1);
+        assertEquals(namespaceB.getReads().get(0).size(), 2);
+
+        assertValues(fa1.get(5, TimeUnit.SECONDS), a1, 1);
+        assertValues(fa2.get(5, TimeUnit.SECONDS), a2, 2);
+        assertValues(fb1.get(5, TimeUnit.SECONDS), b1, 3);
+    }
+
+    @Test
+    public void testShortResultFailsAffectedReads() throws Exception {
+        namespaceA.setDroppedValueCount(1);
+
+        AttributeReads reads = new AttributeReads(server, null);
+
+        CompletableFuture<List<DataValue>> fa1 =
+            reads.read(a1.getNodeId(), AttributeId.BrowseName, AttributeId.Value);
+        CompletableFuture<List<DataValue>> fa2 =
+            reads.read(a2.getNodeId(), AttributeId.BrowseName, AttributeId.Value);
+        CompletableFuture<List<DataValue>> fb1 =
+            reads.read(b1.getNodeId(), AttributeId.BrowseName, AttributeId.Value);
+
+        reads.execute();
+
+        assertValues(fa1.get(5, TimeUnit.SECONDS), a1, 1);
+        assertValues(fb1.get(5, TimeUnit.SECONDS), b1, 3);
+
+        try {
+            fa2.get(5, TimeUnit.SECONDS);
+            fail("expected a short result to fail the read");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof UaException);
+            assertEquals(((UaException) e.getCause()).getStatusCode().getValue(), StatusCodes.Bad_InternalError);
+        }
+    }
+
+    private static void assertValues(List<DataValue> values, UaVariableNode node, Object value) {
+        assertEquals(values.size(), 2);
+        assertEquals(values.get(0).getValue().getValue(), node.getBrowseName());
+        assertEquals(values.get(1).getValue().getValue(), value);
+    }
+
+}
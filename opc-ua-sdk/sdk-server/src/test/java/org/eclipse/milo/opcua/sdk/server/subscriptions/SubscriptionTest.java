@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import org.eclipse.milo.opcua.sdk.server.ServerFixture;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.items.BaseMonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.items.MonitoredDataItem;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.application.services.ServiceRequest;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Drives a {@link Subscription} through its state table by hand: Publish requests go straight to the
+ * {@link PublishQueue} and the publishing timer is fired by calling {@link Subscription#onPublishingTimer()}. The
+ * publishing interval is the maximum, so the real timer never fires during a test.
+ */
+public class SubscriptionTest extends ServerFixture {
+
+    private Session session;
+    private SubscriptionManager subscriptionManager;
+
+    private long requestHandle = 0L;
+
+    @BeforeMethod
+    public void createSession() {
+        session = new Session(server, new NodeId(1, "session"), "test", Duration.ofHours(1), 0L);
+        subscriptionManager = session.getSubscriptionManager();
+    }
+
+    @Test
+    public void testKeepAliveWhenNoItemsAreDirty() throws Exception {
+        Subscription subscription = createSubscription(0);
+
+        // Never given a value, so it's drained from the dirty queue without being reported.
+        subscription.addMonitoredItems(ImmutableList.<BaseMonitoredItem<?>>of(createItem(1, MonitoringMode.Reporting)));
+
+        ServiceRequest<PublishRequest, PublishResponse> service = publish();
+        assertFalse(service.getFuture().isDone());
+
+        subscription.onPublishingTimer();
+
+        PublishResponse response = service.getFuture().get();
+        assertEquals(response.getNotificationMessage().getNotificationData().length, 0);
+        assertFalse(response.getMoreNotifications());
+    }
+
+    @Test
+    public void testMaxNotificationsPerPublishLeavesItemsForNextPublish() throws Exception {
+        Subscription subscription = createSubscription(2);
+
+        MonitoredDataItem item1 = createItem(1, MonitoringMode.Reporting);
+        MonitoredDataItem item2 = createItem(2, MonitoringMode.Reporting);
+        MonitoredDataItem item3 = createItem(3, MonitoringMode.Reporting);
+        subscription.addMonitoredItems(ImmutableList.<BaseMonitoredItem<?>>of(item1, item2, item3));
+
+        item1.setValue(new DataValue(new Variant(1)));
+        item2.setValue(new DataValue(new Variant(2)));
+        item3.setValue(new DataValue(new Variant(3)));
+
+        ServiceRequest<PublishRequest, PublishResponse> first = publish();
+        subscription.onPublishingTimer();
+
+        PublishResponse firstResponse = first.getFuture().get();
+        Set<Long> firstHandles = clientHandles(firstResponse);
+        assertEquals(firstHandles.size(), 2);
+        assertTrue(firstResponse.getMoreNotifications());
+
+        // The subscription is wait-listed, so the next Publish is answered without waiting for the timer.
+        ServiceRequest<PublishRequest, PublishResponse> second = publish();
+        assertTrue(second.getFuture().isDone());
+
+        PublishResponse secondResponse = second.getFuture().get();
+        Set<Long> secondHandles = clientHandles(secondResponse);
+        assertEquals(secondHandles.size(), 1);
+        assertFalse(secondResponse.getMoreNotifications());
+
+        Set<Long> allHandles = new HashSet<>(firstHandles);
+        allHandles.addAll(secondHandles);
+        assertEquals(allHandles, new HashSet<>(ImmutableList.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void testTriggeredItemIsReportedWithItsTrigger() throws Exception {
+        Subscription subscription = createSubscription(0);
+
+        MonitoredDataItem triggering = createItem(1, MonitoringMode.Reporting);
+        MonitoredDataItem triggered = createItem(2, MonitoringMode.Sampling);
+        triggering.getTriggeredItems().put(triggered.getId(), triggered);
+        subscription.addMonitoredItems(ImmutableList.<BaseMonitoredItem<?>>of(triggering, triggered));
+
+        // A sampled value alone doesn't make the triggered item reportable...
+        triggered.setValue(new DataValue(new Variant(2)));
+
+        ServiceRequest<PublishRequest, PublishResponse> first = publish();
+        subscription.onPublishingTimer();
+
+        assertEquals(first.getFuture().get().getNotificationMessage().getNotificationData().length, 0);
+
+        // ...but a change on the triggering item reports both.
+        ServiceRequest<PublishRequest, PublishResponse> second = publish();
+        triggering.setValue(new DataValue(new Variant(1)));
+        subscription.onPublishingTimer();
+
+        assertEquals(clientHandles(second.getFuture().get()), new HashSet<>(ImmutableList.of(1L, 2L)));
+    }
+
+    @Test
+    public void testItemDeletedWhileDirtyIsNotReported() throws Exception {
+        Subscription subscription = createSubscription(0);
+
+        MonitoredDataItem item = createItem(1, MonitoringMode.Reporting);
+        subscription.addMonitoredItems(ImmutableList.<BaseMonitoredItem<?>>of(item));
+
+        item.setValue(new DataValue(new Variant(1)));
+        subscription.removeMonitoredItems(ImmutableList.<BaseMonitoredItem<?>>of(item));
+
+        ServiceRequest<PublishRequest, PublishResponse> service = publish();
+        subscription.onPublishingTimer();
+
+        PublishResponse response = service.getFuture().get();
+        assertEquals(response.getNotificationMessage().getNotificationData().length, 0);
+        assertFalse(response.getMoreNotifications());
+    }
+
+    private Subscription createSubscription(long maxNotificationsPerPublish) {
+        return new Subscription(
+            subscriptionManager,
+            uint(1),
+            60 * 1000.0,
+            3L,
+            10L,
+            maxNotificationsPerPublish,
+            true,
+            0
+        );
+    }
+
+    private MonitoredDataItem createItem(long id, MonitoringMode monitoringMode) throws UaException {
+        ReadValueId readValueId = new ReadValueId(
+            new NodeId(1, "item" + id),
+            AttributeId.Value.uid(),
+            null,
+            QualifiedName.NULL_VALUE
+        );
+
+        return new MonitoredDataItem(
+            uint(id),
+            uint(1),
+            readValueId,
+            monitoringMode,
+            TimestampsToReturn.Both,
+            uint(id),
+            0.0,
+            null,
+            uint(1),
+            true
+        );
+    }
+
+    private ServiceRequest<PublishRequest, PublishResponse> publish() {
+        RequestHeader header = new RequestHeader(
+            null, DateTime.now(), uint(++requestHandle), uint(0), null, uint(0), null);
+
+        PublishRequest request = new PublishRequest(header, new SubscriptionAcknowledgement[0]);
+
+        ServiceRequest<PublishRequest, PublishResponse> service =
+            new ServiceRequest<>(request, requestHandle, null, null);
+
+        subscriptionManager.getPublishQueue().addRequest(service);
+
+        return service;
+    }
+
+    private static Set<Long> clientHandles(PublishResponse response) {
+        Set<Long> handles = new HashSet<>();
+
+        for (ExtensionObject xo : response.getNotificationMessage().getNotificationData()) {
+            Object notification = xo.decode();
+
+            if (notification instanceof DataChangeNotification) {
+                for (MonitoredItemNotification n : ((DataChangeNotification) notification).getMonitoredItems()) {
+                    handles.add(n.getClientHandle().longValue());
+                }
+            }
+        }
+
+        return handles;
+    }
+
+}
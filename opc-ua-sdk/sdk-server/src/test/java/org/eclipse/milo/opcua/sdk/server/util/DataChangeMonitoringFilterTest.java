@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DataChangeTrigger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.DeadbandType;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeFilter;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DataChangeMonitoringFilterTest {
+
+    @Test
+    public void testResultsMatchFilter() {
+        DataChangeFilter none = new DataChangeFilter(
+            DataChangeTrigger.StatusValue, uint(DeadbandType.None.getValue()), 0.0);
+        DataChangeFilter absolute = new DataChangeFilter(
+            DataChangeTrigger.StatusValue, uint(DeadbandType.Absolute.getValue()), 5.0);
+        DataChangeFilter absoluteCopy = new DataChangeFilter(
+            DataChangeTrigger.StatusValue, uint(DeadbandType.Absolute.getValue()), 5.0);
+
+        DataValue last = new DataValue(new Variant(1.0));
+        DataValue current = new DataValue(new Variant(2.0));
+
+        DataChangeMonitoringFilter.Results results = new DataChangeMonitoringFilter.Results();
+
+        assertTrue(results.filter(last, current, none));
+        assertFalse(results.filter(last, current, absolute));
+        assertFalse(results.filter(last, current, absoluteCopy));
+        assertTrue(results.filter(null, current, absolute));
+
+        results.clear();
+
+        assertTrue(results.filter(last, new DataValue(new Variant(10.0)), absolute));
+    }
+
+}
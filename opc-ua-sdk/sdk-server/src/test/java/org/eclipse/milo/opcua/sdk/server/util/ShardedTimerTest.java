@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.util.Timeout;
+import org.eclipse.milo.opcua.sdk.server.util.ShardedTimer.ShardStatistics;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ShardedTimerTest {
+
+    private static final int SHARD_COUNT = 4;
+    private static final long TICK_MILLIS = 10L;
+
+    private ShardedTimer timer;
+
+    @BeforeMethod
+    public void createTimer() {
+        timer = new ShardedTimer(SHARD_COUNT, TICK_MILLIS, TimeUnit.MILLISECONDS, Runnable::run);
+    }
+
+    @AfterMethod
+    public void stopTimer() {
+        timer.stop();
+    }
+
+    @Test
+    public void testKeysAreSpreadAcrossShards() throws Exception {
+        int count = 1000;
+        CountDownLatch latch = new CountDownLatch(count);
+
+        for (int i = 1; i <= count; i++) {
+            timer.schedule(uint(i), latch::countDown, 1, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        List<ShardStatistics> statistics = timer.getShardStatistics();
+        assertEquals(statistics.size(), SHARD_COUNT);
+
+        long total = 0L;
+        for (ShardStatistics s : statistics) {
+            total += s.getExpiredCount();
+
+            assertTrue(s.getExpiredCount() >= count / SHARD_COUNT / 2, "expiredCount=" + s.getExpiredCount());
+        }
+        assertEquals(total, count);
+    }
+
+    @Test
+    public void testCancelledTimerDoesNotRun() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean(false);
+
+        Timeout timeout = timer.schedule(uint(1), () -> ran.set(true), 100, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+
+        Thread.sleep(300);
+
+        assertFalse(ran.get());
+        assertEquals(timer.getShardStatistics().stream().mapToLong(ShardStatistics::getExpiredCount).sum(), 0L);
+    }
+
+    @Test
+    public void testTimersExpireWithinATickOfTheirDeadline() throws Exception {
+        long delay = TimeUnit.MILLISECONDS.toNanos(50);
+        long slack = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS + 40);
+
+        for (int i = 0; i < 10; i++) {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicLong expired = new AtomicLong();
+
+            long start = System.nanoTime();
+
+            timer.schedule(uint(i), () -> {
+                expired.set(System.nanoTime());
+                latch.countDown();
+            }, delay, TimeUnit.NANOSECONDS);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+            long elapsed = expired.get() - start;
+            assertTrue(elapsed >= delay, "elapsed=" + elapsed);
+            assertTrue(elapsed < delay + slack, "elapsed=" + elapsed);
+        }
+
+        for (ShardStatistics s : timer.getShardStatistics()) {
+            assertTrue(s.getMaxLatenessNanos() >= s.getAverageLatenessNanos());
+            assertTrue(s.getMaxLatenessNanos() < slack, "maxLateness=" + s.getMaxLatenessNanos());
+        }
+    }
+
+}
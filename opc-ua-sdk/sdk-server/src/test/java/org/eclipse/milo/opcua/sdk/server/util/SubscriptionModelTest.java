@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.server.CountingNamespace;
+import org.eclipse.milo.opcua.sdk.server.ServerFixture;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.delegates.AttributeDelegate;
+import org.eclipse.milo.opcua.sdk.server.util.SubscriptionModel.SamplingStatistics;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class SubscriptionModelTest extends ServerFixture {
+
+    private CountingNamespace namespace;
+    private SubscriptionModel model;
+
+    private UaVariableNode storedNode;
+    private UaVariableNode delegatedNode;
+
+    @BeforeClass
+    public void addNamespace() {
+        namespace = addCountingNamespace("urn:eclipse:milo:test:subscription-model");
+
+        for (String name : new String[]{"a", "b", "c", "d"}) {
+            addVariableNode(namespace.getNamespaceIndex(), name, 0);
+        }
+
+        storedNode = addVariableNode(namespace.getNamespaceIndex(), "stored", 0);
+
+        delegatedNode = addVariableNode(namespace.getNamespaceIndex(), "delegated", 0);
+        delegatedNode.setAttributeDelegate(new AttributeDelegate() {});
+    }
+
+    @BeforeMethod
+    public void createModel() {
+        model = new SubscriptionModel(server, namespace);
+    }
+
+    @Test
+    public void testFixedRateSampling() throws Exception {
+        NodeId nodeId = nodeId("a");
+        TestDataItem item = new TestDataItem(1, nodeId, 50.0);
+
+        long before = readCount(nodeId);
+        model.onDataItemsCreated(singletonList(item));
+
+        Thread.sleep(1000);
+
+        SamplingStatistics statistics = model.getSamplingStatistics().get(50L);
+        model.onDataItemsDeleted(singletonList(item));
+
+        // One sample when the item is created, then one every 50ms. The timer's ticks make every sample a little
+        // late; if that lateness accumulated there would be noticeably fewer samples.
+        long reads = readCount(nodeId) - before;
+        assertTrue(reads >= 18 && reads <= 22, "reads=" + reads);
+
+        assertNotNull(statistics);
+        assertTrue(statistics.getSampleCount() >= 18, "sampleCount=" + statistics.getSampleCount());
+        assertTrue(statistics.getMaxLatenessNanos() >= statistics.getAverageLatenessNanos());
+        assertTrue(statistics.getAverageLatenessNanos() < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testChangesDoNotRescheduleOtherItems() throws Exception {
+        NodeId nodeId = nodeId("b");
+        TestDataItem item = new TestDataItem(1, nodeId, 50.0);
+
+        model.onDataItemsCreated(singletonList(item));
+        Thread.sleep(100);
+
+        long before = readCount(nodeId);
+        long start = System.nanoTime();
+
+        // Add, modify and delete other items in the same and in other sampling intervals. None of this should
+        // cause the first item to be sampled any sooner or more often.
+        int id = 2;
+        while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500)) {
+            TestDataItem other = new TestDataItem(id++, nodeId("c"), 50.0);
+
+            model.onDataItemsCreated(singletonList(other));
+            other.samplingInterval = 100.0;
+            model.onDataItemsModified(singletonList(other));
+            model.onDataItemsDeleted(singletonList(other));
+
+            Thread.sleep(5);
+        }
+
+        long reads = readCount(nodeId) - before;
+        model.onDataItemsDeleted(singletonList(item));
+
+        assertTrue(reads >= 8 && reads <= 12, "reads=" + reads);
+    }
+
+    @Test
+    public void testItemsReadingTheSameValueShareReads() throws Exception {
+        NodeId nodeId = nodeId("d");
+
+        List<DataItem> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new TestDataItem(i, nodeId, 100.0));
+        }
+
+        model.onDataItemsCreated(items);
+        Thread.sleep(350);
+
+        SamplingStatistics statistics = model.getSamplingStatistics().get(100L);
+        model.onDataItemsDeleted(items);
+        Thread.sleep(200);
+
+        assertNotNull(statistics);
+
+        long performed = statistics.getPerformedReadCount();
+        assertTrue(performed >= 3, "performed=" + performed);
+        assertEquals(statistics.getRequestedReadCount(), performed * items.size());
+
+        for (List<ReadValueId> ids : namespace.getReads()) {
+            long count = ids.stream().filter(id -> id.getNodeId().equals(nodeId)).count();
+
+            assertTrue(count <= 1, "count=" + count);
+        }
+
+        for (DataItem item : items) {
+            assertEquals(((TestDataItem) item).values.size(), performed);
+        }
+    }
+
+    @Test
+    public void testEventDrivenDelivery() throws Exception {
+        SubscriptionModel eventDrivenModel = new SubscriptionModel(server, namespace, true);
+
+        TestDataItem item = new TestDataItem(1, storedNode.getNodeId(), 100.0);
+        long before = readCount(storedNode.getNodeId());
+
+        eventDrivenModel.onDataItemsCreated(singletonList(item));
+        awaitValues(item, 1);
+
+        assertEquals(eventDrivenModel.getEventDrivenItemCount(), 1);
+
+        Thread.sleep(150);
+        storedNode.setValue(new DataValue(new Variant(42)));
+        awaitValues(item, 2);
+
+        assertEquals(item.values.get(1).getValue().getValue(), 42);
+        assertNotEquals(item.threads.get(1), Thread.currentThread());
+
+        // Only the initial value is read; the item is not sampled.
+        Thread.sleep(300);
+        assertEquals(readCount(storedNode.getNodeId()) - before, 1L);
+
+        eventDrivenModel.onDataItemsDeleted(singletonList(item));
+    }
+
+    @Test
+    public void testEventDrivenDeliveryIsRateLimited() throws Exception {
+        SubscriptionModel eventDrivenModel = new SubscriptionModel(server, namespace, true);
+
+        TestDataItem item = new TestDataItem(1, storedNode.getNodeId(), 200.0);
+
+        eventDrivenModel.onDataItemsCreated(singletonList(item));
+        awaitValues(item, 1);
+
+        // Changes within one interval of the initial value are coalesced into a single delivery of the latest.
+        for (int i = 1; i <= 10; i++) {
+            storedNode.setValue(new DataValue(new Variant(i)));
+        }
+
+        awaitValues(item, 2);
+        Thread.sleep(400);
+
+        assertEquals(item.values.size(), 2);
+        assertEquals(item.values.get(1).getValue().getValue(), 10);
+
+        eventDrivenModel.onDataItemsDeleted(singletonList(item));
+    }
+
+    @Test
+    public void testDelegatedNodeIsSampled() throws Exception {
+        SubscriptionModel eventDrivenModel = new SubscriptionModel(server, namespace, true);
+
+        TestDataItem item = new TestDataItem(1, delegatedNode.getNodeId(), 50.0);
+        long before = readCount(delegatedNode.getNodeId());
+
+        eventDrivenModel.onDataItemsCreated(singletonList(item));
+        Thread.sleep(300);
+
+        assertEquals(eventDrivenModel.getEventDrivenItemCount(), 0);
+
+        long reads = readCount(delegatedNode.getNodeId()) - before;
+        assertTrue(reads >= 4, "reads=" + reads);
+
+        eventDrivenModel.onDataItemsDeleted(singletonList(item));
+    }
+
+    private static void awaitValues(TestDataItem item, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (item.values.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertTrue(item.values.size() >= count, "values=" + item.values.size());
+    }
+
+    private NodeId nodeId(String name) {
+        return new NodeId(namespace.getNamespaceIndex(), name);
+    }
+
+    /**
+     * @return the number of reads so far that included the Value of {@code nodeId}.
+     */
+    private long readCount(NodeId nodeId) {
+        return namespace.getReads().stream()
+            .filter(ids -> ids.stream().anyMatch(id -> id.getNodeId().equals(nodeId)))
+            .count();
+    }
+
+    private static class TestDataItem implements DataItem {
+
+        private final List<DataValue> values = new CopyOnWriteArrayList<>();
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        private volatile double samplingInterval;
+        private volatile boolean samplingEnabled = true;
+
+        private final UInteger id;
+        private final ReadValueId readValueId;
+
+        private TestDataItem(long id, NodeId nodeId, double samplingInterval) {
+            this.id = uint(id);
+            this.samplingInterval = samplingInterval;
+
+            readValueId = new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+        }
+
+        @Override
+        public void setValue(DataValue value) {
+            threads.add(Thread.currentThread());
+            values.add(value);
+        }
+
+        @Override
+        public void setQuality(StatusCode quality) {}
+
+        @Override
+        public double getSamplingInterval() {
+            return samplingInterval;
+        }
+
+        @Override
+        public UInteger getId() {
+            return id;
+        }
+
+        @Override
+        public UInteger getSubscriptionId() {
+            return uint(0);
+        }
+
+        @Override
+        public ReadValueId getReadValueId() {
+            return readValueId;
+        }
+
+        @Override
+        public TimestampsToReturn getTimestampsToReturn() {
+            return TimestampsToReturn.Both;
+        }
+
+        @Override
+        public boolean isSamplingEnabled() {
+            return samplingEnabled;
+        }
+
+    }
+
+}
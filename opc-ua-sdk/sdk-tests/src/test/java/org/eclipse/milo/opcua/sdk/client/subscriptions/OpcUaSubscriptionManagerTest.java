@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.client.api.config.OpcUaClientConfig;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.stack.core.serialization.DataTypeEncoding;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.jooq.lambda.tuple.Tuple2;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Pushes PublishResponses whose notification data are retained slices of a pooled buffer through an
+ * {@link OpcUaSubscriptionManager}, as a client with retained ExtensionObject bodies enabled receives them, and
+ * checks that none of them keeps the buffer allocated. The client is never connected.
+ */
+public class OpcUaSubscriptionManagerTest {
+
+    private ResourceLeakDetector.Level leakDetectionLevel;
+
+    private OpcUaClient client;
+    private OpcUaSubscriptionManager subscriptionManager;
+    private OpcUaSubscription subscription;
+
+    private ByteBuf buffer;
+
+    @BeforeClass
+    public void createClient() {
+        leakDetectionLevel = ResourceLeakDetector.getLevel();
+        ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+
+        OpcUaClientConfig config = OpcUaClientConfig.builder()
+            .setApplicationName(LocalizedText.english("subscription manager test"))
+            .setEndpointUrl("opc.tcp://localhost:12685/test")
+            .setRetainedExtensionObjectBodiesEnabled(true)
+            .build();
+
+        client = new OpcUaClient(config);
+    }
+
+    @AfterClass
+    public void restoreLeakDetectionLevel() {
+        ResourceLeakDetector.setLevel(leakDetectionLevel);
+    }
+
+    @BeforeMethod
+    public void createSubscription() {
+        subscriptionManager = new OpcUaSubscriptionManager(client);
+
+        subscription = new OpcUaSubscription(
+            client, uint(1), 1000.0, uint(30), uint(10), uint(0), true, ubyte(0));
+
+        subscriptionManager.addSubscription(subscription);
+
+        buffer = PooledByteBufAllocator.DEFAULT.buffer();
+    }
+
+    @Test
+    public void testDeliveredNotificationDataIsReleasedOnReceipt() throws Exception {
+        CompletableFuture<List<Tuple2<UaMonitoredItem, DataValue>>> delivered = awaitDataChange();
+
+        subscriptionManager.pauseDelivery();
+        subscriptionManager.onPublishResponse(publishResponse(uint(1), 1L, dataChange(42)));
+
+        // Only the test's own reference remains, although delivery hasn't happened yet.
+        assertEquals(buffer.refCnt(), 1);
+
+        subscriptionManager.resumeDelivery();
+        delivered.get(5, TimeUnit.SECONDS);
+
+        buffer.release();
+    }
+
+    @Test
+    public void testDroppedNotificationDataIsReleased() throws Exception {
+        subscriptionManager.onPublishResponse(publishResponse(uint(2), 1L, dataChange(42), dataChange(43)));
+
+        assertEquals(buffer.refCnt(), 1);
+
+        buffer.release();
+    }
+
+    @Test
+    public void testUndecodableNotificationDataIsReleased() throws Exception {
+        CompletableFuture<List<Tuple2<UaMonitoredItem, DataValue>>> delivered = awaitDataChange();
+
+        // Too short to be a ReadValueId, let alone a notification.
+        ExtensionObject undecodable = retainedBody(new byte[]{1, 2, 3, 4}, ReadValueId.BinaryEncodingId);
+
+        subscriptionManager.onPublishResponse(publishResponse(uint(1), 1L, undecodable, dataChange(42)));
+
+        assertEquals(buffer.refCnt(), 1);
+
+        // The notification after the undecodable one is still delivered.
+        delivered.get(5, TimeUnit.SECONDS);
+
+        buffer.release();
+    }
+
+    private CompletableFuture<List<Tuple2<UaMonitoredItem, DataValue>>> awaitDataChange() {
+        CompletableFuture<List<Tuple2<UaMonitoredItem, DataValue>>> future = new CompletableFuture<>();
+
+        subscription.addNotificationListener(new UaSubscription.NotificationListener() {
+            @Override
+            public void onDataChangeNotification(UaSubscription subscription,
+                                                 List<Tuple2<UaMonitoredItem, DataValue>> itemValues,
+                                                 DateTime publishTime) {
+
+                future.complete(itemValues);
+            }
+        });
+
+        return future;
+    }
+
+    private ExtensionObject dataChange(int value) {
+        DataChangeNotification notification = new DataChangeNotification(
+            new MonitoredItemNotification[]{
+                new MonitoredItemNotification(uint(1), new DataValue(new Variant(value)))
+            },
+            null
+        );
+
+        byte[] body = DataTypeEncoding.OPC_UA
+            .encodeToByteString(notification, DataChangeNotification.BinaryEncodingId)
+            .bytes();
+
+        return retainedBody(body, DataChangeNotification.BinaryEncodingId);
+    }
+
+    /**
+     * Write {@code body} to the buffer and return an {@link ExtensionObject} holding a retained slice of it, as a
+     * decoder with retained bodies enabled would.
+     */
+    private ExtensionObject retainedBody(byte[] body, NodeId encodingTypeId) {
+        int index = buffer.writerIndex();
+        buffer.writeBytes(body);
+
+        return ExtensionObject.fromRetainedBody(buffer.slice(index, body.length).retain(), encodingTypeId);
+    }
+
+    private static PublishResponse publishResponse(UInteger subscriptionId,
+                                                   long sequenceNumber,
+                                                   ExtensionObject... notificationData) {
+
+        ResponseHeader header = new ResponseHeader(
+            DateTime.now(), uint(0), StatusCode.GOOD, null, new String[0], null);
+
+        NotificationMessage notificationMessage = new NotificationMessage(
+            uint(sequenceNumber), DateTime.now(), notificationData);
+
+        return new PublishResponse(
+            header, subscriptionId, new UInteger[0], false,
+            notificationMessage, new StatusCode[0], null);
+    }
+
+}
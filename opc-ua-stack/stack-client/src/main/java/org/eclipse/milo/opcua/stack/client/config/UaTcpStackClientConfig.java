@@ -122,6 +122,31 @@ public interface UaTcpStackClientConfig {
      */
     boolean isSecureChannelReauthenticationEnabled();
 
+    /**
+     * Return {@code true} if binary ExtensionObject bodies in received messages should be kept as retained slices of
+     * the received buffer and decoded directly from it, rather than copied into a {@link
+     * org.eclipse.milo.opcua.stack.core.types.builtin.ByteString}.
+     * <p>
+     * Every such ExtensionObject must be decoded, or have
+     * {@link org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject#releaseBody()} called, or the received
+     * buffer it was sliced from is never returned to its pool.
+     *
+     * @return {@code true} if ExtensionObject bodies in received messages should be retained instead of copied.
+     */
+    boolean isRetainedExtensionObjectBodiesEnabled();
+
+    /**
+     * Return {@code true} if the chunks of received symmetric messages should be decrypted, verified and checked one
+     * at a time as they arrive, keeping slices of their plain text bodies until the final chunk arrives, rather than
+     * decoded together once the final chunk has arrived.
+     * <p>
+     * The decoding of received messages is then never spread across
+     * {@link ChannelConfig#getChunkCryptoPool() the chunk crypto pool}.
+     *
+     * @return {@code true} if received symmetric chunks should be decoded as they arrive.
+     */
+    boolean isStreamingDecodeEnabled();
+
     /**
      * @return a new {@link UaTcpStackClientConfigBuilder}.
      */
@@ -154,6 +179,8 @@ public interface UaTcpStackClientConfig {
         builder.setEventLoop(config.getEventLoop());
         builder.setWheelTimer(config.getWheelTimer());
         builder.setSecureChannelReauthenticationEnabled(config.isSecureChannelReauthenticationEnabled());
+        builder.setRetainedExtensionObjectBodiesEnabled(config.isRetainedExtensionObjectBodiesEnabled());
+        builder.setStreamingDecodeEnabled(config.isStreamingDecodeEnabled());
 
         return builder;
     }
@@ -48,6 +48,8 @@ public class UaTcpStackClientConfigBuilder {
     private HashedWheelTimer wheelTimer;
 
     private boolean secureChannelReauthenticationEnabled = true;
+    private boolean retainedExtensionObjectBodiesEnabled = false;
+    private boolean streamingDecodeEnabled = false;
 
     public UaTcpStackClientConfigBuilder setEndpointUrl(String endpointUrl) {
         this.endpointUrl = endpointUrl;
@@ -121,6 +123,18 @@ public class UaTcpStackClientConfigBuilder {
         return this;
     }
 
+    public UaTcpStackClientConfigBuilder setRetainedExtensionObjectBodiesEnabled(
+        boolean retainedExtensionObjectBodiesEnabled) {
+
+        this.retainedExtensionObjectBodiesEnabled = retainedExtensionObjectBodiesEnabled;
+        return this;
+    }
+
+    public UaTcpStackClientConfigBuilder setStreamingDecodeEnabled(boolean streamingDecodeEnabled) {
+        this.streamingDecodeEnabled = streamingDecodeEnabled;
+        return this;
+    }
+
     public UaTcpStackClientConfig build() {
         if (executor == null) {
             executor = Stack.sharedExecutor();
@@ -146,7 +160,9 @@ public class UaTcpStackClientConfigBuilder {
             executor,
             eventLoop,
             wheelTimer,
-            secureChannelReauthenticationEnabled);
+            secureChannelReauthenticationEnabled,
+            retainedExtensionObjectBodiesEnabled,
+            streamingDecodeEnabled);
     }
 
     public static class UaTcpStackClientConfigImpl implements UaTcpStackClientConfig {
@@ -168,6 +184,8 @@ public class UaTcpStackClientConfigBuilder {
         private final HashedWheelTimer wheelTimer;
 
         private final boolean secureChannelReauthenticationEnabled;
+        private final boolean retainedExtensionObjectBodiesEnabled;
+        private final boolean streamingDecodeEnabled;
 
         public UaTcpStackClientConfigImpl(
             @Nullable String endpointUrl,
@@ -183,7 +201,9 @@ public class UaTcpStackClientConfigBuilder {
             ExecutorService executor,
             NioEventLoopGroup eventLoop,
             HashedWheelTimer wheelTimer,
-            boolean secureChannelReauthenticationEnabled) {
+            boolean secureChannelReauthenticationEnabled,
+            boolean retainedExtensionObjectBodiesEnabled,
+            boolean streamingDecodeEnabled) {
 
             this.endpointUrl = endpointUrl;
             this.endpoint = endpoint;
@@ -199,6 +219,8 @@ public class UaTcpStackClientConfigBuilder {
             this.eventLoop = eventLoop;
             this.wheelTimer = wheelTimer;
             this.secureChannelReauthenticationEnabled = secureChannelReauthenticationEnabled;
+            this.retainedExtensionObjectBodiesEnabled = retainedExtensionObjectBodiesEnabled;
+            this.streamingDecodeEnabled = streamingDecodeEnabled;
         }
 
         @Override
@@ -279,6 +301,16 @@ public class UaTcpStackClientConfigBuilder {
             return secureChannelReauthenticationEnabled;
         }
 
+        @Override
+        public boolean isRetainedExtensionObjectBodiesEnabled() {
+            return retainedExtensionObjectBodiesEnabled;
+        }
+
+        @Override
+        public boolean isStreamingDecodeEnabled() {
+            return streamingDecodeEnabled;
+        }
+
     }
 
 }
@@ -196,9 +196,16 @@ public class UaTcpClientAcknowledgeHandler extends ByteToMessageCodec<UaRequestF
                 client.getConfig().getExecutor(),
                 parameters,
                 maxArrayLength,
-                maxStringLength
+                maxStringLength,
+                client.getChannelConfig().getChunkCryptoPool().orElse(null),
+                client.getConfig().isStreamingDecodeEnabled()
             );
 
+            if (client.getConfig().isRetainedExtensionObjectBodiesEnabled()) {
+                serializationQueue.decode((binaryDecoder, chunkDecoder) ->
+                    binaryDecoder.setRetainedBodiesEnabled(true));
+            }
+
             UaTcpClientMessageHandler handler = new UaTcpClientMessageHandler(
                 client,
                 secureChannel,
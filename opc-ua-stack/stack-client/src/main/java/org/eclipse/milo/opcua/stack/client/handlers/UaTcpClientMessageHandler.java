@@ -31,11 +31,13 @@ import io.netty.handler.codec.ByteToMessageCodec;
 import io.netty.util.AttributeKey;
 import io.netty.util.Timeout;
 import org.eclipse.milo.opcua.stack.client.UaTcpStackClient;
+import org.eclipse.milo.opcua.stack.client.config.UaTcpStackClientConfig;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.UaRuntimeException;
 import org.eclipse.milo.opcua.stack.core.UaServiceFaultException;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkedMessageBuffer;
 import org.eclipse.milo.opcua.stack.core.channel.ClientSecureChannel;
 import org.eclipse.milo.opcua.stack.core.channel.MessageAbortedException;
 import org.eclipse.milo.opcua.stack.core.channel.SerializationQueue;
@@ -47,6 +49,7 @@ import org.eclipse.milo.opcua.stack.core.channel.messages.TcpMessageDecoder;
 import org.eclipse.milo.opcua.stack.core.security.SecurityAlgorithm;
 import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
+import org.eclipse.milo.opcua.stack.core.serialization.binary.BinaryDecoder;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
@@ -78,6 +81,12 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
 
     private List<ByteBuf> chunkBuffers = new LinkedList<>();
 
+    /*
+     * Chunks of the current message handed to the decoding queue so far, when decoding chunks as they arrive; only
+     * accessed from the channel's event loop.
+     */
+    private int pendingChunkCount = 0;
+
     private final AtomicReference<AsymmetricSecurityHeader> headerRef = new AtomicReference<>();
 
     private ScheduledFuture renewFuture;
@@ -164,6 +173,11 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
         handshakeFuture.completeExceptionally(
             new UaException(StatusCodes.Bad_ConnectionClosed, "connection closed"));
 
+        if (pendingChunkCount > 0) {
+            pendingChunkCount = 0;
+            serializationQueue.decode((binaryDecoder, chunkDecoder) -> chunkDecoder.discardPendingChunks());
+        }
+
         super.channelInactive(ctx);
     }
 
@@ -282,13 +296,13 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
             ByteBuf messageBuffer = null;
 
             try {
-                messageBuffer = BufferUtil.buffer();
-                binaryEncoder.setBuffer(messageBuffer);
-                binaryEncoder.encodeMessage(null, request);
-
                 List<ByteBuf> chunks;
 
                 if (messageType == MessageType.OpenSecureChannel) {
+                    messageBuffer = BufferUtil.buffer();
+                    binaryEncoder.setBuffer(messageBuffer);
+                    binaryEncoder.encodeMessage(null, request);
+
                     chunks = chunkEncoder.encodeAsymmetric(
                         secureChannel,
                         messageType,
@@ -296,10 +310,15 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
                         requestIdSequence.getAndIncrement()
                     );
                 } else {
+                    ChunkedMessageBuffer chunkedBuffer = chunkEncoder.allocateSymmetricMessageBuffer(secureChannel);
+                    messageBuffer = chunkedBuffer;
+                    binaryEncoder.setBuffer(chunkedBuffer.order(ByteOrder.LITTLE_ENDIAN));
+                    binaryEncoder.encodeMessage(null, request);
+
                     chunks = chunkEncoder.encodeSymmetric(
                         secureChannel,
                         messageType,
-                        messageBuffer,
+                        chunkedBuffer,
                         requestIdSequence.getAndIncrement()
                     );
                 }
@@ -520,7 +539,9 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
                 "invalid secure channel id: " + secureChannelId);
         }
 
-        if (accumulateChunk(buffer)) {
+        if (serializationQueue.isStreamingDecode()) {
+            onSecureMessageChunk(ctx, buffer);
+        } else if (accumulateChunk(buffer)) {
             final List<ByteBuf> buffersToDecode = ImmutableList.copyOf(chunkBuffers);
             chunkBuffers = new LinkedList<>();
 
@@ -530,29 +551,9 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
                 try {
                     decodedBuffer = chunkDecoder.decodeSymmetric(secureChannel, buffersToDecode);
 
-                    binaryDecoder.setBuffer(decodedBuffer);
-                    UaResponseMessage response = binaryDecoder.decodeMessage(null);
-
-                    UaRequestFuture request = pending.remove(chunkDecoder.getLastRequestId());
-
-                    if (request != null) {
-                        request.getFuture().complete(response);
-                    } else {
-                        logger.warn("No UaRequestFuture for requestId={}", chunkDecoder.getLastRequestId());
-                    }
+                    receiveResponse(binaryDecoder, chunkDecoder.getLastRequestId(), decodedBuffer);
                 } catch (MessageAbortedException e) {
-                    logger.debug(
-                        "Received message abort chunk; error={}, reason={}",
-                        e.getStatusCode(), e.getMessage());
-
-                    UaRequestFuture request = pending.remove(chunkDecoder.getLastRequestId());
-
-                    if (request != null) {
-                        client.getExecutorService().execute(
-                            () -> request.getFuture().completeExceptionally(e));
-                    } else {
-                        logger.warn("No UaRequestFuture for requestId={}", chunkDecoder.getLastRequestId());
-                    }
+                    receiveAbort(chunkDecoder.getLastRequestId(), e);
                 } catch (Throwable t) {
                     logger.error("Error decoding symmetric message: {}", t.getMessage(), t);
                     serializationQueue.pause();
@@ -566,6 +567,88 @@ public class UaTcpClientMessageHandler extends ByteToMessageCodec<UaRequestFutur
         }
     }
 
+    /**
+     * Decode a chunk as soon as it arrives, if {@link UaTcpStackClientConfig#isStreamingDecodeEnabled()}; only slices
+     * of the plain text bodies of a message's chunks are retained until its final chunk arrives.
+     */
+    private void onSecureMessageChunk(ChannelHandlerContext ctx, ByteBuf buffer) throws UaException {
+        int maxChunkCount = serializationQueue.getParameters().getLocalMaxChunkCount();
+        int maxChunkSize = serializationQueue.getParameters().getLocalReceiveBufferSize();
+
+        int chunkSize = buffer.readerIndex(0).readableBytes();
+
+        if (chunkSize > maxChunkSize) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                String.format("max chunk size exceeded (%s)", maxChunkSize));
+        }
+
+        if (++pendingChunkCount > maxChunkCount) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                String.format("max chunk count exceeded (%s)", maxChunkCount));
+        }
+
+        char chunkType = (char) buffer.getByte(3);
+
+        if (chunkType == 'A' || chunkType == 'F') {
+            pendingChunkCount = 0;
+        }
+
+        final ByteBuf chunkBuffer = buffer.retain();
+
+        serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
+            ByteBuf decodedBuffer = null;
+
+            try {
+                decodedBuffer = chunkDecoder.decodeSymmetricChunk(secureChannel, chunkBuffer);
+
+                if (decodedBuffer != null) {
+                    receiveResponse(binaryDecoder, chunkDecoder.getLastRequestId(), decodedBuffer);
+                }
+            } catch (MessageAbortedException e) {
+                receiveAbort(chunkDecoder.getLastRequestId(), e);
+            } catch (Throwable t) {
+                logger.error("Error decoding symmetric message: {}", t.getMessage(), t);
+                chunkDecoder.discardPendingChunks();
+                serializationQueue.pause();
+                ctx.close();
+            } finally {
+                chunkBuffer.release();
+
+                if (decodedBuffer != null) {
+                    decodedBuffer.release();
+                }
+            }
+        });
+    }
+
+    private void receiveResponse(BinaryDecoder binaryDecoder, long requestId, ByteBuf decodedBuffer) {
+        binaryDecoder.setBuffer(decodedBuffer);
+        UaResponseMessage response = binaryDecoder.decodeMessage(null);
+
+        UaRequestFuture request = pending.remove(requestId);
+
+        if (request != null) {
+            request.getFuture().complete(response);
+        } else {
+            logger.warn("No UaRequestFuture for requestId={}", requestId);
+        }
+    }
+
+    private void receiveAbort(long requestId, MessageAbortedException e) {
+        logger.debug(
+            "Received message abort chunk; error={}, reason={}",
+            e.getStatusCode(), e.getMessage());
+
+        UaRequestFuture request = pending.remove(requestId);
+
+        if (request != null) {
+            client.getExecutorService().execute(
+                () -> request.getFuture().completeExceptionally(e));
+        } else {
+            logger.warn("No UaRequestFuture for requestId={}", requestId);
+        }
+    }
+
     private void onError(ChannelHandlerContext ctx, ByteBuf buffer) {
         try {
             ErrorMessage errorMessage = TcpMessageDecoder.decodeError(buffer);
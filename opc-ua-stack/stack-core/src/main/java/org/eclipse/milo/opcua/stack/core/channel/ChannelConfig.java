@@ -13,6 +13,10 @@
 
 package org.eclipse.milo.opcua.stack.core.channel;
 
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.Nullable;
+
 import com.google.common.base.Preconditions;
 
 public class ChannelConfig {
@@ -46,6 +50,7 @@ public class ChannelConfig {
     private final int maxMessageSize;
     private final int maxArrayLength;
     private final int maxStringLength;
+    private final ForkJoinPool chunkCryptoPool;
 
     /**
      * Create a {@link ChannelConfig} using the default parameters.
@@ -75,6 +80,23 @@ public class ChannelConfig {
                          int maxArrayLength,
                          int maxStringLength) {
 
+        this(maxChunkSize, maxChunkCount, maxMessageSize, maxArrayLength, maxStringLength, null);
+    }
+
+    /**
+     * @param maxChunkSize    The maximum size of a single chunk. Must be greater than or equal to 8192.
+     * @param maxChunkCount   The maximum number of chunks that a message can break down into.
+     * @param maxMessageSize  The maximum size of a message after all chunks have been assembled.
+     * @param chunkCryptoPool If non-null, the {@link ForkJoinPool} the signing/encryption and verification/decryption
+     *                        of the individual chunks of a multi-chunk symmetric message is spread across.
+     */
+    public ChannelConfig(int maxChunkSize,
+                         int maxChunkCount,
+                         int maxMessageSize,
+                         int maxArrayLength,
+                         int maxStringLength,
+                         @Nullable ForkJoinPool chunkCryptoPool) {
+
         Preconditions.checkArgument(maxChunkSize >= 8196,
             "maxChunkSize must be greater than or equal to 8196");
 
@@ -83,6 +105,7 @@ public class ChannelConfig {
         this.maxMessageSize = maxMessageSize;
         this.maxArrayLength = maxArrayLength;
         this.maxStringLength = maxStringLength;
+        this.chunkCryptoPool = chunkCryptoPool;
     }
 
     public int getMaxChunkSize() {
@@ -105,4 +128,12 @@ public class ChannelConfig {
         return maxStringLength;
     }
 
+    /**
+     * @return the {@link ForkJoinPool} chunk crypto is parallelized on, or empty if chunks of a message are secured
+     * sequentially.
+     */
+    public Optional<ForkJoinPool> getChunkCryptoPool() {
+        return Optional.ofNullable(chunkCryptoPool);
+    }
+
 }
@@ -22,9 +22,9 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.Nullable;
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
@@ -36,9 +36,7 @@ import org.eclipse.milo.opcua.stack.core.channel.headers.SecureMessageHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SequenceHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import org.eclipse.milo.opcua.stack.core.channel.messages.ErrorMessage;
-import org.eclipse.milo.opcua.stack.core.security.SecurityAlgorithm;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
-import org.eclipse.milo.opcua.stack.core.util.SignatureUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,10 +50,27 @@ public class ChunkDecoder {
     private volatile long lastSequenceNumber = -1L;
     private volatile long lastRequestId;
 
+    /*
+     * The plain text body of the symmetric message being decoded by decodeSymmetricChunk; only accessed from the
+     * decoding queue.
+     */
+    private CompositeByteBuf pendingBody;
+
     private final ChannelParameters parameters;
+    private final ForkJoinPool cryptoPool;
 
     public ChunkDecoder(ChannelParameters parameters) {
+        this(parameters, null);
+    }
+
+    /**
+     * @param parameters the {@link ChannelParameters} of the channel.
+     * @param cryptoPool if non-null, the {@link ForkJoinPool} the decryption and verification of the chunks of a
+     *                   multi-chunk symmetric message is spread across.
+     */
+    public ChunkDecoder(ChannelParameters parameters, @Nullable ForkJoinPool cryptoPool) {
         this.parameters = parameters;
+        this.cryptoPool = cryptoPool;
     }
 
     public ByteBuf decodeAsymmetric(SecureChannel channel, List<ByteBuf> chunkBuffers) throws UaException {
@@ -69,68 +84,178 @@ public class ChunkDecoder {
     private ByteBuf decode(Delegate delegate, SecureChannel channel, List<ByteBuf> chunkBuffers) throws UaException {
         CompositeByteBuf composite = BufferUtil.compositeBuffer();
 
-        int signatureSize = delegate.getSignatureSize(channel);
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
-
         boolean encrypted = delegate.isEncryptionEnabled(channel);
         boolean signed = delegate.isSigningEnabled(channel);
 
-        for (ByteBuf chunkBuffer : chunkBuffers) {
-            final char chunkType = (char) chunkBuffer.getByte(3);
+        int chunkCount = chunkBuffers.size();
+        ChannelSecurity.SecuritySecrets[] chunkSecrets = new ChannelSecurity.SecuritySecrets[chunkCount];
+        int[] encryptedStarts = new int[chunkCount];
+
+        /* Security headers are read in order, they select the keys each chunk was secured with. */
+        for (int i = 0; i < chunkCount; i++) {
+            ByteBuf chunkBuffer = chunkBuffers.get(i);
 
             chunkBuffer.skipBytes(SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE);
 
-            delegate.readSecurityHeader(channel, chunkBuffer);
+            chunkSecrets[i] = delegate.readSecurityHeader(channel, chunkBuffer);
+            encryptedStarts[i] = chunkBuffer.readerIndex();
+        }
 
-            if (encrypted) {
-                decryptChunk(delegate, channel, chunkBuffer);
-            }
+        /* Decryption and verification of each chunk is independent of the others. */
+        if (signed || encrypted) {
+            ForkJoinPool pool = delegate instanceof SymmetricDelegate ? cryptoPool : null;
+
+            ParallelChunks.forEach(chunkCount, pool, i -> {
+                ByteBuf chunkBuffer = chunkBuffers.get(i);
+
+                if (encrypted) {
+                    delegate.decryptChunk(channel, chunkSecrets[i], chunkBuffer);
+                }
+
+                if (signed) {
+                    chunkBuffer.readerIndex(0);
+
+                    delegate.verifyChunk(channel, chunkSecrets[i], chunkBuffer);
+                }
+            });
+        }
+
+        /* Sequence numbers are checked in order once the chunks are in plain text. */
+        for (int i = 0; i < chunkCount; i++) {
+            ByteBuf bodyBuffer = readChunkBody(delegate, channel, encryptedStarts[i], chunkBuffers.get(i));
+
+            composite.addComponent(bodyBuffer);
+            composite.writerIndex(composite.writerIndex() + bodyBuffer.readableBytes());
+        }
 
+        return composite.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Decode one chunk of a symmetric message as soon as it arrives.
+     * <p>
+     * The chunk is decrypted in place, verified and its sequence number checked, then a retained slice of its plain
+     * text body is added to the message being assembled. The caller still releases {@code chunkBuffer} when this
+     * returns; the slice keeps it allocated until the message is released.
+     *
+     * @param channel     the {@link SecureChannel} the chunk was received on.
+     * @param chunkBuffer the chunk, including its {@link SecureMessageHeader}.
+     * @return the decoded message if {@code chunkBuffer} was the final chunk, otherwise {@code null}.
+     * @throws MessageAbortedException if {@code chunkBuffer} was an abort chunk.
+     * @throws UaException             if the chunk could not be decoded; the partially assembled message is discarded.
+     */
+    @Nullable
+    public ByteBuf decodeSymmetricChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+        Delegate delegate = symmetricDelegate;
+
+        try {
+            chunkBuffer.skipBytes(SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE);
+
+            ChannelSecurity.SecuritySecrets securitySecrets = delegate.readSecurityHeader(channel, chunkBuffer);
             int encryptedStart = chunkBuffer.readerIndex();
-            chunkBuffer.readerIndex(0);
 
-            if (signed) {
-                delegate.verifyChunk(channel, chunkBuffer);
+            if (delegate.isEncryptionEnabled(channel)) {
+                delegate.decryptChunk(channel, securitySecrets, chunkBuffer);
             }
 
-            final int paddingSize = encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
-            final int bodyEnd = chunkBuffer.readableBytes() - signatureSize - paddingSize;
+            if (delegate.isSigningEnabled(channel)) {
+                chunkBuffer.readerIndex(0);
 
-            chunkBuffer.readerIndex(encryptedStart);
+                delegate.verifyChunk(channel, securitySecrets, chunkBuffer);
+            }
 
-            SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
-            long sequenceNumber = sequenceHeader.getSequenceNumber();
-            lastRequestId = sequenceHeader.getRequestId();
+            final char chunkType = (char) chunkBuffer.getByte(3);
 
-            if (lastSequenceNumber == -1) {
-                lastSequenceNumber = sequenceNumber;
-            } else {
-                if (lastSequenceNumber + 1 != sequenceNumber) {
-                    String message = String.format("expected sequence number %s but received %s",
-                        lastSequenceNumber + 1, sequenceNumber);
+            ByteBuf bodyBuffer = readChunkBody(delegate, channel, encryptedStart, chunkBuffer);
 
-                    logger.error(message);
-                    logger.error(ByteBufUtil.hexDump(chunkBuffer, 0, chunkBuffer.writerIndex()));
+            if (pendingBody == null) {
+                // Enough components that the message is never consolidated, which would copy every body after all.
+                int maxChunkCount = parameters.getLocalMaxChunkCount();
 
-                    throw new UaException(StatusCodes.Bad_SecurityChecksFailed, message);
-                }
+                pendingBody = BufferUtil.compositeBuffer(maxChunkCount > 0 ? maxChunkCount : Integer.MAX_VALUE);
+            }
+
+            pendingBody.addComponent(bodyBuffer.retain());
+            pendingBody.writerIndex(pendingBody.writerIndex() + bodyBuffer.readableBytes());
 
-                lastSequenceNumber = sequenceNumber;
+            if (chunkType == 'F') {
+                ByteBuf messageBuffer = pendingBody.order(ByteOrder.LITTLE_ENDIAN);
+                pendingBody = null;
+                return messageBuffer;
+            } else {
+                return null;
             }
+        } catch (UaException e) {
+            discardPendingChunks();
+            throw e;
+        }
+    }
+
+    /**
+     * Release the body of a partially decoded message, e.g. because the channel is closing.
+     */
+    public void discardPendingChunks() {
+        if (pendingBody != null) {
+            pendingBody.release();
+            pendingBody = null;
+        }
+    }
+
+    /**
+     * Check the sequence number of a plain text chunk and slice its body.
+     *
+     * @param encryptedStart the index the sequence header starts at.
+     * @return a slice of the body of {@code chunkBuffer}, excluding padding and signature.
+     * @throws MessageAbortedException if {@code chunkBuffer} is an abort chunk.
+     */
+    private ByteBuf readChunkBody(
+        Delegate delegate,
+        SecureChannel channel,
+        int encryptedStart,
+        ByteBuf chunkBuffer) throws UaException {
+
+        int signatureSize = delegate.getSignatureSize(channel);
+        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+        boolean encrypted = delegate.isEncryptionEnabled(channel);
+
+        final char chunkType = (char) chunkBuffer.getByte(3);
+
+        chunkBuffer.readerIndex(0);
 
-            ByteBuf bodyBuffer = chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
+        final int paddingSize = encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
+        final int bodyEnd = chunkBuffer.readableBytes() - signatureSize - paddingSize;
 
-            if (chunkType == 'A') {
-                ErrorMessage errorMessage = ErrorMessage.decode(bodyBuffer);
+        chunkBuffer.readerIndex(encryptedStart);
 
-                throw new MessageAbortedException(errorMessage.getError(), errorMessage.getReason());
+        SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
+        long sequenceNumber = sequenceHeader.getSequenceNumber();
+        lastRequestId = sequenceHeader.getRequestId();
+
+        if (lastSequenceNumber == -1) {
+            lastSequenceNumber = sequenceNumber;
+        } else {
+            if (lastSequenceNumber + 1 != sequenceNumber) {
+                String message = String.format("expected sequence number %s but received %s",
+                    lastSequenceNumber + 1, sequenceNumber);
+
+                logger.error(message);
+                logger.error(ByteBufUtil.hexDump(chunkBuffer, 0, chunkBuffer.writerIndex()));
+
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, message);
             }
 
-            composite.addComponent(bodyBuffer);
-            composite.writerIndex(composite.writerIndex() + bodyBuffer.readableBytes());
+            lastSequenceNumber = sequenceNumber;
         }
 
-        return composite.order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuf bodyBuffer = chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
+
+        if (chunkType == 'A') {
+            ErrorMessage errorMessage = ErrorMessage.decode(bodyBuffer);
+
+            throw new MessageAbortedException(errorMessage.getError(), errorMessage.getReason());
+        }
+
+        return bodyBuffer;
     }
 
     /**
@@ -140,8 +265,21 @@ public class ChunkDecoder {
         return lastRequestId;
     }
 
-    private void decryptChunk(Delegate delegate, SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+    /**
+     * Decrypt the cipher text between the reader and writer index of {@code chunkBuffer} into a separate buffer and
+     * write the plain text back, leaving the writer index at the end of the plain text.
+     *
+     * @param blockByBlock {@code true} if each cipher text block must be decrypted with its own
+     *                     {@link Cipher#doFinal(ByteBuffer, ByteBuffer)} call, as with RSA.
+     */
+    private static void decryptChunkWithCopy(
+        Cipher cipher,
+        int cipherTextBlockSize,
+        boolean blockByBlock,
+        ByteBuf chunkBuffer) throws GeneralSecurityException {
+
+        assert (chunkBuffer.readableBytes() % cipherTextBlockSize == 0);
+
         int blockCount = chunkBuffer.readableBytes() / cipherTextBlockSize;
 
         int plainTextBufferSize = cipherTextBlockSize * blockCount;
@@ -155,11 +293,7 @@ public class ChunkDecoder {
         ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer();
 
         try {
-            Cipher cipher = delegate.getCipher(channel);
-
-            assert (chunkBuffer.readableBytes() % cipherTextBlockSize == 0);
-
-            if (delegate instanceof AsymmetricDelegate) {
+            if (blockByBlock) {
                 for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
                     chunkNioBuffer.limit(chunkNioBuffer.position() + cipherTextBlockSize);
 
@@ -168,17 +302,31 @@ public class ChunkDecoder {
             } else {
                 cipher.doFinal(chunkNioBuffer, plainTextNioBuffer);
             }
-        } catch (GeneralSecurityException e) {
-            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+
+            /* Write plainTextBuffer back into the chunk buffer we decrypted from. */
+            plainTextNioBuffer.flip(); // limit = pos, pos = 0
+
+            chunkBuffer.writerIndex(chunkBuffer.readerIndex());
+            chunkBuffer.writeBytes(plainTextNioBuffer);
+        } finally {
+            plainTextBuffer.release();
         }
+    }
 
-        /* Write plainTextBuffer back into the chunk buffer we decrypted from. */
-        plainTextNioBuffer.flip(); // limit = pos, pos = 0
+    /**
+     * Decrypt the cipher text between the reader and writer index of {@code chunkBuffer} directly into the buffer it
+     * was received in.
+     * <p>
+     * Only possible when plain text and cipher text are the same size, as with symmetric encryption; the reader and
+     * writer indices of {@code chunkBuffer} are left unchanged.
+     */
+    private static void decryptChunkInPlace(Cipher cipher, ByteBuf chunkBuffer) throws GeneralSecurityException {
+        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer();
+        ByteBuffer cipherTextNioBuffer = chunkNioBuffer.duplicate();
 
-        chunkBuffer.writerIndex(chunkBuffer.readerIndex());
-        chunkBuffer.writeBytes(plainTextNioBuffer);
+        int bytesWritten = cipher.doFinal(cipherTextNioBuffer, chunkNioBuffer);
 
-        plainTextBuffer.release();
+        assert (bytesWritten == chunkBuffer.readableBytes());
     }
 
     private int getPaddingSize(int cipherTextBlockSize, int signatureSize, ByteBuf buffer) {
@@ -190,15 +338,36 @@ public class ChunkDecoder {
     }
 
     private static interface Delegate {
-        void readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) throws UaException;
-
-        Cipher getCipher(SecureChannel channel) throws UaException;
+        /**
+         * Read the security header of a chunk.
+         *
+         * @return the {@link ChannelSecurity.SecuritySecrets} the chunk was secured with, if any.
+         */
+        ChannelSecurity.SecuritySecrets readSecurityHeader(
+            SecureChannel channel,
+            ByteBuf chunkBuffer) throws UaException;
+
+        /**
+         * Decrypt the cipher text between the reader and writer index of {@code chunkBuffer}, leaving the writer index
+         * at the end of the plain text. May be called concurrently for different chunks of the same message.
+         */
+        void decryptChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer) throws UaException;
 
         int getCipherTextBlockSize(SecureChannel channel);
 
         int getSignatureSize(SecureChannel channel);
 
-        void verifyChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException;
+        /**
+         * Verify the signature of {@code chunkBuffer}. May be called concurrently for different chunks of the same
+         * message.
+         */
+        void verifyChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer) throws UaException;
 
         boolean isEncryptionEnabled(SecureChannel channel);
 
@@ -209,18 +378,25 @@ public class ChunkDecoder {
     private static class AsymmetricDelegate implements Delegate {
 
         @Override
-        public void readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) {
+        public ChannelSecurity.SecuritySecrets readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) {
             AsymmetricSecurityHeader.decode(chunkBuffer);
+
+            return null;
         }
 
         @Override
-        public Cipher getCipher(SecureChannel channel) throws UaException {
+        public void decryptChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer) throws UaException {
+
             try {
                 String transformation = channel.getSecurityPolicy()
                     .getAsymmetricEncryptionAlgorithm().getTransformation();
                 Cipher cipher = Cipher.getInstance(transformation);
                 cipher.init(Cipher.DECRYPT_MODE, channel.getKeyPair().getPrivate());
-                return cipher;
+
+                decryptChunkWithCopy(cipher, getCipherTextBlockSize(channel), true, chunkBuffer);
             } catch (GeneralSecurityException e) {
                 throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
             }
@@ -237,7 +413,11 @@ public class ChunkDecoder {
         }
 
         @Override
-        public void verifyChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+        public void verifyChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer) throws UaException {
+
             String transformation = channel.getSecurityPolicy().getAsymmetricSignatureAlgorithm().getTransformation();
             int signatureSize = channel.getRemoteAsymmetricSignatureSize();
 
@@ -280,10 +460,16 @@ public class ChunkDecoder {
 
         private final Logger logger = LoggerFactory.getLogger(getClass());
 
+        private final SymmetricCryptoContextPool cryptoContexts =
+            new SymmetricCryptoContextPool(Cipher.DECRYPT_MODE);
+
         private volatile ChannelSecurity.SecuritySecrets securitySecrets;
 
         @Override
-        public void readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+        public ChannelSecurity.SecuritySecrets readSecurityHeader(
+            SecureChannel channel,
+            ByteBuf chunkBuffer) throws UaException {
+
             long receivedTokenId = SymmetricSecurityHeader.decode(chunkBuffer).getTokenId();
 
             ChannelSecurity channelSecurity = channel.getChannelSecurity();
@@ -319,26 +505,30 @@ public class ChunkDecoder {
                     }
                 }
             }
+
+            return securitySecrets;
         }
 
         @Override
-        public Cipher getCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy()
-                    .getSymmetricEncryptionAlgorithm().getTransformation();
-
-                ChannelSecurity.SecretKeys decryptionKeys = channel.getDecryptionKeys(securitySecrets);
+        public void decryptChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer) throws UaException {
 
-                SecretKeySpec keySpec = new SecretKeySpec(decryptionKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(decryptionKeys.getInitializationVector());
+            SymmetricCryptoContext context = cryptoContexts.acquire(
+                channel, channel.getDecryptionKeys(securitySecrets));
 
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
-
-                return cipher;
+            try {
+                if (chunkBuffer.nioBufferCount() == 1) {
+                    decryptChunkInPlace(context.getCipher(), chunkBuffer);
+                } else {
+                    decryptChunkWithCopy(context.getCipher(), getCipherTextBlockSize(channel), false, chunkBuffer);
+                }
             } catch (GeneralSecurityException e) {
                 throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
             }
+
+            cryptoContexts.release(channel, context);
         }
 
         @Override
@@ -352,15 +542,22 @@ public class ChunkDecoder {
         }
 
         @Override
-        public void verifyChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
-            SecurityAlgorithm securityAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] secretKey = channel.getDecryptionKeys(securitySecrets).getSignatureKey();
+        public void verifyChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer) throws UaException {
+
+            SymmetricCryptoContext context = cryptoContexts.acquire(
+                channel, channel.getDecryptionKeys(securitySecrets));
+
             int signatureSize = channel.getSymmetricSignatureSize();
 
             ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
             chunkNioBuffer.position(0).limit(chunkBuffer.writerIndex() - signatureSize);
 
-            byte[] signature = SignatureUtil.hmac(securityAlgorithm, secretKey, chunkNioBuffer);
+            byte[] signature = context.hmac(chunkNioBuffer);
+
+            cryptoContexts.release(channel, context);
 
             byte[] signatureBytes = new byte[signatureSize];
             chunkNioBuffer.limit(chunkNioBuffer.position() + signatureSize);
@@ -14,13 +14,14 @@
 package org.eclipse.milo.opcua.stack.core.channel;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.security.GeneralSecurityException;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.Nullable;
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 
 import io.netty.buffer.ByteBuf;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
@@ -30,7 +31,6 @@ import org.eclipse.milo.opcua.stack.core.channel.headers.SecureMessageHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SequenceHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
-import org.eclipse.milo.opcua.stack.core.security.SecurityAlgorithm;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
 import org.eclipse.milo.opcua.stack.core.util.LongSequence;
 import org.eclipse.milo.opcua.stack.core.util.SignatureUtil;
@@ -49,9 +49,20 @@ public class ChunkEncoder {
     private volatile long lastRequestId = 1L;
 
     private final ChannelParameters parameters;
+    private final ForkJoinPool cryptoPool;
 
     public ChunkEncoder(ChannelParameters parameters) {
+        this(parameters, null);
+    }
+
+    /**
+     * @param parameters the {@link ChannelParameters} of the channel.
+     * @param cryptoPool if non-null, the {@link ForkJoinPool} the signing and encryption of the chunks of a
+     *                   multi-chunk symmetric message is spread across.
+     */
+    public ChunkEncoder(ChannelParameters parameters, @Nullable ForkJoinPool cryptoPool) {
         this.parameters = parameters;
+        this.cryptoPool = cryptoPool;
     }
 
     public List<ByteBuf> encodeAsymmetric(
@@ -72,137 +83,209 @@ public class ChunkEncoder {
         return encode(symmetricDelegate, channel, messageType, messageBuffer, requestId);
     }
 
-    private List<ByteBuf> encode(
-        Delegate delegate,
+    /**
+     * Allocate a {@link ChunkedMessageBuffer} to encode a symmetric message for {@code channel} into, laid out for
+     * the chunk size and security policy of the channel.
+     * <p>
+     * The buffer must be released by the caller once it has been passed to
+     * {@link #encodeSymmetric(SecureChannel, MessageType, ChunkedMessageBuffer, long)}.
+     */
+    public ChunkedMessageBuffer allocateSymmetricMessageBuffer(SecureChannel channel) throws UaException {
+        ChunkLayout layout = new ChunkLayout(symmetricDelegate, channel);
+
+        return new ChunkedMessageBuffer(layout.bodyOffset, layout.maxBodySize, layout.maxChunkSize);
+    }
+
+    /**
+     * Encode a message that was written into a {@link ChunkedMessageBuffer} allocated by
+     * {@link #allocateSymmetricMessageBuffer(SecureChannel)}.
+     * <p>
+     * The body of each chunk is already in place; only the headers, padding and signature are written before each
+     * chunk is encrypted in place.
+     *
+     * @return the chunks, each retained; {@code messageBuffer} must still be released by the caller.
+     */
+    public List<ByteBuf> encodeSymmetric(
         SecureChannel channel,
         MessageType messageType,
-        ByteBuf messageBuffer,
+        ChunkedMessageBuffer messageBuffer,
         long requestId) throws UaException {
 
+        Delegate delegate = symmetricDelegate;
+        ChunkLayout layout = new ChunkLayout(delegate, channel);
+
+        if (layout.bodyOffset != messageBuffer.getBodyOffset() ||
+            layout.maxBodySize != messageBuffer.getMaxBodySize()) {
+
+            throw new UaException(StatusCodes.Bad_InternalError, "message buffer layout does not match channel");
+        }
+
         List<ByteBuf> chunks = new ArrayList<>();
+        List<ChannelSecurity.SecuritySecrets> chunkSecrets = new ArrayList<>();
 
-        boolean encrypted = delegate.isEncryptionEnabled(channel);
+        /* The message starts at index 0 of the first chunk's body, regardless of the reader index. */
+        int messageSize = messageBuffer.writerIndex();
+        int offset = 0;
 
-        int securityHeaderSize = delegate.getSecurityHeaderSize(channel);
-        int cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
-        int plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
-        int signatureSize = delegate.getSignatureSize(channel);
+        while (messageSize - offset > 0) {
+            int bodySize = Math.min(messageSize - offset, layout.maxBodySize);
 
-        int maxChunkSize = parameters.getLocalSendBufferSize();
-        int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+            ByteBuf chunkBuffer = messageBuffer
+                .getChunkBuffer(offset / layout.maxBodySize)
+                .retain()
+                .order(ByteOrder.LITTLE_ENDIAN);
 
-        int maxCipherTextSize = maxChunkSize - SECURE_MESSAGE_HEADER_SIZE - securityHeaderSize;
-        int maxCipherTextBlocks = maxCipherTextSize / cipherTextBlockSize;
-        int maxPlainTextSize = maxCipherTextBlocks * plainTextBlockSize;
-        int maxBodySize = maxPlainTextSize - SEQUENCE_HEADER_SIZE - paddingOverhead - signatureSize;
+            offset += bodySize;
 
-        assert (maxPlainTextSize + securityHeaderSize + SECURE_MESSAGE_HEADER_SIZE <= maxChunkSize);
+            chunkBuffer.writerIndex(0);
 
-        while (messageBuffer.readableBytes() > 0) {
-            int bodySize = Math.min(messageBuffer.readableBytes(), maxBodySize);
+            writeHeaders(
+                delegate, channel, layout, messageType, offset < messageSize,
+                bodySize, requestId, chunkBuffer, chunkSecrets
+            );
 
-            int paddingSize;
-            if (encrypted) {
-                int plainTextSize = SEQUENCE_HEADER_SIZE + bodySize + paddingOverhead + signatureSize;
-                int remaining = plainTextSize % plainTextBlockSize;
-                paddingSize = remaining > 0 ? plainTextBlockSize - remaining : 0;
-            } else {
-                paddingSize = 0;
+            assert (chunkBuffer.writerIndex() == layout.bodyOffset);
+
+            chunkBuffer.writerIndex(layout.bodyOffset + bodySize);
+
+            if (layout.encrypted) {
+                writePadding(layout.cipherTextBlockSize, layout.getPaddingSize(bodySize), chunkBuffer);
             }
 
-            int plainTextContentSize = SEQUENCE_HEADER_SIZE + bodySize + signatureSize + paddingSize + paddingOverhead;
+            chunks.add(chunkBuffer);
+        }
+
+        secureChunks(delegate, channel, layout, chunks, chunkSecrets);
 
-            assert (plainTextContentSize % plainTextBlockSize == 0);
+        lastRequestId = requestId;
 
-            int chunkSize = SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize +
-                (plainTextContentSize / plainTextBlockSize) * cipherTextBlockSize;
+        return chunks;
+    }
 
-            assert (chunkSize <= maxChunkSize);
+    private List<ByteBuf> encode(
+        Delegate delegate,
+        SecureChannel channel,
+        MessageType messageType,
+        ByteBuf messageBuffer,
+        long requestId) throws UaException {
 
-            ByteBuf chunkBuffer = BufferUtil.buffer(chunkSize);
+        List<ByteBuf> chunks = new ArrayList<>();
+        List<ChannelSecurity.SecuritySecrets> chunkSecrets = new ArrayList<>();
 
-            /* Message Header */
-            SecureMessageHeader messageHeader = new SecureMessageHeader(
-                messageType,
-                messageBuffer.readableBytes() > bodySize ? 'C' : 'F',
-                chunkSize,
-                channel.getChannelId()
-            );
+        ChunkLayout layout = new ChunkLayout(delegate, channel);
 
-            SecureMessageHeader.encode(messageHeader, chunkBuffer);
+        /*
+         * Headers, body and padding are written chunk by chunk so sequence numbers are assigned in order. Once that's
+         * done each chunk can be signed and encrypted independently of the others.
+         */
+        while (messageBuffer.readableBytes() > 0) {
+            int bodySize = Math.min(messageBuffer.readableBytes(), layout.maxBodySize);
 
-            /* Security Header */
-            delegate.encodeSecurityHeader(channel, chunkBuffer);
+            ByteBuf chunkBuffer = BufferUtil.buffer(layout.getChunkSize(bodySize));
 
-            /* Sequence Header */
-            SequenceHeader sequenceHeader = new SequenceHeader(
-                sequenceNumber.getAndIncrement(),
-                requestId
+            writeHeaders(
+                delegate, channel, layout, messageType, messageBuffer.readableBytes() > bodySize,
+                bodySize, requestId, chunkBuffer, chunkSecrets
             );
 
-            SequenceHeader.encode(sequenceHeader, chunkBuffer);
-
             /* Message Body */
             chunkBuffer.writeBytes(messageBuffer, bodySize);
 
-            /* Padding and Signature */
-            if (encrypted) {
-                writePadding(cipherTextBlockSize, paddingSize, chunkBuffer);
+            /* Padding */
+            if (layout.encrypted) {
+                writePadding(layout.cipherTextBlockSize, layout.getPaddingSize(bodySize), chunkBuffer);
             }
 
-            if (delegate.isSigningEnabled(channel)) {
-                ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+            chunks.add(chunkBuffer);
+        }
 
-                byte[] signature = delegate.signChunk(channel, chunkNioBuffer);
+        secureChunks(delegate, channel, layout, chunks, chunkSecrets);
 
-                chunkBuffer.writeBytes(signature);
-            }
+        lastRequestId = requestId;
 
-            /* Encryption */
-            if (encrypted) {
-                chunkBuffer.readerIndex(SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize);
+        return chunks;
+    }
 
-                assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
+    /**
+     * Write the message, security and sequence headers of a chunk with a body of {@code bodySize} bytes.
+     */
+    private void writeHeaders(
+        Delegate delegate,
+        SecureChannel channel,
+        ChunkLayout layout,
+        MessageType messageType,
+        boolean moreChunks,
+        int bodySize,
+        long requestId,
+        ByteBuf chunkBuffer,
+        List<ChannelSecurity.SecuritySecrets> chunkSecrets) throws UaException {
+
+        int chunkSize = layout.getChunkSize(bodySize);
+
+        /* Message Header */
+        SecureMessageHeader messageHeader = new SecureMessageHeader(
+            messageType,
+            moreChunks ? 'C' : 'F',
+            chunkSize,
+            channel.getChannelId()
+        );
+
+        SecureMessageHeader.encode(messageHeader, chunkBuffer);
+
+        /* Security Header */
+        chunkSecrets.add(delegate.encodeSecurityHeader(channel, chunkBuffer));
+
+        /* Sequence Header */
+        SequenceHeader sequenceHeader = new SequenceHeader(
+            sequenceNumber.getAndIncrement(),
+            requestId
+        );
+
+        SequenceHeader.encode(sequenceHeader, chunkBuffer);
+    }
 
-                try {
-                    int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
+    /**
+     * Sign and encrypt each chunk, spread across the crypto pool if one is configured.
+     */
+    private void secureChunks(
+        Delegate delegate,
+        SecureChannel channel,
+        ChunkLayout layout,
+        List<ByteBuf> chunks,
+        List<ChannelSecurity.SecuritySecrets> chunkSecrets) throws UaException {
 
-                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
-                        chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
+        if (layout.signed || layout.encrypted) {
+            ForkJoinPool pool = delegate instanceof SymmetricDelegate ? cryptoPool : null;
 
-                    ByteBuf copyBuffer = chunkBuffer.copy();
-                    ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
+            ParallelChunks.forEach(chunks.size(), pool, i -> {
+                ByteBuf chunkBuffer = chunks.get(i);
+                ChannelSecurity.SecuritySecrets securitySecrets = chunkSecrets.get(i);
 
-                    Cipher cipher = delegate.getAndInitializeCipher(channel);
+                /* Signature */
+                if (layout.signed) {
+                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
 
-                    if (delegate instanceof AsymmetricDelegate) {
-                        for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
-                            int position = blockNumber * plainTextBlockSize;
-                            int limit = (blockNumber + 1) * plainTextBlockSize;
-                            plainTextNioBuffer.position(position).limit(limit);
+                    byte[] signature = delegate.signChunk(channel, securitySecrets, chunkNioBuffer);
 
-                            int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+                    chunkBuffer.writeBytes(signature);
+                }
 
-                            assert (bytesWritten == cipherTextBlockSize);
-                        }
-                    } else {
-                        cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
-                    }
+                /* Encryption */
+                if (layout.encrypted) {
+                    chunkBuffer.readerIndex(SECURE_MESSAGE_HEADER_SIZE + layout.securityHeaderSize);
 
-                    copyBuffer.release();
-                } catch (GeneralSecurityException e) {
-                    throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
-                }
-            }
+                    assert (chunkBuffer.readableBytes() % layout.plainTextBlockSize == 0);
 
-            chunkBuffer.readerIndex(0).writerIndex(chunkSize);
+                    int blockCount = chunkBuffer.readableBytes() / layout.plainTextBlockSize;
 
-            chunks.add(chunkBuffer);
-        }
+                    delegate.encryptChunk(channel, securitySecrets, chunkBuffer, blockCount);
 
-        lastRequestId = requestId;
+                    chunkBuffer.writerIndex(chunkBuffer.readerIndex() + blockCount * layout.cipherTextBlockSize);
+                }
 
-        return chunks;
+                chunkBuffer.readerIndex(0);
+            });
+        }
     }
 
     public long getLastRequestId() {
@@ -228,12 +311,103 @@ public class ChunkEncoder {
         }
     }
 
-    private static interface Delegate {
-        byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException;
+    /**
+     * The sizes of the parts of a chunk for a given channel, security policy and send buffer size.
+     */
+    private final class ChunkLayout {
+
+        final boolean encrypted;
+        final boolean signed;
+
+        final int securityHeaderSize;
+        final int cipherTextBlockSize;
+        final int plainTextBlockSize;
+        final int signatureSize;
+        final int paddingOverhead;
+
+        final int maxChunkSize;
+        final int maxBodySize;
 
-        void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException;
+        /**
+         * The index the body of a chunk starts at, after the message, security and sequence headers.
+         */
+        final int bodyOffset;
 
-        Cipher getAndInitializeCipher(SecureChannel channel) throws UaException;
+        ChunkLayout(Delegate delegate, SecureChannel channel) throws UaException {
+            encrypted = delegate.isEncryptionEnabled(channel);
+            signed = delegate.isSigningEnabled(channel);
+
+            securityHeaderSize = delegate.getSecurityHeaderSize(channel);
+            cipherTextBlockSize = delegate.getCipherTextBlockSize(channel);
+            plainTextBlockSize = delegate.getPlainTextBlockSize(channel);
+            signatureSize = delegate.getSignatureSize(channel);
+
+            maxChunkSize = parameters.getLocalSendBufferSize();
+            paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+
+            int maxCipherTextSize = maxChunkSize - SECURE_MESSAGE_HEADER_SIZE - securityHeaderSize;
+            int maxCipherTextBlocks = maxCipherTextSize / cipherTextBlockSize;
+            int maxPlainTextSize = maxCipherTextBlocks * plainTextBlockSize;
+
+            maxBodySize = maxPlainTextSize - SEQUENCE_HEADER_SIZE - paddingOverhead - signatureSize;
+            bodyOffset = SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize + SEQUENCE_HEADER_SIZE;
+
+            assert (maxPlainTextSize + securityHeaderSize + SECURE_MESSAGE_HEADER_SIZE <= maxChunkSize);
+        }
+
+        int getPaddingSize(int bodySize) {
+            if (encrypted) {
+                int plainTextSize = SEQUENCE_HEADER_SIZE + bodySize + paddingOverhead + signatureSize;
+                int remaining = plainTextSize % plainTextBlockSize;
+                return remaining > 0 ? plainTextBlockSize - remaining : 0;
+            } else {
+                return 0;
+            }
+        }
+
+        int getChunkSize(int bodySize) {
+            int plainTextContentSize = SEQUENCE_HEADER_SIZE + bodySize + signatureSize +
+                getPaddingSize(bodySize) + paddingOverhead;
+
+            assert (plainTextContentSize % plainTextBlockSize == 0);
+
+            int chunkSize = SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize +
+                (plainTextContentSize / plainTextBlockSize) * cipherTextBlockSize;
+
+            assert (chunkSize <= maxChunkSize);
+
+            return chunkSize;
+        }
+
+    }
+
+    private static interface Delegate {
+        /**
+         * Encode the security header for a chunk.
+         *
+         * @return the {@link ChannelSecurity.SecuritySecrets} the chunk must be secured with, if any.
+         */
+        ChannelSecurity.SecuritySecrets encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException;
+
+        /**
+         * Sign the bytes between position and limit of {@code chunkNioBuffer}. May be called concurrently for
+         * different chunks of the same message.
+         */
+        byte[] signChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuffer chunkNioBuffer) throws UaException;
+
+        /**
+         * Encrypt {@code blockCount} plain text blocks starting at the reader index of {@code chunkBuffer}, writing
+         * the cipher text back starting at the same index. May be called concurrently for different chunks of the
+         * same message.
+         */
+        void encryptChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer,
+            int blockCount) throws UaException;
 
         int getSecurityHeaderSize(SecureChannel channel) throws UaException;
 
@@ -252,7 +426,11 @@ public class ChunkEncoder {
     private static class AsymmetricDelegate implements Delegate {
 
         @Override
-        public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
+        public byte[] signChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuffer chunkNioBuffer) throws UaException {
+
             return SignatureUtil.sign(
                 channel.getSecurityPolicy().getAsymmetricSignatureAlgorithm(),
                 channel.getKeyPair().getPrivate(),
@@ -261,24 +439,53 @@ public class ChunkEncoder {
         }
 
         @Override
-        public Cipher getAndInitializeCipher(SecureChannel channel) throws UaException {
+        public void encryptChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer,
+            int blockCount) throws UaException {
+
             Certificate remoteCertificate = channel.getRemoteCertificate();
 
             assert (remoteCertificate != null);
 
+            int plainTextBlockSize = getPlainTextBlockSize(channel);
+            int cipherTextBlockSize = getCipherTextBlockSize(channel);
+
+            ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
+                chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
+
+            // Cipher text blocks are larger than plain text blocks; encrypting in place would
+            // overwrite plain text that hasn't been read yet, so encrypt from a copy.
+            ByteBuf copyBuffer = chunkBuffer.copy();
+            ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
+
             try {
                 String transformation = channel.getSecurityPolicy()
                     .getAsymmetricEncryptionAlgorithm().getTransformation();
                 Cipher cipher = Cipher.getInstance(transformation);
                 cipher.init(Cipher.ENCRYPT_MODE, remoteCertificate.getPublicKey());
-                return cipher;
+
+                for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
+                    int position = blockNumber * plainTextBlockSize;
+                    int limit = (blockNumber + 1) * plainTextBlockSize;
+                    plainTextNioBuffer.position(position).limit(limit);
+
+                    int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+
+                    assert (bytesWritten == cipherTextBlockSize);
+                }
             } catch (GeneralSecurityException e) {
                 throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            } finally {
+                copyBuffer.release();
             }
         }
 
         @Override
-        public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException {
+        public ChannelSecurity.SecuritySecrets encodeSecurityHeader(
+            SecureChannel channel, ByteBuf buffer) throws UaException {
+
             AsymmetricSecurityHeader header = new AsymmetricSecurityHeader(
                 channel.getSecurityPolicy().getSecurityPolicyUri(),
                 channel.getLocalCertificateChainBytes(),
@@ -286,6 +493,8 @@ public class ChunkEncoder {
             );
 
             AsymmetricSecurityHeader.encode(header, buffer);
+
+            return null;
         }
 
         @Override
@@ -328,49 +537,62 @@ public class ChunkEncoder {
 
     private static class SymmetricDelegate implements Delegate {
 
-        private volatile ChannelSecurity.SecuritySecrets securitySecrets;
+        private final SymmetricCryptoContextPool cryptoContexts =
+            new SymmetricCryptoContextPool(Cipher.ENCRYPT_MODE);
 
         @Override
-        public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) {
+        public ChannelSecurity.SecuritySecrets encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) {
             ChannelSecurity channelSecurity = channel.getChannelSecurity();
             long tokenId = channelSecurity != null ? channelSecurity.getCurrentToken().getTokenId().longValue() : 0L;
 
             SymmetricSecurityHeader.encode(new SymmetricSecurityHeader(tokenId), buffer);
 
-            securitySecrets = channelSecurity != null ? channelSecurity.getCurrentKeys() : null;
+            return channelSecurity != null ? channelSecurity.getCurrentKeys() : null;
         }
 
         @Override
-        public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
-            SecurityAlgorithm signatureAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] signatureKey = channel.getEncryptionKeys(securitySecrets).getSignatureKey();
+        public byte[] signChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuffer chunkNioBuffer) throws UaException {
 
-            return SignatureUtil.hmac(
-                signatureAlgorithm,
-                signatureKey,
-                chunkNioBuffer
-            );
+            SymmetricCryptoContext context = cryptoContexts.acquire(
+                channel, channel.getEncryptionKeys(securitySecrets));
+
+            byte[] signature = context.hmac(chunkNioBuffer);
+
+            cryptoContexts.release(channel, context);
+
+            return signature;
         }
 
         @Override
-        public Cipher getAndInitializeCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy()
-                    .getSymmetricEncryptionAlgorithm().getTransformation();
-                ChannelSecurity.SecretKeys secretKeys = channel.getEncryptionKeys(securitySecrets);
+        public void encryptChunk(
+            SecureChannel channel,
+            ChannelSecurity.SecuritySecrets securitySecrets,
+            ByteBuf chunkBuffer,
+            int blockCount) throws UaException {
 
-                SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
+            assert (chunkBuffer.nioBufferCount() == 1);
 
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+            SymmetricCryptoContext context = cryptoContexts.acquire(
+                channel, channel.getEncryptionKeys(securitySecrets));
+
+            ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
+                chunkBuffer.readerIndex(), blockCount * getCipherTextBlockSize(channel));
 
-                assert (cipher.getBlockSize() == channel.getSymmetricCipherTextBlockSize());
+            // Symmetric plain text and cipher text blocks are the same size; encrypt in place.
+            ByteBuffer plainTextNioBuffer = chunkNioBuffer.duplicate();
 
-                return cipher;
+            try {
+                int bytesWritten = context.getCipher().doFinal(plainTextNioBuffer, chunkNioBuffer);
+
+                assert (bytesWritten == blockCount * getCipherTextBlockSize(channel));
             } catch (GeneralSecurityException e) {
                 throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
             }
+
+            cryptoContexts.release(channel, context);
         }
 
         @Override
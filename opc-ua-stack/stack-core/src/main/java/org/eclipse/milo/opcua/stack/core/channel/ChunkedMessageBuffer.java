@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * A message buffer that is written directly into the body of the chunks the message will be sent in.
+ * <p>
+ * Each component is a slice of a pooled chunk buffer that starts after the space reserved for the chunk's headers
+ * and is exactly as long as the maximum body size of a chunk. Growing the buffer allocates another chunk instead of
+ * copying, so once the message has been encoded {@link ChunkEncoder#encodeSymmetric(SecureChannel,
+ * org.eclipse.milo.opcua.stack.core.channel.messages.MessageType, ChunkedMessageBuffer, long)} only has to fill in the
+ * headers, padding and signature of each chunk and encrypt it in place.
+ * <p>
+ * Obtain one from {@link ChunkEncoder#allocateSymmetricMessageBuffer(SecureChannel)}; it is big-endian like any other
+ * {@link ByteBuf}, so use {@code order(ByteOrder.LITTLE_ENDIAN)} to encode into it.
+ */
+public final class ChunkedMessageBuffer extends CompositeByteBuf {
+
+    private final List<ByteBuf> chunkBuffers = new ArrayList<>();
+
+    private final int bodyOffset;
+    private final int maxBodySize;
+    private final int maxChunkSize;
+
+    /**
+     * @param bodyOffset   the number of bytes reserved for headers at the start of each chunk.
+     * @param maxBodySize  the maximum number of body bytes in each chunk.
+     * @param maxChunkSize the size to allocate each chunk with, including headers, padding and signature.
+     */
+    ChunkedMessageBuffer(int bodyOffset, int maxBodySize, int maxChunkSize) {
+        super(PooledByteBufAllocator.DEFAULT, false, Integer.MAX_VALUE);
+
+        assert (bodyOffset + maxBodySize <= maxChunkSize);
+
+        this.bodyOffset = bodyOffset;
+        this.maxBodySize = maxBodySize;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    @Override
+    public CompositeByteBuf ensureWritable(int minWritableBytes) {
+        if (minWritableBytes < 0) {
+            throw new IllegalArgumentException(
+                String.format("minWritableBytes: %d (expected: >= 0)", minWritableBytes));
+        }
+
+        if (minWritableBytes > maxCapacity() - writerIndex()) {
+            throw new IndexOutOfBoundsException(
+                String.format("writerIndex(%d) + minWritableBytes(%d) exceeds maxCapacity(%d): %s",
+                    writerIndex(), minWritableBytes, maxCapacity(), this));
+        }
+
+        growTo(writerIndex() + minWritableBytes);
+
+        return this;
+    }
+
+    @Override
+    public int ensureWritable(int minWritableBytes, boolean force) {
+        if (minWritableBytes < 0) {
+            throw new IllegalArgumentException(
+                String.format("minWritableBytes: %d (expected: >= 0)", minWritableBytes));
+        }
+
+        if (minWritableBytes <= writableBytes()) {
+            return 0;
+        }
+
+        if (minWritableBytes > maxCapacity() - writerIndex()) {
+            return 1;
+        }
+
+        growTo(writerIndex() + minWritableBytes);
+
+        return 2;
+    }
+
+    /**
+     * Grow by whole chunks until {@code newCapacity} bytes fit. Writes don't grow the buffer through here: the
+     * {@code ensureWritable} overrides grow it only as far as the writer index plus the bytes being written, instead
+     * of to the doubled capacity {@link io.netty.buffer.AbstractByteBuf} would ask for.
+     */
+    @Override
+    public CompositeByteBuf capacity(int newCapacity) {
+        if (newCapacity > capacity()) {
+            growTo(newCapacity);
+
+            return this;
+        } else {
+            return super.capacity(newCapacity);
+        }
+    }
+
+    /**
+     * Add chunks, one at a time, until the capacity is at least {@code minCapacity}.
+     */
+    private void growTo(int minCapacity) {
+        while (capacity() < minCapacity) {
+            addChunk();
+        }
+    }
+
+    private void addChunk() {
+        ByteBuf chunkBuffer = alloc().buffer(maxChunkSize);
+
+        chunkBuffers.add(chunkBuffer);
+
+        // The slice shares the chunk's reference count; releasing this buffer releases every chunk.
+        addComponent(chunkBuffer.slice(bodyOffset, maxBodySize));
+    }
+
+    /**
+     * @return the number of bytes reserved for headers at the start of each chunk.
+     */
+    int getBodyOffset() {
+        return bodyOffset;
+    }
+
+    /**
+     * @return the maximum number of body bytes in each chunk.
+     */
+    int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * @param index the index of a chunk, starting at 0.
+     * @return the chunk buffer the body bytes at {@code [index * maxBodySize, (index + 1) * maxBodySize)} were
+     * written into.
+     */
+    ByteBuf getChunkBuffer(int index) {
+        return chunkBuffers.get(index);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import javax.annotation.Nullable;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+
+/**
+ * Runs an operation on each chunk of a message, either sequentially on the calling thread or, when a
+ * {@link ForkJoinPool} is configured, spread across that pool.
+ */
+final class ParallelChunks {
+
+    private ParallelChunks() {}
+
+    /**
+     * Apply {@code operation} to every chunk index in {@code [0, chunkCount)} and wait for all of them to complete.
+     *
+     * @param chunkCount the number of chunks.
+     * @param pool       the {@link ForkJoinPool} to use, or {@code null} to run sequentially.
+     * @param operation  the operation to apply.
+     * @throws UaException the first failure, once all operations have completed.
+     */
+    static void forEach(int chunkCount, @Nullable ForkJoinPool pool, ChunkOperation operation) throws UaException {
+        if (pool == null || chunkCount < 2) {
+            for (int i = 0; i < chunkCount; i++) {
+                operation.apply(i);
+            }
+            return;
+        }
+
+        List<ForkJoinTask<Void>> tasks = new ArrayList<>(chunkCount);
+
+        for (int i = 0; i < chunkCount; i++) {
+            final int index = i;
+
+            tasks.add(pool.submit(() -> {
+                operation.apply(index);
+                return null;
+            }));
+        }
+
+        UaException failure = null;
+
+        for (ForkJoinTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+
+                    failure = cause instanceof UaException ?
+                        (UaException) cause :
+                        new UaException(StatusCodes.Bad_InternalError, cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                if (failure == null) {
+                    failure = new UaException(StatusCodes.Bad_InternalError, e);
+                }
+            }
+        }
+
+        if (failure != null) throw failure;
+    }
+
+    interface ChunkOperation {
+        void apply(int chunkIndex) throws UaException;
+    }
+
+}
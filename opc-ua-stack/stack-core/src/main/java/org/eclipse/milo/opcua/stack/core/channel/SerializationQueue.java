@@ -14,7 +14,9 @@
 package org.eclipse.milo.opcua.stack.core.channel;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 
 import org.eclipse.milo.opcua.stack.core.serialization.binary.BinaryDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.binary.BinaryEncoder;
@@ -32,19 +34,60 @@ public class SerializationQueue {
     private final ExecutionQueue decodingQueue;
 
     private final ChannelParameters parameters;
+    private final boolean streamingDecode;
 
     public SerializationQueue(ExecutorService executor,
                               ChannelParameters parameters,
                               int maxArrayLength,
                               int maxStringLength) {
 
+        this(executor, parameters, maxArrayLength, maxStringLength, null);
+    }
+
+    /**
+     * @param executor        the {@link ExecutorService} encoding and decoding is done on.
+     * @param parameters      the negotiated {@link ChannelParameters}.
+     * @param maxArrayLength  the maximum array length to encode or decode.
+     * @param maxStringLength the maximum string length to encode or decode.
+     * @param chunkCryptoPool if non-null, the {@link ForkJoinPool} chunk crypto of multi-chunk symmetric messages is
+     *                        spread across.
+     * @see ChannelConfig#getChunkCryptoPool()
+     */
+    public SerializationQueue(ExecutorService executor,
+                              ChannelParameters parameters,
+                              int maxArrayLength,
+                              int maxStringLength,
+                              @Nullable ForkJoinPool chunkCryptoPool) {
+
+        this(executor, parameters, maxArrayLength, maxStringLength, chunkCryptoPool, false);
+    }
+
+    /**
+     * @param executor        the {@link ExecutorService} encoding and decoding is done on.
+     * @param parameters      the negotiated {@link ChannelParameters}.
+     * @param maxArrayLength  the maximum array length to encode or decode.
+     * @param maxStringLength the maximum string length to encode or decode.
+     * @param chunkCryptoPool if non-null, the {@link ForkJoinPool} chunk crypto of multi-chunk symmetric messages is
+     *                        spread across.
+     * @param streamingDecode {@code true} if received symmetric chunks should be decoded one at a time as they arrive
+     *                        rather than accumulated; {@code chunkCryptoPool} is then only used for encoding.
+     * @see ChannelConfig#getChunkCryptoPool()
+     */
+    public SerializationQueue(ExecutorService executor,
+                              ChannelParameters parameters,
+                              int maxArrayLength,
+                              int maxStringLength,
+                              @Nullable ForkJoinPool chunkCryptoPool,
+                              boolean streamingDecode) {
+
         this.parameters = parameters;
+        this.streamingDecode = streamingDecode;
 
         binaryEncoder = new BinaryEncoder(maxArrayLength, maxStringLength);
         binaryDecoder = new BinaryDecoder(maxArrayLength, maxStringLength);
 
-        chunkEncoder = new ChunkEncoder(parameters);
-        chunkDecoder = new ChunkDecoder(parameters);
+        chunkEncoder = new ChunkEncoder(parameters, chunkCryptoPool);
+        chunkDecoder = new ChunkDecoder(parameters, chunkCryptoPool);
 
         encodingQueue = new ExecutionQueue(executor);
         decodingQueue = new ExecutionQueue(executor);
@@ -67,4 +110,13 @@ public class SerializationQueue {
         return parameters;
     }
 
+    /**
+     * @return {@code true} if symmetric chunks should be decoded one at a time as they arrive, using
+     * {@link ChunkDecoder#decodeSymmetricChunk(SecureChannel, io.netty.buffer.ByteBuf)}, or {@code false} if all the
+     * chunks of a message should be accumulated and decoded together so their crypto can be parallelized.
+     */
+    public boolean isStreamingDecode() {
+        return streamingDecode;
+    }
+
 }
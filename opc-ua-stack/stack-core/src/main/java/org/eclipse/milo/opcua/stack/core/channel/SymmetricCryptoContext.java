@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+
+/**
+ * The {@link Mac} and {@link Cipher} for one set of {@link ChannelSecurity.SecretKeys}, initialized once and reused
+ * for every chunk secured with those keys.
+ * <p>
+ * Both {@link Mac#doFinal()} and {@link Cipher#doFinal(ByteBuffer, ByteBuffer)} reset to the initialized state, so
+ * the same instances can be used chunk after chunk. Not thread safe; contexts are handed out to one chunk at a time
+ * by a {@link SymmetricCryptoContextPool}.
+ */
+final class SymmetricCryptoContext {
+
+    private final ChannelSecurity.SecretKeys secretKeys;
+    private final Mac mac;
+    private final Cipher cipher;
+
+    private SymmetricCryptoContext(ChannelSecurity.SecretKeys secretKeys, Mac mac, Cipher cipher) {
+        this.secretKeys = secretKeys;
+        this.mac = mac;
+        this.cipher = cipher;
+    }
+
+    /**
+     * @param secretKeys the {@link ChannelSecurity.SecretKeys} to test.
+     * @return {@code true} if this context was initialized from {@code secretKeys}.
+     */
+    boolean isFor(ChannelSecurity.SecretKeys secretKeys) {
+        return this.secretKeys == secretKeys;
+    }
+
+    /**
+     * Compute the HMAC of the bytes between position and limit of {@code buffer}.
+     *
+     * @param buffer the data to sign.
+     * @return the computed HMAC.
+     */
+    byte[] hmac(ByteBuffer buffer) {
+        mac.update(buffer);
+
+        return mac.doFinal();
+    }
+
+    /**
+     * @return the initialized {@link Cipher}, or {@code null} if encryption is not enabled for the channel.
+     */
+    Cipher getCipher() {
+        return cipher;
+    }
+
+    /**
+     * Create a new {@link SymmetricCryptoContext} for {@code secretKeys}.
+     *
+     * @param channel    the {@link SecureChannel} the keys belong to.
+     * @param secretKeys the {@link ChannelSecurity.SecretKeys} to initialize with.
+     * @param cipherMode {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}.
+     * @return a new {@link SymmetricCryptoContext}.
+     * @throws UaException if the {@link Mac} or {@link Cipher} could not be initialized.
+     */
+    static SymmetricCryptoContext create(
+        SecureChannel channel,
+        ChannelSecurity.SecretKeys secretKeys,
+        int cipherMode) throws UaException {
+
+        SecurityPolicy securityPolicy = channel.getSecurityPolicy();
+
+        try {
+            Mac mac = null;
+
+            if (channel.isSymmetricSigningEnabled()) {
+                String transformation = securityPolicy.getSymmetricSignatureAlgorithm().getTransformation();
+
+                mac = Mac.getInstance(transformation);
+                mac.init(new SecretKeySpec(secretKeys.getSignatureKey(), transformation));
+            }
+
+            Cipher cipher = null;
+
+            if (channel.isSymmetricEncryptionEnabled()) {
+                String transformation = securityPolicy.getSymmetricEncryptionAlgorithm().getTransformation();
+
+                SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
+                IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
+
+                cipher = Cipher.getInstance(transformation);
+                cipher.init(cipherMode, keySpec, ivSpec);
+
+                assert (cipher.getBlockSize() == channel.getSymmetricCipherTextBlockSize());
+            }
+
+            return new SymmetricCryptoContext(secretKeys, mac, cipher);
+        } catch (GeneralSecurityException e) {
+            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+        }
+    }
+
+}
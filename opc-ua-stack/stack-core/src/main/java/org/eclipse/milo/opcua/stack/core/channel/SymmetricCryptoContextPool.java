@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.crypto.Cipher;
+
+import org.eclipse.milo.opcua.stack.core.UaException;
+
+/**
+ * Idle {@link SymmetricCryptoContext}s for one direction of a {@link SecureChannel}.
+ * <p>
+ * When chunks are secured sequentially this holds a single context that is acquired and released for every chunk.
+ * When chunk crypto is spread across a pool there is at most one context per thread working on the channel.
+ * <p>
+ * Contexts for keys that are no longer in use, i.e. neither the current nor the previous keys of the channel, are
+ * discarded instead of being returned to the pool.
+ */
+final class SymmetricCryptoContextPool {
+
+    private final Queue<SymmetricCryptoContext> idle = new ConcurrentLinkedQueue<>();
+
+    private final int cipherMode;
+
+    /**
+     * @param cipherMode {@link Cipher#ENCRYPT_MODE} for an encoder, {@link Cipher#DECRYPT_MODE} for a decoder.
+     */
+    SymmetricCryptoContextPool(int cipherMode) {
+        this.cipherMode = cipherMode;
+    }
+
+    /**
+     * Acquire a context for {@code secretKeys}, creating a new one if none are idle.
+     * <p>
+     * The context must be returned with {@link #release(SecureChannel, SymmetricCryptoContext)} once the operation
+     * it was acquired for completed successfully.
+     */
+    SymmetricCryptoContext acquire(SecureChannel channel, ChannelSecurity.SecretKeys secretKeys) throws UaException {
+        for (SymmetricCryptoContext context : idle) {
+            if (context.isFor(secretKeys) && idle.remove(context)) {
+                return context;
+            }
+        }
+
+        return SymmetricCryptoContext.create(channel, secretKeys, cipherMode);
+    }
+
+    void release(SecureChannel channel, SymmetricCryptoContext context) {
+        if (isInUse(channel, context)) {
+            idle.add(context);
+        } else {
+            // The keys changed since this context was acquired; drop any other idle contexts for stale keys too.
+            idle.removeIf(c -> !isInUse(channel, c));
+        }
+    }
+
+    private boolean isInUse(SecureChannel channel, SymmetricCryptoContext context) {
+        ChannelSecurity channelSecurity = channel.getChannelSecurity();
+
+        if (channelSecurity == null) return false;
+
+        if (context.isFor(getKeys(channel, channelSecurity.getCurrentKeys()))) {
+            return true;
+        } else {
+            return channelSecurity.getPreviousKeys()
+                .map(previousKeys -> context.isFor(getKeys(channel, previousKeys)))
+                .orElse(false);
+        }
+    }
+
+    private ChannelSecurity.SecretKeys getKeys(SecureChannel channel, ChannelSecurity.SecuritySecrets secrets) {
+        return cipherMode == Cipher.ENCRYPT_MODE ?
+            channel.getEncryptionKeys(secrets) :
+            channel.getDecryptionKeys(secrets);
+    }
+
+}
@@ -13,6 +13,7 @@
 
 package org.eclipse.milo.opcua.stack.core.serialization;
 
+import io.netty.buffer.ByteBuf;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
@@ -26,6 +27,16 @@ public interface DataTypeEncoding {
 
     Object decodeFromByteString(ByteString encoded, NodeId encodingTypeId) throws UaSerializationException;
 
+    /**
+     * Decode the readable bytes of {@code buffer} without changing its reader index or reference count.
+     */
+    default Object decodeFromBuffer(ByteBuf buffer, NodeId encodingTypeId) throws UaSerializationException {
+        byte[] bs = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), bs);
+
+        return decodeFromByteString(ByteString.of(bs), encodingTypeId);
+    }
+
     XmlElement encodeToXmlElement(Object object, NodeId encodingTypeId) throws UaSerializationException;
 
     Object decodeFromXmlElement(XmlElement encoded, NodeId encodingTypeId) throws UaSerializationException;
@@ -21,6 +21,7 @@ import com.google.common.collect.Maps;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
 
 public class DelegateRegistry {
 
@@ -43,19 +44,33 @@ public class DelegateRegistry {
     private static final Map<Class<?>, DecoderDelegate<?>> DECODERS_BY_CLASS = Maps.newConcurrentMap();
     private static final Map<NodeId, DecoderDelegate<?>> DECODERS_BY_ID = Maps.newConcurrentMap();
 
+    /**
+     * Numeric namespace 0 ids at or above this are only registered in the maps, not in the dense tables.
+     */
+    private static final int MAX_NS0_TABLE_SIZE = 1 << 16;
+
+    /*
+     * Dense tables of the delegates registered for numeric namespace 0 ids, indexed by identifier. Replaced, never
+     * modified, by the synchronized register methods.
+     */
+    private static final AtomicReference<EncoderDelegate<?>[]> NS0_ENCODERS =
+        new AtomicReference<>(new EncoderDelegate<?>[0]);
+    private static final AtomicReference<DecoderDelegate<?>[]> NS0_DECODERS =
+        new AtomicReference<>(new DecoderDelegate<?>[0]);
+
     private static final AtomicReference<Instance> INSTANCE_REF = new AtomicReference<>();
 
     private static synchronized Instance getOrInitialize() {
         Instance instance = INSTANCE_REF.get();
 
         if (instance == null) {
-            DelegateRegistryInitializer.initialize();
-
             instance = new Instance(
                 ENCODERS_BY_CLASS,
                 ENCODERS_BY_ID,
+                NS0_ENCODERS,
                 DECODERS_BY_CLASS,
-                DECODERS_BY_ID
+                DECODERS_BY_ID,
+                NS0_DECODERS
             );
 
             INSTANCE_REF.set(instance);
@@ -80,6 +95,13 @@ public class DelegateRegistry {
 
         if (ids != null) {
             Arrays.stream(ids).forEach(id -> ENCODERS_BY_ID.put(id, delegate));
+
+            NS0_ENCODERS.set(withNs0Ids(NS0_ENCODERS.get(), delegate, ids));
+        }
+
+        Instance instance = INSTANCE_REF.get();
+        if (instance != null) {
+            instance.encoderCache.remove(clazz);
         }
     }
 
@@ -88,33 +110,168 @@ public class DelegateRegistry {
 
         if (ids != null) {
             Arrays.stream(ids).forEach(id -> DECODERS_BY_ID.put(id, delegate));
+
+            NS0_DECODERS.set(withNs0Ids(NS0_DECODERS.get(), delegate, ids));
+        }
+
+        Instance instance = INSTANCE_REF.get();
+        if (instance != null) {
+            instance.decoderCache.remove(clazz);
+        }
+    }
+
+    /**
+     * @return a copy of {@code table}, grown if necessary, with {@code delegate} at the index of each numeric
+     * namespace 0 id in {@code ids}, or {@code table} itself if there are none.
+     */
+    private static <D> D[] withNs0Ids(D[] table, D delegate, NodeId[] ids) {
+        D[] copy = table;
+
+        for (NodeId id : ids) {
+            int index = ns0Index(id);
+
+            if (index >= 0 && index < MAX_NS0_TABLE_SIZE) {
+                if (copy == table) {
+                    copy = Arrays.copyOf(table, Math.max(table.length, index + 1));
+                } else if (index >= copy.length) {
+                    copy = Arrays.copyOf(copy, index + 1);
+                }
+
+                copy[index] = delegate;
+            }
         }
+
+        return copy;
+    }
+
+    /**
+     * @return the identifier of {@code id} if it is a numeric id in namespace 0, otherwise -1.
+     */
+    private static int ns0Index(NodeId id) {
+        if (id.getType() == IdType.Numeric && id.getNamespaceIndex().intValue() == 0) {
+            long value = id.getNumericIdentifier();
+
+            return value <= Integer.MAX_VALUE ? (int) value : -1;
+        } else {
+            return -1;
+        }
+    }
+
+    private static <D> D lookup(AtomicReference<D[]> tableRef, Map<NodeId, ? extends D> map, NodeId id) {
+        int index = ns0Index(id);
+
+        if (index >= 0) {
+            D[] table = tableRef.get();
+
+            if (index < table.length && table[index] != null) {
+                return table[index];
+            }
+        }
+
+        return map.get(id);
     }
 
     public static class Instance {
 
         private final Map<Class<?>, EncoderDelegate<?>> encodersByClass;
         private final Map<NodeId, EncoderDelegate<?>> encodersById;
+        private final AtomicReference<EncoderDelegate<?>[]> ns0Encoders;
 
         private final Map<Class<?>, DecoderDelegate<?>> decodersByClass;
         private final Map<NodeId, DecoderDelegate<?>> decodersById;
+        private final AtomicReference<DecoderDelegate<?>[]> ns0Decoders;
+
+        /**
+         * Caches the delegate registered for a class on the {@link Class} itself; invalidated by the register
+         * methods. A cached {@code null} falls back to the map.
+         */
+        private final ClassValue<EncoderDelegate<?>> encoderCache = new ClassValue<EncoderDelegate<?>>() {
+            @Override
+            protected EncoderDelegate<?> computeValue(Class<?> type) {
+                return encodersByClass.get(type);
+            }
+        };
+
+        private final ClassValue<DecoderDelegate<?>> decoderCache = new ClassValue<DecoderDelegate<?>>() {
+            @Override
+            protected DecoderDelegate<?> computeValue(Class<?> type) {
+                return decodersByClass.get(type);
+            }
+        };
 
         private Instance(
             Map<Class<?>, EncoderDelegate<?>> encodersByClass,
             Map<NodeId, EncoderDelegate<?>> encodersById,
+            AtomicReference<EncoderDelegate<?>[]> ns0Encoders,
             Map<Class<?>, DecoderDelegate<?>> decodersByClass,
-            Map<NodeId, DecoderDelegate<?>> decodersById) {
+            Map<NodeId, DecoderDelegate<?>> decodersById,
+            AtomicReference<DecoderDelegate<?>[]> ns0Decoders) {
 
             this.encodersByClass = encodersByClass;
             this.encodersById = encodersById;
+            this.ns0Encoders = ns0Encoders;
             this.decodersByClass = decodersByClass;
             this.decodersById = decodersById;
+            this.ns0Decoders = ns0Decoders;
+        }
+
+        /*
+         * Built-in types are registered on first lookup: a miss initializes the type's class, which registers its
+         * delegates, and then looks again.
+         */
+
+        private EncoderDelegate<?> getEncoderByClass(Class<?> clazz) {
+            EncoderDelegate<?> encoderDelegate = encoderCache.get(clazz);
+
+            if (encoderDelegate == null) {
+                encoderDelegate = encodersByClass.get(clazz);
+
+                if (encoderDelegate == null && DelegateRegistryInitializer.initializeClass(clazz)) {
+                    encoderDelegate = encodersByClass.get(clazz);
+                }
+            }
+
+            return encoderDelegate;
+        }
+
+        private EncoderDelegate<?> getEncoderById(NodeId encodingId) {
+            EncoderDelegate<?> encoderDelegate = lookup(ns0Encoders, encodersById, encodingId);
+
+            if (encoderDelegate == null && DelegateRegistryInitializer.initializeEncodingId(encodingId)) {
+                encoderDelegate = lookup(ns0Encoders, encodersById, encodingId);
+            }
+
+            return encoderDelegate;
+        }
+
+        private DecoderDelegate<?> getDecoderByClass(Class<?> clazz) {
+            DecoderDelegate<?> decoderDelegate = decoderCache.get(clazz);
+
+            if (decoderDelegate == null) {
+                decoderDelegate = decodersByClass.get(clazz);
+
+                if (decoderDelegate == null && DelegateRegistryInitializer.initializeClass(clazz)) {
+                    decoderDelegate = decodersByClass.get(clazz);
+                }
+            }
+
+            return decoderDelegate;
+        }
+
+        private DecoderDelegate<?> getDecoderById(NodeId encodingId) {
+            DecoderDelegate<?> decoderDelegate = lookup(ns0Decoders, decodersById, encodingId);
+
+            if (decoderDelegate == null && DelegateRegistryInitializer.initializeEncodingId(encodingId)) {
+                decoderDelegate = lookup(ns0Decoders, decodersById, encodingId);
+            }
+
+            return decoderDelegate;
         }
 
         @SuppressWarnings("unchecked")
         public <T> EncoderDelegate<T> getEncoder(Object t) throws UaSerializationException {
             try {
-                return (EncoderDelegate<T>) encodersByClass.get(t.getClass());
+                return (EncoderDelegate<T>) getEncoderByClass(t.getClass());
             } catch (NullPointerException e) {
                 throw new UaSerializationException(StatusCodes.Bad_EncodingError,
                     "no encoder registered for class=" + t);
@@ -123,7 +280,7 @@ public class DelegateRegistry {
 
         @SuppressWarnings("unchecked")
         public <T> EncoderDelegate<T> getEncoder(Class<?> clazz) throws UaSerializationException {
-            EncoderDelegate<?> encoderDelegate = encodersByClass.get(clazz);
+            EncoderDelegate<?> encoderDelegate = getEncoderByClass(clazz);
 
             if (encoderDelegate != null) {
                 try {
@@ -139,7 +296,7 @@ public class DelegateRegistry {
 
         @SuppressWarnings("unchecked")
         public <T> EncoderDelegate<T> getEncoder(NodeId encodingId) throws UaSerializationException {
-            EncoderDelegate<?> encoderDelegate = encodersById.get(encodingId);
+            EncoderDelegate<?> encoderDelegate = getEncoderById(encodingId);
 
             if (encoderDelegate != null) {
                 try {
@@ -156,7 +313,7 @@ public class DelegateRegistry {
         @SuppressWarnings("unchecked")
         public <T> DecoderDelegate<T> getDecoder(T t) throws UaSerializationException {
             try {
-                return (DecoderDelegate<T>) decodersByClass.get(t.getClass());
+                return (DecoderDelegate<T>) getDecoderByClass(t.getClass());
             } catch (NullPointerException e) {
                 throw new UaSerializationException(StatusCodes.Bad_DecodingError,
                     "no decoder registered for class=" + t);
@@ -165,7 +322,7 @@ public class DelegateRegistry {
 
         @SuppressWarnings("unchecked")
         public <T> DecoderDelegate<T> getDecoder(Class<T> clazz) throws UaSerializationException {
-            DecoderDelegate<?> decoderDelegate = decodersByClass.get(clazz);
+            DecoderDelegate<?> decoderDelegate = getDecoderByClass(clazz);
 
             if (decoderDelegate != null) {
                 try {
@@ -181,7 +338,7 @@ public class DelegateRegistry {
 
         @SuppressWarnings("unchecked")
         public <T> DecoderDelegate<T> getDecoder(NodeId encodingId) {
-            DecoderDelegate<?> decoderDelegate = decodersById.get(encodingId);
+            DecoderDelegate<?> decoderDelegate = getDecoderById(encodingId);
 
             if (decoderDelegate != null) {
                 try {
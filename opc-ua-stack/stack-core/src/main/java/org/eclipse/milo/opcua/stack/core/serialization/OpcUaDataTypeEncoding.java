@@ -57,17 +57,18 @@ public class OpcUaDataTypeEncoding implements DataTypeEncoding {
 
     @Override
     public Object decodeFromByteString(ByteString encoded, NodeId encodingTypeId) {
-        DecoderDelegate<Object> delegate = DELEGATE_REGISTRY.getDecoder(encodingTypeId);
-
         byte[] bs = encoded.bytes();
         if (bs == null) bs = new byte[0];
 
-        ByteBuf buffer = Unpooled
-            .wrappedBuffer(bs)
-            .order(ByteOrder.LITTLE_ENDIAN);
+        return decodeFromBuffer(Unpooled.wrappedBuffer(bs), encodingTypeId);
+    }
+
+    @Override
+    public Object decodeFromBuffer(ByteBuf buffer, NodeId encodingTypeId) {
+        DecoderDelegate<Object> delegate = DELEGATE_REGISTRY.getDecoder(encodingTypeId);
 
         BinaryDecoder decoder = new BinaryDecoder();
-        decoder.setBuffer(buffer);
+        decoder.setBuffer(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN));
 
         return delegate.decode(decoder);
     }
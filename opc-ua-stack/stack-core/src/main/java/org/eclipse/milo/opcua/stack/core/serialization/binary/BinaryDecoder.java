@@ -15,11 +15,13 @@ package org.eclipse.milo.opcua.stack.core.serialization.binary;
 
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import javax.annotation.Nullable;
 
 import io.netty.buffer.ByteBuf;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
@@ -57,6 +59,11 @@ public class BinaryDecoder implements UaDecoder {
 
     private volatile ByteBuf buffer;
 
+    private volatile boolean primitiveArraysEnabled = false;
+    private volatile boolean retainedBodiesEnabled = false;
+
+    private volatile InterningCache interningCache;
+
     private final int maxArrayLength;
     private final int maxStringLength;
 
@@ -74,6 +81,47 @@ public class BinaryDecoder implements UaDecoder {
         return this;
     }
 
+    /**
+     * If enabled, Variant arrays of Boolean, SByte, Int16, Int32, Int64, Float and Double are decoded into
+     * {@code boolean[]}, {@code byte[]}, {@code short[]}, {@code int[]}, {@code long[]}, {@code float[]} and
+     * {@code double[]} with bulk reads, instead of into arrays of the boxed types.
+     *
+     * @param primitiveArraysEnabled {@code true} to decode Variant arrays into primitive arrays where possible.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setPrimitiveArraysEnabled(boolean primitiveArraysEnabled) {
+        this.primitiveArraysEnabled = primitiveArraysEnabled;
+        return this;
+    }
+
+    /**
+     * If enabled, binary ExtensionObject bodies are not copied out of the buffer being decoded. Each body is kept as
+     * a retained slice of the buffer instead, and decoded directly from that slice.
+     * <p>
+     * Every such {@link ExtensionObject} holds a reference to the buffer being decoded, so that buffer stays allocated
+     * until each of them has either been decoded, which releases the slice, or had
+     * {@link ExtensionObject#releaseBody()} called. See {@link ExtensionObject#fromRetainedBody(ByteBuf, NodeId)}.
+     *
+     * @param retainedBodiesEnabled {@code true} to retain ExtensionObject bodies as slices of the buffer.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setRetainedBodiesEnabled(boolean retainedBodiesEnabled) {
+        this.retainedBodiesEnabled = retainedBodiesEnabled;
+        return this;
+    }
+
+    /**
+     * If set, decoded {@link NodeId}s and {@link QualifiedName}s are looked up in {@code interningCache} by their
+     * encoded bytes, and a cached instance is returned instead of decoding a new one.
+     *
+     * @param interningCache the {@link InterningCache} to use, or {@code null} to decode every value.
+     * @return this {@link BinaryDecoder}.
+     */
+    public BinaryDecoder setInterningCache(@Nullable InterningCache interningCache) {
+        this.interningCache = interningCache;
+        return this;
+    }
+
     @Override
     public Boolean decodeBoolean(String field) {
         return buffer.readBoolean();
@@ -196,18 +244,79 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public NodeId decodeNodeId(String field) throws UaSerializationException {
+        InterningCache cache = interningCache;
+
+        if (cache != null) {
+            int index = buffer.readerIndex();
+            int length = getEncodedNodeIdLength(index);
+
+            if (length > 0) {
+                int hash = InterningCache.hash(buffer, index, length);
+                NodeId nodeId = cache.get(NodeId.class, hash, buffer, index, length);
+
+                if (nodeId != null) {
+                    buffer.skipBytes(length);
+                } else {
+                    nodeId = readNodeId();
+                    cache.put(hash, buffer, index, length, nodeId);
+                }
+
+                return nodeId;
+            }
+        }
+
+        return readNodeId();
+    }
+
+    /**
+     * @return the length of the NodeId encoded at {@code index}, or -1 if it is too long to cache or is not fully
+     * readable.
+     */
+    private int getEncodedNodeIdLength(int index) {
+        int readable = buffer.writerIndex() - index;
+        if (readable < 1) return -1;
+
+        int format = buffer.getByte(index) & 0x0F;
+        int length;
+
+        switch (format) {
+            case 0x00:
+                length = 2;
+                break;
+            case 0x01:
+                length = 4;
+                break;
+            case 0x02:
+                length = 7;
+                break;
+            case 0x04:
+                length = 19;
+                break;
+            case 0x03:
+            case 0x05:
+                if (readable < 7) return -1;
+                length = 7 + Math.max(buffer.getInt(index + 3), 0);
+                break;
+            default:
+                return -1;
+        }
+
+        return length <= readable && length <= InterningCache.MAX_ENCODED_LENGTH ? length : -1;
+    }
+
+    private NodeId readNodeId() throws UaSerializationException {
         int format = buffer.readByte() & 0x0F;
 
 
         if (format == 0x00) {
             /* Two-byte format */
-            return new NodeId(Unsigned.ushort(0), Unsigned.uint(buffer.readUnsignedByte()));
+            return new NodeId(0, buffer.readUnsignedByte());
         } else if (format == 0x01) {
             /* Four-byte format */
-            return new NodeId(Unsigned.ushort(buffer.readUnsignedByte()), Unsigned.uint(buffer.readUnsignedShort()));
+            return new NodeId(buffer.readUnsignedByte(), buffer.readUnsignedShort());
         } else if (format == 0x02) {
             /* Numeric format */
-            return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), Unsigned.uint(buffer.readUnsignedInt()));
+            return new NodeId(buffer.readUnsignedShort(), buffer.readInt());
         } else if (format == 0x03) {
             /* String format */
             return new NodeId(Unsigned.ushort(buffer.readUnsignedShort()), decodeString(null));
@@ -249,6 +358,35 @@ public class BinaryDecoder implements UaDecoder {
 
     @Override
     public QualifiedName decodeQualifiedName(String field) throws UaSerializationException {
+        InterningCache cache = interningCache;
+
+        if (cache != null) {
+            int index = buffer.readerIndex();
+            int readable = buffer.writerIndex() - index;
+
+            if (readable >= 6) {
+                int length = 6 + Math.max(buffer.getInt(index + 2), 0);
+
+                if (length <= readable && length <= InterningCache.MAX_ENCODED_LENGTH) {
+                    int hash = InterningCache.hash(buffer, index, length);
+                    QualifiedName name = cache.get(QualifiedName.class, hash, buffer, index, length);
+
+                    if (name != null) {
+                        buffer.skipBytes(length);
+                    } else {
+                        name = readQualifiedName();
+                        cache.put(hash, buffer, index, length, name);
+                    }
+
+                    return name;
+                }
+            }
+        }
+
+        return readQualifiedName();
+    }
+
+    private QualifiedName readQualifiedName() throws UaSerializationException {
         int namespaceIndex = decodeUInt16(null).intValue();
         String name = decodeString(null);
 
@@ -281,6 +419,18 @@ public class BinaryDecoder implements UaDecoder {
         if (encoding == 0) {
             return new ExtensionObject((ByteString) null, encodingTypeId);
         } else if (encoding == 1) {
+            if (retainedBodiesEnabled) {
+                int length = decodeInt32(null);
+
+                if (length == -1) {
+                    return new ExtensionObject(ByteString.NULL_VALUE, encodingTypeId);
+                } else {
+                    ByteBuf body = buffer.readSlice(checkReadable(length, 1)).retain();
+
+                    return ExtensionObject.fromRetainedBody(body, encodingTypeId);
+                }
+            }
+
             ByteString byteString = decodeByteString(null);
 
             return new ExtensionObject(byteString, encodingTypeId);
@@ -330,12 +480,16 @@ public class BinaryDecoder implements UaDecoder {
                             String.format("max array length exceeded (length=%s, max=%s)", length, maxArrayLength));
                     }
 
-                    Object flatArray = Array.newInstance(backingClass, length);
+                    Object flatArray = primitiveArraysEnabled ? decodePrimitiveArray(typeId, length) : null;
 
-                    for (int i = 0; i < length; i++) {
-                        Object element = decodeBuiltinType(typeId);
+                    if (flatArray == null) {
+                        Object[] elements = (Object[]) Array.newInstance(backingClass, length);
 
-                        Array.set(flatArray, i, element);
+                        for (int i = 0; i < length; i++) {
+                            elements[i] = decodeBuiltinType(typeId);
+                        }
+
+                        flatArray = elements;
                     }
 
                     int[] dimensions = dimensionsEncoded ? decodeDimensions() : new int[]{length};
@@ -351,6 +505,73 @@ public class BinaryDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Decode {@code length} elements of builtin type {@code typeId} into a primitive array.
+     *
+     * @return the primitive array, or {@code null} if {@code typeId} has no primitive representation.
+     */
+    private Object decodePrimitiveArray(int typeId, int length) throws UaSerializationException {
+        switch (typeId) {
+            case 1: {
+                boolean[] a = new boolean[checkReadable(length, 1)];
+                for (int i = 0; i < length; i++) a[i] = buffer.readBoolean();
+                return a;
+            }
+            case 2: {
+                byte[] a = new byte[checkReadable(length, 1)];
+                buffer.readBytes(a);
+                return a;
+            }
+            case 4: {
+                short[] a = new short[checkReadable(length, 2)];
+                readBulk(length * 2).asShortBuffer().get(a);
+                return a;
+            }
+            case 6: {
+                int[] a = new int[checkReadable(length, 4)];
+                readBulk(length * 4).asIntBuffer().get(a);
+                return a;
+            }
+            case 8: {
+                long[] a = new long[checkReadable(length, 8)];
+                readBulk(length * 8).asLongBuffer().get(a);
+                return a;
+            }
+            case 10: {
+                float[] a = new float[checkReadable(length, 4)];
+                readBulk(length * 4).asFloatBuffer().get(a);
+                return a;
+            }
+            case 11: {
+                double[] a = new double[checkReadable(length, 8)];
+                readBulk(length * 8).asDoubleBuffer().get(a);
+                return a;
+            }
+            default:
+                return null;
+        }
+    }
+
+    private int checkReadable(int length, int elementSize) throws UaSerializationException {
+        if (length > buffer.readableBytes() / elementSize) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError,
+                String.format("array length exceeds readable bytes (length=%s, readable=%s)",
+                    length, buffer.readableBytes()));
+        }
+
+        return length;
+    }
+
+    /**
+     * @return a little-endian view of the next {@code length} readable bytes, which are consumed.
+     */
+    private ByteBuffer readBulk(int length) {
+        int index = buffer.readerIndex();
+        buffer.skipBytes(length);
+
+        return buffer.nioBuffer(index, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
     @Override
     public DiagnosticInfo decodeDiagnosticInfo(String field) throws UaSerializationException {
         int mask = buffer.readByte();
@@ -13,11 +13,12 @@
 
 package org.eclipse.milo.opcua.stack.core.serialization.binary;
 
-import java.io.UnsupportedEncodingException;
-import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
 import io.netty.buffer.ByteBuf;
@@ -46,7 +47,6 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
-import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
 import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
 import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
@@ -115,6 +115,16 @@ public class BinaryEncoder implements UaEncoder {
         }
     }
 
+    /**
+     * Encode an Int32 without boxing.
+     *
+     * @param field the field name; ignored by the binary encoding.
+     * @param value the value to encode.
+     */
+    public void encodeInt32(String field, int value) {
+        buffer.writeInt(value);
+    }
+
     @Override
     public void encodeInt64(String field, Long value) {
         if (value == null) {
@@ -151,6 +161,16 @@ public class BinaryEncoder implements UaEncoder {
         }
     }
 
+    /**
+     * Encode the low 32 bits of {@code value} as a UInt32 without boxing.
+     *
+     * @param field the field name; ignored by the binary encoding.
+     * @param value the value to encode.
+     */
+    public void encodeUInt32(String field, long value) {
+        buffer.writeInt((int) value);
+    }
+
     @Override
     public void encodeUInt64(String field, ULong value) throws UaSerializationException {
         if (value == null) {
@@ -188,27 +208,83 @@ public class BinaryEncoder implements UaEncoder {
                     "max string length exceeded");
             }
 
-            try {
-                // Record the current index and write a placeholder for the length.
-                int lengthIndex = buffer.writerIndex();
-                buffer.writeInt(0x42424242);
-
-                // Write the string bytes.
-                int indexBefore = buffer.writerIndex();
-                buffer.writeBytes(value.getBytes("UTF-8"));
-                int indexAfter = buffer.writerIndex();
-                int bytesWritten = indexAfter - indexBefore;
-
-                // Go back and update the length.
-                buffer.writerIndex(lengthIndex);
-                buffer.writeInt(bytesWritten);
-
-                // Return to where we were after writing the string.
-                buffer.writerIndex(indexAfter);
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+            int length = utf8Length(value);
+
+            buffer.writeInt(length);
+            writeUtf8(value, length);
+        }
+    }
+
+    /**
+     * @return the number of bytes {@code value} encodes to in UTF-8, counting each unpaired surrogate as the single
+     * byte {@code '?'} it is replaced with, as {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int utf8Length = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    utf8Length += 1;
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length &&
+                        Character.isLowSurrogate(value.charAt(i + 1))) {
+
+                        utf8Length += 2; // 4 bytes for 2 chars
+                        i++;
+                    }
+                } else {
+                    utf8Length += 2;
+                }
+            }
+        }
+
+        return utf8Length;
+    }
+
+    /**
+     * Write {@code value} as UTF-8 directly into the buffer, without an intermediate byte array.
+     *
+     * @param value  the String to write.
+     * @param length the encoded length, as computed by {@link #utf8Length(String)}.
+     */
+    private void writeUtf8(String value, int length) {
+        buffer.ensureWritable(length);
+
+        int index = buffer.writerIndex();
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                buffer.setByte(index++, c);
+            } else if (c < 0x800) {
+                buffer.setByte(index++, 0xC0 | (c >> 6));
+                buffer.setByte(index++, 0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+                    buffer.setByte(index++, 0xF0 | (codePoint >> 18));
+                    buffer.setByte(index++, 0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer.setByte(index++, 0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer.setByte(index++, 0x80 | (codePoint & 0x3F));
+                } else {
+                    buffer.setByte(index++, '?');
+                }
+            } else {
+                buffer.setByte(index++, 0xE0 | (c >> 12));
+                buffer.setByte(index++, 0x80 | ((c >> 6) & 0x3F));
+                buffer.setByte(index++, 0x80 | (c & 0x3F));
             }
         }
+
+        buffer.writerIndex(index);
     }
 
     @Override
@@ -255,11 +331,7 @@ public class BinaryEncoder implements UaEncoder {
         if (value == null || value.isNull()) {
             buffer.writeInt(-1);
         } else {
-            try {
-                encodeByteString(null, new ByteString(value.getFragment().getBytes("UTF-8")));
-            } catch (UnsupportedEncodingException e) {
-                throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
-            }
+            encodeByteString(null, new ByteString(value.getFragment().getBytes(StandardCharsets.UTF_8)));
         }
     }
 
@@ -270,8 +342,7 @@ public class BinaryEncoder implements UaEncoder {
         int namespaceIndex = value.getNamespaceIndex().intValue();
 
         if (value.getType() == IdType.Numeric) {
-            UInteger identifier = (UInteger) value.getIdentifier();
-            long idv = identifier.longValue();
+            long idv = value.getNumericIdentifier();
 
             if (namespaceIndex == 0 && idv >= 0 && idv <= 255) {
                 /* Two-byte format */
@@ -379,7 +450,7 @@ public class BinaryEncoder implements UaEncoder {
         }
 
         if (serverIndex > 0) {
-            encodeUInt32(null, Unsigned.uint(serverIndex));
+            encodeUInt32(null, serverIndex);
         }
     }
 
@@ -388,7 +459,7 @@ public class BinaryEncoder implements UaEncoder {
         if (value == null) {
             buffer.writeInt(0);
         } else {
-            encodeUInt32(null, Unsigned.uint(value.getValue()));
+            encodeUInt32(null, value.getValue());
         }
     }
 
@@ -427,7 +498,14 @@ public class BinaryEncoder implements UaEncoder {
 
     @Override
     public void encodeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
-        if (value == null || value.getEncoded() == null) {
+        UaStructure structure = value != null ? value.getUnencodedStructure() : null;
+
+        if (structure != null) {
+            encodeNodeId(null, value.getEncodingTypeId());
+            buffer.writeByte(1); // Body is binary encoded
+
+            encodeStructureBody(value.getEncodingTypeId(), structure);
+        } else if (value == null || value.getEncoded() == null) {
             encodeNodeId(null, NodeId.NULL_VALUE);
             buffer.writeByte(0); // No body is encoded
         } else {
@@ -461,6 +539,21 @@ public class BinaryEncoder implements UaEncoder {
         }
     }
 
+    /**
+     * Encode {@code structure} as a ByteString body directly into the buffer, writing a placeholder length first and
+     * back-patching it once the length of the body is known.
+     */
+    private void encodeStructureBody(NodeId encodingTypeId, UaStructure structure) throws UaSerializationException {
+        EncoderDelegate<Object> delegate = DELEGATE_REGISTRY.getEncoder(encodingTypeId);
+
+        int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+
+        delegate.encode(structure, this);
+
+        buffer.setInt(lengthIndex, buffer.writerIndex() - lengthIndex - 4);
+    }
+
     @Override
     public void encodeDataValue(String field, DataValue value) throws UaSerializationException {
         if (value == null) {
@@ -509,31 +602,28 @@ public class BinaryEncoder implements UaEncoder {
             }
 
             if (value.getClass().isArray()) {
-                int[] dimensions = ArrayUtil.getDimensions(value);
+                Class<?> componentType = value.getClass().getComponentType();
 
-                if (dimensions.length == 1) {
+                if (componentType.isPrimitive()) {
                     buffer.writeByte(typeId | 0x80);
 
-                    int length = Array.getLength(value);
-                    buffer.writeInt(length);
+                    encodePrimitiveArray(value);
+                } else if (!componentType.isArray()) {
+                    buffer.writeByte(typeId | 0x80);
 
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(value, i);
+                    Object[] array = (Object[]) value;
+                    buffer.writeInt(array.length);
 
+                    for (Object o : array) {
                         encodeValue(o, typeId, structure, enumeration);
                     }
                 } else {
+                    int[] dimensions = ArrayUtil.getDimensions(value);
+
                     buffer.writeByte(typeId | 0xC0);
 
                     Object flattened = ArrayUtil.flatten(value);
-                    int length = Array.getLength(flattened);
-                    buffer.writeInt(length);
-
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(flattened, i);
-
-                        encodeValue(o, typeId, structure, enumeration);
-                    }
+                    encodeFlattenedArray(flattened, typeId, structure, enumeration);
 
                     encodeInt32(null, dimensions.length);
                     for (int dimension : dimensions) {
@@ -548,9 +638,84 @@ public class BinaryEncoder implements UaEncoder {
         }
     }
 
+    private void encodeFlattenedArray(Object flattened, int typeId, boolean structure, boolean enumeration) {
+        if (flattened.getClass().getComponentType().isPrimitive()) {
+            encodePrimitiveArray(flattened);
+        } else {
+            Object[] array = (Object[]) flattened;
+            buffer.writeInt(array.length);
+
+            for (Object o : array) {
+                encodeValue(o, typeId, structure, enumeration);
+            }
+        }
+    }
+
+    /**
+     * Encode the length and elements of a one-dimensional primitive array, using a single bulk little-endian write
+     * when the buffer is backed by a single contiguous array or memory region.
+     */
+    private void encodePrimitiveArray(Object array) throws UaSerializationException {
+        if (array instanceof double[]) {
+            double[] a = (double[]) array;
+            buffer.writeInt(a.length);
+            if (!writeBulk(a.length * 8, nio -> nio.asDoubleBuffer().put(a))) {
+                for (double d : a) buffer.writeDouble(d);
+            }
+        } else if (array instanceof float[]) {
+            float[] a = (float[]) array;
+            buffer.writeInt(a.length);
+            if (!writeBulk(a.length * 4, nio -> nio.asFloatBuffer().put(a))) {
+                for (float f : a) buffer.writeFloat(f);
+            }
+        } else if (array instanceof long[]) {
+            long[] a = (long[]) array;
+            buffer.writeInt(a.length);
+            if (!writeBulk(a.length * 8, nio -> nio.asLongBuffer().put(a))) {
+                for (long l : a) buffer.writeLong(l);
+            }
+        } else if (array instanceof int[]) {
+            int[] a = (int[]) array;
+            buffer.writeInt(a.length);
+            if (!writeBulk(a.length * 4, nio -> nio.asIntBuffer().put(a))) {
+                for (int i : a) buffer.writeInt(i);
+            }
+        } else if (array instanceof short[]) {
+            short[] a = (short[]) array;
+            buffer.writeInt(a.length);
+            if (!writeBulk(a.length * 2, nio -> nio.asShortBuffer().put(a))) {
+                for (short sh : a) buffer.writeShort(sh);
+            }
+        } else if (array instanceof byte[]) {
+            byte[] a = (byte[]) array;
+            buffer.writeInt(a.length);
+            buffer.writeBytes(a);
+        } else if (array instanceof boolean[]) {
+            boolean[] a = (boolean[]) array;
+            buffer.writeInt(a.length);
+            for (boolean b : a) buffer.writeBoolean(b);
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError,
+                "unsupported array type: " + array.getClass().getComponentType());
+        }
+    }
+
+    private boolean writeBulk(int length, Consumer<ByteBuffer> writer) {
+        buffer.ensureWritable(length);
+
+        // A buffer made of several components, e.g. a ChunkedMessageBuffer, would return a copy from nioBuffer().
+        if (!buffer.hasArray() && !buffer.hasMemoryAddress()) return false;
+
+        int index = buffer.writerIndex();
+        writer.accept(buffer.nioBuffer(index, length).order(ByteOrder.LITTLE_ENDIAN));
+        buffer.writerIndex(index + length);
+
+        return true;
+    }
+
     private void encodeValue(Object value, int typeId, boolean structure, boolean enumeration) {
         if (structure) {
-            ExtensionObject extensionObject = ExtensionObject.encode((UaStructure) value);
+            ExtensionObject extensionObject = ExtensionObject.encodeLazily((UaStructure) value);
 
             encodeBuiltinType(typeId, extensionObject);
         } else if (enumeration) {
@@ -636,7 +801,7 @@ public class BinaryEncoder implements UaEncoder {
                     "max array length exceeded");
             }
 
-            encodeInt32(null, values.length);
+            buffer.writeInt(values.length);
             for (T t : values) {
                 consumer.accept(null, t);
             }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization.binary;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+
+/**
+ * A bounded cache of recently decoded values, such as {@link NodeId}s and {@link QualifiedName}s, keyed by their
+ * encoded bytes.
+ * <p>
+ * A {@link BinaryDecoder} configured with a cache looks the bytes of each such value up before decoding it and
+ * returns the cached instance on a hit, so a value that is received over and over is allocated once and, when it is
+ * used as a key, is identity-equal to the key it was last looked up with.
+ * <p>
+ * The cache is direct-mapped: each encoding hashes to a single slot and replaces whatever value occupied it. Entries
+ * are immutable, so one cache may be shared by decoders running on different threads.
+ */
+public final class InterningCache {
+
+    /**
+     * Values encoded in more bytes than this are not cached.
+     */
+    static final int MAX_ENCODED_LENGTH = 256;
+
+    private final Entry[] entries;
+    private final int mask;
+
+    /**
+     * @param size the maximum number of values to cache; rounded up to a power of 2.
+     */
+    public InterningCache(int size) {
+        Preconditions.checkArgument(size > 0 && size <= (1 << 30), "size must be in [1, 2^30]");
+
+        int capacity = Integer.highestOneBit(size);
+        if (capacity < size) capacity <<= 1;
+
+        entries = new Entry[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * @return the number of slots in this cache.
+     */
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * @return the hash of the {@code length} bytes at {@code index} in {@code buffer}.
+     */
+    static int hash(ByteBuf buffer, int index, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.getByte(index + i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @param type   the type of value expected.
+     * @param hash   the hash of the encoded bytes, see {@link #hash(ByteBuf, int, int)}.
+     * @param buffer the buffer holding the encoded bytes.
+     * @param index  the index of the first encoded byte.
+     * @param length the number of encoded bytes.
+     * @return the cached value of {@code type} encoded by the given bytes, or {@code null} if there is none.
+     */
+    @Nullable
+    <T> T get(Class<T> type, int hash, ByteBuf buffer, int index, int length) {
+        Entry entry = entries[hash & mask];
+
+        if (entry != null && entry.hash == hash && entry.matches(buffer, index, length)
+            && type.isInstance(entry.value)) {
+
+            return type.cast(entry.value);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Cache {@code value} as the value encoded by the {@code length} bytes at {@code index} in {@code buffer}.
+     */
+    void put(int hash, ByteBuf buffer, int index, int length, Object value) {
+        byte[] encoded = new byte[length];
+        buffer.getBytes(index, encoded);
+
+        entries[hash & mask] = new Entry(hash, encoded, value);
+    }
+
+    private static final class Entry {
+
+        private final int hash;
+        private final byte[] encoded;
+        private final Object value;
+
+        private Entry(int hash, byte[] encoded, Object value) {
+            this.hash = hash;
+            this.encoded = encoded;
+            this.value = value;
+        }
+
+        private boolean matches(ByteBuf buffer, int index, int length) {
+            if (encoded.length != length) return false;
+
+            for (int i = 0; i < length; i++) {
+                if (encoded[i] != buffer.getByte(index + i)) return false;
+            }
+
+            return true;
+        }
+
+    }
+
+}
@@ -13,8 +13,11 @@
 
 package org.eclipse.milo.opcua.stack.core.types.builtin;
 
+import javax.annotation.Nullable;
+
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
+import io.netty.buffer.ByteBuf;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.serialization.DataTypeEncoding;
 import org.eclipse.milo.opcua.stack.core.serialization.UaStructure;
@@ -30,14 +33,26 @@ public final class ExtensionObject {
 
     private final BodyType bodyType;
 
-    private final Object encoded;
+    private volatile Object encoded;
     private final NodeId encodingTypeId;
 
+    /**
+     * The structure this object was created from by {@link #encodeLazily(UaStructure)}, or {@code null}.
+     */
+    private final UaStructure structure;
+
+    /**
+     * The retained body this object was created with by {@link #fromRetainedBody(ByteBuf, NodeId)}, until it is
+     * decoded or released. Guarded by {@code this}.
+     */
+    private ByteBuf body;
+
     public ExtensionObject(ByteString encoded, NodeId encodingTypeId) {
         this.encoded = encoded;
         this.encodingTypeId = encodingTypeId;
 
         bodyType = BodyType.ByteString;
+        structure = null;
     }
 
     public ExtensionObject(XmlElement encoded, NodeId encodingTypeId) {
@@ -45,12 +60,61 @@ public final class ExtensionObject {
         this.encodingTypeId = encodingTypeId;
 
         bodyType = BodyType.XmlElement;
+        structure = null;
+    }
+
+    private ExtensionObject(UaStructure structure) {
+        this.structure = structure;
+        this.decoded = structure;
+        this.encodingTypeId = structure.getBinaryEncodingId();
+
+        bodyType = BodyType.ByteString;
+    }
+
+    private ExtensionObject(ByteBuf body, NodeId encodingTypeId) {
+        this.body = body;
+        this.encodingTypeId = encodingTypeId;
+
+        bodyType = BodyType.ByteString;
+        structure = null;
     }
 
     public Object getEncoded() {
+        if (encoded == null) {
+            if (structure != null) {
+                encoded = DataTypeEncoding.OPC_UA.encodeToByteString(structure, encodingTypeId);
+            } else {
+                copyBody();
+            }
+        }
+
         return encoded;
     }
 
+    /**
+     * Copy a retained body, or re-encode the value it was decoded into, once the encoded form is asked for.
+     */
+    private synchronized void copyBody() {
+        if (encoded == null) {
+            if (body != null) {
+                byte[] bs = new byte[body.readableBytes()];
+                body.getBytes(body.readerIndex(), bs);
+                encoded = ByteString.of(bs);
+            } else if (decoded != null) {
+                encoded = DataTypeEncoding.OPC_UA.encodeToByteString(decoded, encodingTypeId);
+            }
+        }
+    }
+
+    /**
+     * @return the structure this object was created from by {@link #encodeLazily(UaStructure)}, if it hasn't been
+     * encoded yet, otherwise {@code null}.
+     */
+    @Nullable
+    public UaStructure getUnencodedStructure() {
+        return encoded == null ? structure : null;
+    }
+
     public NodeId getEncodingTypeId() {
         return encodingTypeId;
     }
@@ -66,6 +130,20 @@ public final class ExtensionObject {
     public <T> T decode(DataTypeEncoding context) throws UaSerializationException {
         if (decoded != null) return (T) decoded;
 
+        synchronized (this) {
+            if (body != null) {
+                try {
+                    decoded = context.decodeFromBuffer(body, encodingTypeId);
+                } finally {
+                    // A body that fails to decode once will never decode, so don't keep its buffer around either.
+                    body.release();
+                    body = null;
+                }
+            }
+        }
+
+        if (decoded != null) return (T) decoded;
+
         switch (bodyType) {
             case ByteString: {
                 ByteString bs = (ByteString) encoded;
@@ -92,10 +170,75 @@ public final class ExtensionObject {
         }
     }
 
+    /**
+     * @return {@code true} if this object still holds a retained body that must be decoded or released.
+     * @see #fromRetainedBody(ByteBuf, NodeId)
+     */
+    public synchronized boolean isBodyRetained() {
+        return body != null;
+    }
+
+    /**
+     * Release the retained body of this object, if it still holds one, without decoding it.
+     * <p>
+     * The encoded form remains available if {@link #getEncoded()} was called before; otherwise the body is lost.
+     *
+     * @see #fromRetainedBody(ByteBuf, NodeId)
+     */
+    public synchronized void releaseBody() {
+        if (body != null) {
+            body.release();
+            body = null;
+        }
+    }
+
+    /**
+     * Copy the retained body of this object, if it still holds one, into its encoded form and release it, so this
+     * object can be kept for longer than the buffer it was received in.
+     *
+     * @return this object.
+     * @see #fromRetainedBody(ByteBuf, NodeId)
+     */
+    public synchronized ExtensionObject detachBody() {
+        if (body != null) {
+            copyBody();
+            releaseBody();
+        }
+
+        return this;
+    }
+
+    /**
+     * Create an {@link ExtensionObject} whose binary body is a retained slice of a received buffer, as produced by a
+     * {@link org.eclipse.milo.opcua.stack.core.serialization.binary.BinaryDecoder} with retained bodies enabled.
+     * <p>
+     * The {@link ExtensionObject} takes ownership of {@code body}: the first {@link #decode()} decodes directly from
+     * the slice and releases it, even if decoding fails, {@link #detachBody()} copies and releases it, or
+     * {@link #releaseBody()} releases it undecoded. Until one of those happens the buffer the slice was taken from
+     * remains allocated.
+     *
+     * @param body           the body, including neither the encoding type id nor the length prefix.
+     * @param encodingTypeId the id of the binary encoding of the body.
+     */
+    public static ExtensionObject fromRetainedBody(ByteBuf body, NodeId encodingTypeId) {
+        return new ExtensionObject(body, encodingTypeId);
+    }
+
     public static ExtensionObject encode(UaStructure structure) throws UaSerializationException {
         return encodeAsByteString(structure, structure.getBinaryEncodingId());
     }
 
+    /**
+     * Create an {@link ExtensionObject} holding {@code structure} that isn't encoded until its encoded form is
+     * needed.
+     * <p>
+     * {@link org.eclipse.milo.opcua.stack.core.serialization.binary.BinaryEncoder} writes the body of such an object
+     * directly into the message being encoded instead of into an intermediate {@link ByteString}.
+     */
+    public static ExtensionObject encodeLazily(UaStructure structure) {
+        return new ExtensionObject(structure);
+    }
+
     public static ExtensionObject encodeAsByteString(Object object,
                                                      NodeId encodingTypeId) throws UaSerializationException {
 
@@ -133,19 +276,19 @@ public final class ExtensionObject {
 
         ExtensionObject that = (ExtensionObject) o;
 
-        return Objects.equal(encoded, that.encoded) &&
+        return Objects.equal(getEncoded(), that.getEncoded()) &&
             Objects.equal(encodingTypeId, that.encodingTypeId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(encoded, encodingTypeId);
+        return Objects.hashCode(getEncoded(), encodingTypeId);
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-            .add("encoded", encoded)
+            .add("encoded", getEncoded())
             .add("encodingTypeId", encodingTypeId)
             .toString();
     }
@@ -18,6 +18,7 @@ import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.xml.bind.DatatypeConverter;
 
 import com.google.common.base.MoreObjects;
@@ -40,15 +41,32 @@ public final class NodeId {
 
     public static final NodeId NULL_VALUE = NULL_NUMERIC;
 
-    private final UShort namespaceIndex;
+    private final int namespaceIndex;
+    private final IdType type;
+    private final int hash;
+
+    /**
+     * The identifier of a numeric NodeId, as the bits of a uint32.
+     */
+    private final int numericIdentifier;
+
+    /**
+     * The identifier of a String, Guid or Opaque NodeId; {@code null} for a numeric NodeId.
+     */
     private final Object identifier;
 
+    /**
+     * The identifier of a numeric NodeId as a {@link UInteger}, created on first use if the NodeId was created from
+     * primitives. UInteger is immutable, so a race here only creates equal instances.
+     */
+    private UInteger boxedIdentifier;
+
     /**
      * @param namespaceIndex the index for a namespace URI. An index of 0 is used for OPC UA defined NodeIds.
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
      */
     public NodeId(int namespaceIndex, int identifier) {
-        this(ushort(namespaceIndex), uint(identifier));
+        this(checkNamespaceIndex(namespaceIndex), identifier, null);
     }
 
     /**
@@ -56,7 +74,7 @@ public final class NodeId {
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
      */
     public NodeId(int namespaceIndex, UInteger identifier) {
-        this(ushort(namespaceIndex), identifier);
+        this(checkNamespaceIndex(namespaceIndex), checkNotNull(identifier).intValue(), identifier);
     }
 
     /**
@@ -88,11 +106,7 @@ public final class NodeId {
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
      */
     public NodeId(UShort namespaceIndex, UInteger identifier) {
-        checkNotNull(namespaceIndex);
-        checkNotNull(identifier);
-
-        this.namespaceIndex = namespaceIndex;
-        this.identifier = identifier;
+        this(checkNotNull(namespaceIndex).intValue(), checkNotNull(identifier).intValue(), identifier);
     }
 
     /**
@@ -100,10 +114,7 @@ public final class NodeId {
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
      */
     public NodeId(UShort namespaceIndex, int identifier) {
-        checkNotNull(namespaceIndex);
-
-        this.namespaceIndex = namespaceIndex;
-        this.identifier = uint(identifier);
+        this(checkNotNull(namespaceIndex).intValue(), identifier, null);
     }
 
     /**
@@ -111,12 +122,7 @@ public final class NodeId {
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
      */
     public NodeId(UShort namespaceIndex, String identifier) {
-        checkNotNull(namespaceIndex);
-
-        if (identifier == null) identifier = "";
-
-        this.namespaceIndex = namespaceIndex;
-        this.identifier = identifier;
+        this(checkNotNull(namespaceIndex).intValue(), IdType.String, identifier != null ? identifier : "");
     }
 
     /**
@@ -124,11 +130,7 @@ public final class NodeId {
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
      */
     public NodeId(UShort namespaceIndex, UUID identifier) {
-        checkNotNull(namespaceIndex);
-        checkNotNull(identifier);
-
-        this.namespaceIndex = namespaceIndex;
-        this.identifier = identifier;
+        this(checkNotNull(namespaceIndex).intValue(), IdType.Guid, checkNotNull(identifier));
     }
 
     /**
@@ -136,31 +138,76 @@ public final class NodeId {
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
      */
     public NodeId(UShort namespaceIndex, ByteString identifier) {
-        checkNotNull(namespaceIndex);
-        checkNotNull(identifier);
+        this(checkNotNull(namespaceIndex).intValue(), IdType.Opaque, checkNotNull(identifier));
+    }
 
+    /**
+     * A numeric NodeId, stored as primitives.
+     *
+     * @param namespaceIndex    the namespace index.
+     * @param numericIdentifier the identifier, as the bits of a uint32.
+     * @param identifier        the identifier as a {@link UInteger}, if the caller already has one.
+     */
+    private NodeId(int namespaceIndex, int numericIdentifier, @Nullable UInteger identifier) {
         this.namespaceIndex = namespaceIndex;
+        this.type = IdType.Numeric;
+        this.numericIdentifier = numericIdentifier;
+        this.identifier = null;
+        this.boxedIdentifier = identifier;
+
+        // Same as UShort.hashCode() and UInteger.hashCode() combined.
+        this.hash = 31 * namespaceIndex + numericIdentifier;
+    }
+
+    private NodeId(int namespaceIndex, IdType type, Object identifier) {
+        this.namespaceIndex = namespaceIndex;
+        this.type = type;
+        this.numericIdentifier = 0;
         this.identifier = identifier;
+
+        this.hash = 31 * namespaceIndex + identifier.hashCode();
     }
 
-    public UShort getNamespaceIndex() {
+    private static int checkNamespaceIndex(int namespaceIndex) throws NumberFormatException {
+        if (namespaceIndex < UShort.MIN_VALUE || namespaceIndex > UShort.MAX_VALUE) {
+            throw new NumberFormatException("Value is out of range : " + namespaceIndex);
+        }
+
         return namespaceIndex;
     }
 
+    public UShort getNamespaceIndex() {
+        return ushort(namespaceIndex);
+    }
+
     public Object getIdentifier() {
-        return identifier;
+        if (type != IdType.Numeric) {
+            return identifier;
+        }
+
+        UInteger id = boxedIdentifier;
+
+        if (id == null) {
+            boxedIdentifier = id = uint(numericIdentifier);
+        }
+
+        return id;
     }
 
-    public IdType getType() {
-        if (identifier instanceof UInteger) {
-            return IdType.Numeric;
-        } else if (identifier instanceof String) {
-            return IdType.String;
-        } else if (identifier instanceof UUID) {
-            return IdType.Guid;
-        } else {
-            return IdType.Opaque;
+    /**
+     * @return the identifier of this numeric NodeId, without creating a {@link UInteger}.
+     * @throws IllegalStateException if this NodeId is not {@link IdType#Numeric}.
+     */
+    public long getNumericIdentifier() {
+        if (type != IdType.Numeric) {
+            throw new IllegalStateException("not a numeric NodeId: " + this);
         }
+
+        return numericIdentifier & 0xFFFFFFFFL;
+    }
+
+    public IdType getType() {
+        return type;
     }
 
     public ExpandedNodeId expanded() {
@@ -168,7 +215,7 @@ public final class NodeId {
     }
 
     public boolean isNull() {
-        return namespaceIndex.intValue() == 0 &&
+        return namespaceIndex == 0 &&
             (NULL_NUMERIC.equals(this) ||
                 NULL_STRING.equals(this) ||
                 NULL_GUID.equals(this) ||
@@ -186,22 +233,25 @@ public final class NodeId {
 
         NodeId nodeId = (NodeId) o;
 
-        return identifier.equals(nodeId.identifier) &&
-            namespaceIndex.equals(nodeId.namespaceIndex);
+        if (hash != nodeId.hash || namespaceIndex != nodeId.namespaceIndex || type != nodeId.type) {
+            return false;
+        }
+
+        return type == IdType.Numeric ?
+            numericIdentifier == nodeId.numericIdentifier :
+            identifier.equals(nodeId.identifier);
     }
 
     @Override
     public int hashCode() {
-        int result = namespaceIndex.hashCode();
-        result = 31 * result + identifier.hashCode();
-        return result;
+        return hash;
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
             .add("ns", namespaceIndex)
-            .add("id", identifier)
+            .add("id", getIdentifier())
             .toString();
     }
 
@@ -212,7 +262,7 @@ public final class NodeId {
 
         switch (getType()) {
             case Numeric:
-                sb.append("i=").append(identifier);
+                sb.append("i=").append(getNumericIdentifier());
                 break;
             case String:
                 sb.append("s=").append(identifier);
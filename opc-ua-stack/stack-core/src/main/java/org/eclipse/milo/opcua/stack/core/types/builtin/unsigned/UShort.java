@@ -39,6 +39,12 @@ public final class UShort extends UNumber implements Comparable<UShort> {
      */
     public static final int MAX_VALUE = 0xffff;
 
+    /**
+     * Cached values for [0, 256), the range namespace indices almost always
+     * fall in.
+     */
+    private static final UShort[] VALUES = mkValues();
+
     /**
      * A constant holding the minimum value an <code>unsigned short</code> can
      * have as UShort, 0.
@@ -72,7 +78,9 @@ public final class UShort extends UNumber implements Comparable<UShort> {
      * <code>(ushort) 65535</code>
      */
     public static UShort valueOf(short value) {
-        return new UShort(value);
+        int v = value & MAX_VALUE;
+
+        return v < VALUES.length ? VALUES[v] : new UShort(value);
     }
 
     /**
@@ -82,7 +90,15 @@ public final class UShort extends UNumber implements Comparable<UShort> {
      *                               of an <code>unsigned short</code>
      */
     public static UShort valueOf(int value) throws NumberFormatException {
-        return new UShort(value);
+        return value >= 0 && value < VALUES.length ? VALUES[value] : new UShort(value);
+    }
+
+    private static UShort[] mkValues() {
+        UShort[] values = new UShort[256];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new UShort(i);
+        }
+        return values;
     }
 
     /**
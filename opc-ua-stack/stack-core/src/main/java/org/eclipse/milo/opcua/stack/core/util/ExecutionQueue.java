@@ -13,30 +13,61 @@
 
 package org.eclipse.milo.opcua.stack.core.util;
 
-import java.util.LinkedList;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Queues up submitted {@link java.lang.Runnable}s and executes them in serial on an
  * {@link java.util.concurrent.ExecutorService}.
+ * <p>
+ * Submitting never blocks; any number of threads may submit concurrently. Queued {@link Runnable}s are drained in
+ * batches of up to {@code maxBatchSize} per task submitted to the {@link ExecutorService}, after which the queue
+ * yields the executor thread and re-submits itself if there is more work.
  */
 public class ExecutionQueue {
 
+    public static final int DEFAULT_MAX_BATCH_SIZE = 16;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
-    private final Object queueLock = new Object();
-    private final LinkedList<Runnable> queue = new LinkedList<>();
+    private final Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final AtomicBoolean drainSubmitted = new AtomicBoolean(false);
 
-    private volatile boolean pollSubmitted = false;
     private volatile boolean paused = false;
 
+    private volatile long drainSubmittedNanos;
+    private volatile long drainCount;
+    private volatile long executedCount;
+    private volatile long totalDrainLatencyNanos;
+    private volatile long maxDrainLatencyNanos;
+
+    private final Drain drain = new Drain();
+
     private final ExecutorService service;
+    private final int maxBatchSize;
 
     public ExecutionQueue(ExecutorService service) {
+        this(service, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param service      the {@link ExecutorService} to execute on.
+     * @param maxBatchSize the maximum number of {@link Runnable}s executed per task submitted to {@code service}.
+     */
+    public ExecutionQueue(ExecutorService service, int maxBatchSize) {
+        Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be > 0");
+
         this.service = service;
+        this.maxBatchSize = maxBatchSize;
     }
 
     /**
@@ -45,11 +76,10 @@ public class ExecutionQueue {
      * @param runnable the {@link Runnable} to be executed.
      */
     public void submit(Runnable runnable) {
-        synchronized (queueLock) {
-            queue.add(runnable);
+        queueDepth.incrementAndGet();
+        queue.addLast(runnable);
 
-            maybeSubmitPoll();
-        }
+        maybeSubmitDrain();
     }
 
     /**
@@ -58,65 +88,122 @@ public class ExecutionQueue {
      * @param runnable the {@link Runnable} to be executed.
      */
     public void submitToHead(Runnable runnable) {
-        synchronized (queueLock) {
-            queue.addFirst(runnable);
+        queueDepth.incrementAndGet();
+        queue.addFirst(runnable);
 
-            maybeSubmitPoll();
-        }
+        maybeSubmitDrain();
     }
 
     /**
      * Pause execution of queued {@link java.lang.Runnable}s.
+     * <p>
+     * A {@link Runnable} already executing runs to completion; no further {@link Runnable}s are executed until
+     * {@link #resume()} is called.
      */
     public void pause() {
-        synchronized (queueLock) {
-            paused = true;
-        }
+        paused = true;
     }
 
     /**
      * Resume execution of queued {@link java.lang.Runnable}s.
      */
     public void resume() {
-        synchronized (queueLock) {
-            paused = false;
+        paused = false;
 
-            maybeSubmitPoll();
-        }
+        maybeSubmitDrain();
     }
 
-    private void maybeSubmitPoll() {
-        synchronized (queueLock) {
-            if (!pollSubmitted && !paused && !queue.isEmpty()) {
-                service.submit(new PollAndExecute());
-                pollSubmitted = true;
+    /**
+     * @return the number of {@link Runnable}s submitted but not yet started.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the number of tasks submitted to the {@link ExecutorService} to drain this queue.
+     */
+    public long getDrainCount() {
+        return drainCount;
+    }
+
+    /**
+     * @return the number of {@link Runnable}s executed.
+     */
+    public long getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * @return the average time, in nanoseconds, between a drain task being submitted to the {@link ExecutorService}
+     * and it starting to execute.
+     */
+    public long getAverageDrainLatencyNanos() {
+        long count = drainCount;
+
+        return count > 0 ? totalDrainLatencyNanos / count : 0L;
+    }
+
+    /**
+     * @return the maximum time, in nanoseconds, between a drain task being submitted to the {@link ExecutorService}
+     * and it starting to execute.
+     */
+    public long getMaxDrainLatencyNanos() {
+        return maxDrainLatencyNanos;
+    }
+
+    private void maybeSubmitDrain() {
+        if (!paused && !queue.isEmpty() && drainSubmitted.compareAndSet(false, true)) {
+            drainSubmittedNanos = System.nanoTime();
+
+            try {
+                service.execute(drain);
+            } catch (RejectedExecutionException e) {
+                // Let a later submit try again once the executor accepts work.
+                drainSubmitted.set(false);
+
+                throw e;
             }
         }
     }
 
-    private class PollAndExecute implements Runnable {
+    /**
+     * Only one {@link Drain} is submitted at a time, guarded by {@code drainSubmitted}, so the metrics it updates
+     * have a single writer.
+     */
+    private class Drain implements Runnable {
         @Override
         public void run() {
-            Runnable runnable;
+            long latency = System.nanoTime() - drainSubmittedNanos;
 
-            synchronized (queueLock) {
-                runnable = queue.poll();
+            drainCount++;
+            totalDrainLatencyNanos += latency;
+            if (latency > maxDrainLatencyNanos) {
+                maxDrainLatencyNanos = latency;
             }
 
-            try {
-                runnable.run();
-            } catch (Throwable throwable) {
-                log.warn("Uncaught Throwable during execution.", throwable);
-            }
+            int executed = 0;
 
-            synchronized (queueLock) {
-                if (queue.isEmpty() || paused) {
-                    pollSubmitted = false;
-                } else {
-                    // polling remains true
-                    service.submit(new PollAndExecute());
+            while (executed < maxBatchSize && !paused) {
+                Runnable runnable = queue.pollFirst();
+                if (runnable == null) break;
+
+                queueDepth.decrementAndGet();
+                executed++;
+
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    log.warn("Uncaught Throwable during execution.", throwable);
                 }
             }
+
+            executedCount += executed;
+
+            drainSubmitted.set(false);
+
+            // Anything submitted while we were draining saw drainSubmitted == true and relies on this check.
+            maybeSubmitDrain();
         }
     }
 
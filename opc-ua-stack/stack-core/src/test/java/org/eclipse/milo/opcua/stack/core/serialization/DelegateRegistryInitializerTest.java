@@ -16,9 +16,13 @@ package org.eclipse.milo.opcua.stack.core.serialization;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.ClassPath;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 public class DelegateRegistryInitializerTest {
 
@@ -46,4 +50,27 @@ public class DelegateRegistryInitializerTest {
         }
     }
 
+    @Test
+    public void testInitializeEncodingId() throws Exception {
+        ClassLoader classLoader = getClass().getClassLoader();
+        ClassPath classPath = ClassPath.from(classLoader);
+
+        ImmutableSet<ClassPath.ClassInfo> structures =
+            classPath.getTopLevelClasses("org.eclipse.milo.opcua.stack.core.types.structured");
+
+        for (ClassPath.ClassInfo classInfo : structures) {
+            Class<?> clazz = classInfo.load();
+
+            for (String field : new String[]{"BinaryEncodingId", "XmlEncodingId"}) {
+                NodeId encodingId = (NodeId) clazz.getField(field).get(null);
+
+                assertTrue(DelegateRegistryInitializer.initializeEncodingId(encodingId), clazz + " " + field);
+
+                DecoderDelegate<?> decoder = DelegateRegistry.getInstance().getDecoder(encodingId);
+                assertNotNull(decoder);
+                assertSame(decoder, DelegateRegistry.getInstance().getDecoder(clazz), clazz + " " + field);
+            }
+        }
+    }
+
 }
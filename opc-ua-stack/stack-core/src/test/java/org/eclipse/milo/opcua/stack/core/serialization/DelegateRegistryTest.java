@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
+public class DelegateRegistryTest {
+
+    @Test
+    public void testNamespaceZeroLookup() {
+        DelegateRegistry.Instance instance = DelegateRegistry.getInstance();
+
+        // An equal but distinct NodeId must resolve through the dense table to the same delegates.
+        NodeId encodingId = new NodeId(0, (UInteger) ReadRequest.BinaryEncodingId.getIdentifier());
+
+        assertNotNull(instance.getDecoder(encodingId));
+        assertSame(instance.getDecoder(encodingId), instance.getDecoder(ReadRequest.BinaryEncodingId));
+        assertSame(instance.getEncoder(encodingId), instance.getEncoder(ReadRequest.class));
+    }
+
+    @Test
+    public void testCustomRegistration() {
+        DelegateRegistry.Instance instance = DelegateRegistry.getInstance();
+
+        EncoderDelegate<Custom> encoder = (custom, e) -> {};
+        DecoderDelegate<Custom> decoder = d -> new Custom();
+
+        NodeId customId = new NodeId(2, "Custom_Encoding_DefaultBinary");
+        NodeId largeNs0Id = new NodeId(0, uint(Integer.MAX_VALUE + 1L));
+
+        DelegateRegistry.registerEncoder(encoder, Custom.class, customId, largeNs0Id);
+        DelegateRegistry.registerDecoder(decoder, Custom.class, customId, largeNs0Id);
+
+        assertSame(instance.getEncoder(Custom.class), encoder);
+        assertSame(instance.getEncoder(new Custom()), encoder);
+        assertSame(instance.getDecoder(Custom.class), decoder);
+        assertSame(instance.getDecoder(customId), decoder);
+        assertSame(instance.getDecoder(largeNs0Id), decoder);
+
+        // Registering again must invalidate the delegates cached for the class.
+        DecoderDelegate<Custom> replacement = d -> new Custom();
+        DelegateRegistry.registerDecoder(replacement, Custom.class, customId);
+
+        assertSame(instance.getDecoder(Custom.class), replacement);
+        assertSame(instance.getDecoder(customId), replacement);
+    }
+
+    private static class Custom {
+    }
+
+}
@@ -16,11 +16,19 @@ package org.eclipse.milo.opcua.stack.core.serialization.binary;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class ExtensionObjectSerializationTest extends BinarySerializationFixture {
 
@@ -40,4 +48,118 @@ public class ExtensionObjectSerializationTest extends BinarySerializationFixture
         assertEquals(decoded, xo);
     }
 
+    @Test(description = "A lazily encoded ExtensionObject is encoded inline, identically to an eagerly encoded one.")
+    public void testLazyExtensionObjectEncodedInline() throws Exception {
+        ReadValueId readValueId = new ReadValueId(
+            new NodeId(2, "foo"), uint(13), "1:2", new QualifiedName(0, "Default Binary"));
+
+        ExtensionObject eager = ExtensionObject.encode(readValueId);
+        ExtensionObject lazy = ExtensionObject.encodeLazily(readValueId);
+
+        encoder.encodeExtensionObject(null, eager);
+        byte[] eagerBytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(eagerBytes);
+
+        encoder.encodeExtensionObject(null, lazy);
+        byte[] lazyBytes = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), lazyBytes);
+
+        assertEquals(lazyBytes, eagerBytes);
+        assertNotNull(lazy.getUnencodedStructure());
+
+        ExtensionObject decoded = decoder.decodeExtensionObject(null);
+
+        assertEquals(decoded, eager);
+
+        ReadValueId decodedReadValueId = decoded.decode();
+        assertEquals(decodedReadValueId.getNodeId(), readValueId.getNodeId());
+        assertEquals(decodedReadValueId.getIndexRange(), readValueId.getIndexRange());
+    }
+
+    @Test(description = "A retained body holds a reference to the buffer until it's decoded.")
+    public void testRetainedBodyReleasedOnDecode() throws Exception {
+        ReadValueId readValueId = new ReadValueId(
+            new NodeId(2, "foo"), uint(13), null, QualifiedName.NULL_VALUE);
+
+        encoder.encodeExtensionObject(null, ExtensionObject.encode(readValueId));
+
+        decoder.setRetainedBodiesEnabled(true);
+        ExtensionObject xo = decoder.decodeExtensionObject(null);
+
+        assertTrue(xo.isBodyRetained());
+        assertEquals(buffer.refCnt(), 2);
+
+        ReadValueId decoded = xo.decode();
+
+        assertFalse(xo.isBodyRetained());
+        assertEquals(buffer.refCnt(), 1);
+        assertEquals(decoded.getNodeId(), readValueId.getNodeId());
+        assertEquals(decoded.getAttributeId(), readValueId.getAttributeId());
+    }
+
+    @Test(description = "A retained body released without decoding no longer holds a reference to the buffer.")
+    public void testRetainedBodyReleasedUndecoded() throws Exception {
+        ExtensionObject xo = new ExtensionObject(ByteString.of(new byte[]{1, 2, 3, 4}), new NodeId(1, 2));
+
+        encoder.encodeExtensionObject(null, xo);
+
+        decoder.setRetainedBodiesEnabled(true);
+        ExtensionObject retained = decoder.decodeExtensionObject(null);
+
+        assertEquals(buffer.refCnt(), 2);
+        assertEquals(retained, xo);
+        assertTrue(retained.isBodyRetained());
+
+        retained.releaseBody();
+
+        assertFalse(retained.isBodyRetained());
+        assertEquals(buffer.refCnt(), 1);
+        assertEquals(retained.getEncoded(), xo.getEncoded());
+    }
+
+    @Test(description = "A retained body that fails to decode no longer holds a reference to the buffer.")
+    public void testRetainedBodyReleasedOnFailedDecode() throws Exception {
+        // Too short to be a ReadValueId.
+        ExtensionObject xo = new ExtensionObject(ByteString.of(new byte[]{1, 2, 3, 4}), ReadValueId.BinaryEncodingId);
+
+        encoder.encodeExtensionObject(null, xo);
+
+        decoder.setRetainedBodiesEnabled(true);
+        ExtensionObject retained = decoder.decodeExtensionObject(null);
+
+        assertEquals(buffer.refCnt(), 2);
+
+        try {
+            retained.decode();
+            fail("expected decoding to fail");
+        } catch (RuntimeException expected) {
+            // expected
+        }
+
+        assertFalse(retained.isBodyRetained());
+        assertEquals(buffer.refCnt(), 1);
+    }
+
+    @Test(description = "A detached body is copied and no longer holds a reference to the buffer.")
+    public void testDetachedBodyIsCopied() throws Exception {
+        ReadValueId readValueId = new ReadValueId(
+            new NodeId(2, "foo"), uint(13), null, QualifiedName.NULL_VALUE);
+
+        encoder.encodeExtensionObject(null, ExtensionObject.encode(readValueId));
+
+        decoder.setRetainedBodiesEnabled(true);
+        ExtensionObject xo = decoder.decodeExtensionObject(null);
+
+        assertEquals(buffer.refCnt(), 2);
+
+        assertSame(xo.detachBody(), xo);
+
+        assertFalse(xo.isBodyRetained());
+        assertEquals(buffer.refCnt(), 1);
+
+        ReadValueId decoded = xo.decode();
+        assertEquals(decoded.getNodeId(), readValueId.getNodeId());
+        assertEquals(decoded.getAttributeId(), readValueId.getAttributeId());
+    }
+
 }
@@ -17,10 +17,12 @@ import java.util.UUID;
 
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 public class NodeIdSerializationTest extends BinarySerializationFixture {
 
@@ -57,4 +59,21 @@ public class NodeIdSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, nodeId);
     }
 
+    @Test(dataProvider = "getNodeIds", description = "NodeId decoded with an InterningCache is canonicalized.")
+    public void testNodeIdInterned(NodeId nodeId) throws Exception {
+        decoder.setInterningCache(new InterningCache(16));
+
+        encoder.encodeNodeId(null, nodeId);
+        encoder.encodeNodeId(null, nodeId);
+        encoder.encodeQualifiedName(null, new QualifiedName(1, "hello, world"));
+
+        NodeId decoded1 = decoder.decodeNodeId(null);
+        NodeId decoded2 = decoder.decodeNodeId(null);
+
+        assertEquals(decoded1, nodeId);
+        assertSame(decoded2, decoded1);
+        assertEquals(decoder.decodeQualifiedName(null), new QualifiedName(1, "hello, world"));
+        assertEquals(buffer.readableBytes(), 0);
+    }
+
 }
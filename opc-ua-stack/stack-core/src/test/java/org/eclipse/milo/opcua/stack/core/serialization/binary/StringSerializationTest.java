@@ -13,6 +13,8 @@
 
 package org.eclipse.milo.opcua.stack.core.serialization.binary;
 
+import java.nio.charset.StandardCharsets;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -26,7 +28,9 @@ public class StringSerializationTest extends BinarySerializationFixture {
                 {null},
                 {""},
                 {"Hello, world!"},
-                {"水Boy"}
+                {"水Boy"},
+                {"\u00e9\u07ff\u0800\uffff"},
+                {"\ud83d\ude00 surrogate pair"}
         };
     }
 
@@ -38,4 +42,30 @@ public class StringSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, value);
     }
 
+    @DataProvider(name = "Utf8Provider")
+    public Object[][] getUtf8Strings() {
+        return new Object[][]{
+                {"Hello, world!"},
+                {"水Boy"},
+                {"\ud83d\ude00 surrogate pair"},
+                {"unpaired \ud83d high"},
+                {"unpaired \ude00 low"},
+                {"reversed \ude00\ud83d pair"}
+        };
+    }
+
+    @Test(dataProvider = "Utf8Provider")
+    public void testEncodedBytesMatchJdkUtf8(String value) {
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+
+        encoder.encodeString(null, value);
+
+        assertEquals(buffer.readInt(), expected.length);
+
+        byte[] actual = new byte[buffer.readableBytes()];
+        buffer.readBytes(actual);
+
+        assertEquals(actual, expected);
+    }
+
 }
@@ -85,7 +85,22 @@ public class VariantSerializationTest extends BinarySerializationFixture {
                         new Variant(new Long[]{0L, 1L, 2L, 3L})},
 
                 {new Variant(new long[][]{{0L, 1L}, {2L, 3L}}),
-                        new Variant(new Long[][]{{0L, 1L}, {2L, 3L}})}
+                        new Variant(new Long[][]{{0L, 1L}, {2L, 3L}})},
+
+                {new Variant(new double[]{0.0, 1.5, -2.25, Double.MAX_VALUE}),
+                        new Variant(new Double[]{0.0, 1.5, -2.25, Double.MAX_VALUE})},
+
+                {new Variant(new float[]{0.0f, 1.5f, -2.25f}),
+                        new Variant(new Float[]{0.0f, 1.5f, -2.25f})},
+
+                {new Variant(new short[]{0, 1, -2}),
+                        new Variant(new Short[]{0, 1, -2})},
+
+                {new Variant(new byte[]{0, 1, -2}),
+                        new Variant(new Byte[]{0, 1, -2})},
+
+                {new Variant(new boolean[]{true, false, true}),
+                        new Variant(new Boolean[]{true, false, true})}
         };
     }
 
@@ -98,6 +113,52 @@ public class VariantSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, expected);
     }
 
+    @DataProvider(name = "PrimitiveArrayDecodingProvider")
+    public Object[][] getPrimitiveArrayDecodingVariants() {
+        return new Object[][]{
+                {new Variant(new double[]{0.0, 1.5, -2.25, Double.MAX_VALUE}),
+                        new Variant(new double[]{0.0, 1.5, -2.25, Double.MAX_VALUE})},
+
+                {new Variant(new Double[]{0.0, 1.5, -2.25, Double.MAX_VALUE}),
+                        new Variant(new double[]{0.0, 1.5, -2.25, Double.MAX_VALUE})},
+
+                {new Variant(new float[]{0.0f, 1.5f, -2.25f}),
+                        new Variant(new float[]{0.0f, 1.5f, -2.25f})},
+
+                {new Variant(new long[]{0L, 1L, Long.MIN_VALUE}),
+                        new Variant(new long[]{0L, 1L, Long.MIN_VALUE})},
+
+                {new Variant(new int[]{0, 1, Integer.MIN_VALUE}),
+                        new Variant(new int[]{0, 1, Integer.MIN_VALUE})},
+
+                {new Variant(new short[]{0, 1, Short.MIN_VALUE}),
+                        new Variant(new short[]{0, 1, Short.MIN_VALUE})},
+
+                {new Variant(new byte[]{0, 1, Byte.MIN_VALUE}),
+                        new Variant(new byte[]{0, 1, Byte.MIN_VALUE})},
+
+                {new Variant(new boolean[]{true, false, true}),
+                        new Variant(new boolean[]{true, false, true})},
+
+                {new Variant(new Integer[][]{{0, 1}, {2, 3}}),
+                        new Variant(new int[][]{{0, 1}, {2, 3}})},
+
+                {new Variant(new UInteger[]{Unsigned.uint(0), Unsigned.uint(1)}),
+                        new Variant(new UInteger[]{Unsigned.uint(0), Unsigned.uint(1)})}
+        };
+    }
+
+    @Test(dataProvider = "PrimitiveArrayDecodingProvider",
+            description = "Test that arrays of types with a primitive representation decode to primitive arrays when enabled.")
+    public void testPrimitiveArrayDecoding(Variant variant, Variant expected) {
+        decoder.setPrimitiveArraysEnabled(true);
+
+        encoder.encodeVariant(null, variant);
+        Variant decoded = decoder.decodeVariant(null);
+
+        assertEquals(decoded, expected);
+    }
+
     @Test(description = "Test that a Variant containing a null array encoded with a negative array size to indicate a null value decodes properly.")
     public void testNullArrayEncodedWithNegativeArraySize() {
         ByteBuf buffer = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.types.builtin;
+
+import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+public class NodeIdTest {
+
+    @Test
+    public void testNumericEquality() {
+        NodeId[] nodeIds = new NodeId[]{
+            new NodeId(2, -1),
+            new NodeId(2, uint(0xFFFFFFFFL)),
+            new NodeId(ushort(2), uint(0xFFFFFFFFL)),
+            new NodeId(ushort(2), -1)
+        };
+
+        for (NodeId nodeId : nodeIds) {
+            assertEquals(nodeId, nodeIds[0]);
+            assertEquals(nodeId.hashCode(), nodeIds[0].hashCode());
+            assertEquals(nodeId.getType(), IdType.Numeric);
+            assertEquals(nodeId.getNumericIdentifier(), 0xFFFFFFFFL);
+            assertEquals(nodeId.getIdentifier(), uint(0xFFFFFFFFL));
+            assertEquals(nodeId.getNamespaceIndex(), ushort(2));
+        }
+
+        assertNotEquals(new NodeId(1, 42), new NodeId(2, 42));
+        assertNotEquals(new NodeId(1, 42), new NodeId(1, 43));
+        assertNotEquals(new NodeId(1, 42), new NodeId(1, "42"));
+    }
+
+    @Test
+    public void testHashCodeUnchanged() {
+        NodeId numeric = new NodeId(3, 1234);
+        NodeId string = new NodeId(3, "foo");
+
+        assertEquals(numeric.hashCode(), 31 * ushort(3).hashCode() + uint(1234).hashCode());
+        assertEquals(string.hashCode(), 31 * ushort(3).hashCode() + "foo".hashCode());
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void testNamespaceIndexOutOfRange() {
+        new NodeId(65536, 1);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ExecutionQueueTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterClass
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSerialExecutionFromManyProducers() throws Exception {
+        ExecutionQueue queue = new ExecutionQueue(executor, 4);
+
+        int producers = 4;
+        int perProducer = 10000;
+
+        List<List<Integer>> executed = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            executed.add(new ArrayList<>());
+        }
+
+        AtomicBoolean running = new AtomicBoolean(false);
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    final int value = i;
+
+                    queue.submit(() -> {
+                        if (!running.compareAndSet(false, true)) overlapped.set(true);
+                        executed.get(producer).add(value);
+                        running.set(false);
+                        done.countDown();
+                    });
+                }
+            });
+            threads[p].start();
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertFalse(overlapped.get());
+
+        for (List<Integer> values : executed) {
+            assertEquals(values.size(), perProducer);
+            for (int i = 0; i < perProducer; i++) {
+                assertEquals((int) values.get(i), i);
+            }
+        }
+
+        assertEquals(queue.getExecutedCount(), producers * perProducer);
+        assertEquals(queue.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testPauseResumeAndSubmitToHead() throws Exception {
+        ExecutionQueue queue = new ExecutionQueue(executor);
+
+        List<Integer> executed = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+
+        queue.pause();
+        queue.submit(() -> {
+            executed.add(1);
+            done.countDown();
+        });
+        queue.submit(() -> {
+            executed.add(2);
+            done.countDown();
+        });
+        queue.submitToHead(() -> {
+            executed.add(0);
+            done.countDown();
+        });
+
+        Thread.sleep(50);
+        assertTrue(executed.isEmpty());
+        assertEquals(queue.getQueueDepth(), 3);
+
+        queue.resume();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(executed.size(), 3);
+        assertEquals((int) executed.get(0), 0);
+        assertEquals((int) executed.get(1), 1);
+        assertEquals((int) executed.get(2), 2);
+    }
+
+}
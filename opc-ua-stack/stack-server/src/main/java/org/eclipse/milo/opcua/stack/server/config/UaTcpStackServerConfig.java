@@ -97,6 +97,42 @@ public interface UaTcpStackServerConfig {
      */
     boolean isStrictEndpointUrlsEnabled();
 
+    /**
+     * Responses written to the same channel are coalesced and flushed together. A flush happens once this much time
+     * has passed since the first unflushed response was written, or, if {@code 0}, once the channel's event loop has
+     * run the tasks already queued when that response was written.
+     *
+     * @return the maximum time, in microseconds, a written response may wait to be flushed.
+     */
+    long getResponseFlushMaxDelayMicros();
+
+    /**
+     * Responses written to the same channel are flushed immediately once the unflushed bytes reach this threshold,
+     * regardless of {@link #getResponseFlushMaxDelayMicros()}.
+     *
+     * @return the maximum number of bytes written to a channel before it is flushed.
+     */
+    int getResponseFlushMaxBytes();
+
+    /**
+     * If greater than 0, each channel decodes with an
+     * {@link org.eclipse.milo.opcua.stack.core.serialization.binary.InterningCache} of this many entries, so NodeIds
+     * and QualifiedNames received repeatedly on a channel are decoded to the same instances.
+     *
+     * @return the size of the per-channel decoding interning cache, or 0 if disabled.
+     */
+    int getInterningCacheSize();
+
+    /**
+     * If {@code true}, the chunks of received symmetric messages are decrypted, verified and checked one at a time as
+     * they arrive, keeping slices of their plain text bodies until the final chunk arrives, rather than decoded
+     * together once the final chunk has arrived. The decoding of received messages is then never spread across
+     * {@link ChannelConfig#getChunkCryptoPool() the chunk crypto pool}.
+     *
+     * @return {@code true} if received symmetric chunks are decoded as they arrive.
+     */
+    boolean isStreamingDecodeEnabled();
+
     /**
      * @return a new {@link UaTcpStackServerConfigBuilder}.
      */
@@ -126,6 +162,10 @@ public interface UaTcpStackServerConfig {
         builder.setSoftwareCertificates(config.getSoftwareCertificates());
         builder.setChannelConfig(config.getChannelConfig());
         builder.setStrictEndpointUrlsEnabled(config.isStrictEndpointUrlsEnabled());
+        builder.setResponseFlushMaxDelayMicros(config.getResponseFlushMaxDelayMicros());
+        builder.setResponseFlushMaxBytes(config.getResponseFlushMaxBytes());
+        builder.setInterningCacheSize(config.getInterningCacheSize());
+        builder.setStreamingDecodeEnabled(config.isStreamingDecodeEnabled());
 
         return builder;
     }
@@ -37,6 +37,11 @@ public class UaTcpStackServerConfigBuilder {
     private ChannelConfig channelConfig = ChannelConfig.DEFAULT;
     private boolean strictEndpointUrlsEnabled = true;
 
+    private long responseFlushMaxDelayMicros = 0L;
+    private int responseFlushMaxBytes = 65536;
+    private int interningCacheSize = 0;
+    private boolean streamingDecodeEnabled = false;
+
     private CertificateManager certificateManager;
     private CertificateValidator certificateValidator;
 
@@ -100,9 +105,32 @@ public class UaTcpStackServerConfigBuilder {
         return this;
     }
 
+    public UaTcpStackServerConfigBuilder setResponseFlushMaxDelayMicros(long responseFlushMaxDelayMicros) {
+        this.responseFlushMaxDelayMicros = responseFlushMaxDelayMicros;
+        return this;
+    }
+
+    public UaTcpStackServerConfigBuilder setResponseFlushMaxBytes(int responseFlushMaxBytes) {
+        this.responseFlushMaxBytes = responseFlushMaxBytes;
+        return this;
+    }
+
+    public UaTcpStackServerConfigBuilder setInterningCacheSize(int interningCacheSize) {
+        this.interningCacheSize = interningCacheSize;
+        return this;
+    }
+
+    public UaTcpStackServerConfigBuilder setStreamingDecodeEnabled(boolean streamingDecodeEnabled) {
+        this.streamingDecodeEnabled = streamingDecodeEnabled;
+        return this;
+    }
+
     public UaTcpStackServerConfig build() {
         Preconditions.checkNotNull(certificateManager, "certificateManager must be non-null");
         Preconditions.checkNotNull(certificateValidator, "certificateValidator must be non-null");
+        Preconditions.checkArgument(responseFlushMaxDelayMicros >= 0, "responseFlushMaxDelayMicros must be >= 0");
+        Preconditions.checkArgument(responseFlushMaxBytes >= 0, "responseFlushMaxBytes must be >= 0");
+        Preconditions.checkArgument(interningCacheSize >= 0, "interningCacheSize must be >= 0");
 
         if (executor == null) {
             executor = Stack.sharedExecutor();
@@ -115,6 +143,10 @@ public class UaTcpStackServerConfigBuilder {
             productUri,
             channelConfig,
             strictEndpointUrlsEnabled,
+            responseFlushMaxDelayMicros,
+            responseFlushMaxBytes,
+            interningCacheSize,
+            streamingDecodeEnabled,
             certificateManager,
             certificateValidator,
             executor,
@@ -132,6 +164,10 @@ public class UaTcpStackServerConfigBuilder {
 
         private final ChannelConfig channelConfig;
         private final boolean strictEndpointUrlsEnabled;
+        private final long responseFlushMaxDelayMicros;
+        private final int responseFlushMaxBytes;
+        private final int interningCacheSize;
+        private final boolean streamingDecodeEnabled;
 
         private final CertificateManager certificateManager;
         private final CertificateValidator certificateValidator;
@@ -146,6 +182,10 @@ public class UaTcpStackServerConfigBuilder {
                                           String productUri,
                                           ChannelConfig channelConfig,
                                           boolean strictEndpointUrlsEnabled,
+                                          long responseFlushMaxDelayMicros,
+                                          int responseFlushMaxBytes,
+                                          int interningCacheSize,
+                                          boolean streamingDecodeEnabled,
                                           CertificateManager certificateManager,
                                           CertificateValidator certificateValidator,
                                           ExecutorService executor,
@@ -158,6 +198,10 @@ public class UaTcpStackServerConfigBuilder {
             this.productUri = productUri;
             this.channelConfig = channelConfig;
             this.strictEndpointUrlsEnabled = strictEndpointUrlsEnabled;
+            this.responseFlushMaxDelayMicros = responseFlushMaxDelayMicros;
+            this.responseFlushMaxBytes = responseFlushMaxBytes;
+            this.interningCacheSize = interningCacheSize;
+            this.streamingDecodeEnabled = streamingDecodeEnabled;
             this.certificateManager = certificateManager;
             this.certificateValidator = certificateValidator;
             this.executor = executor;
@@ -195,6 +239,26 @@ public class UaTcpStackServerConfigBuilder {
             return strictEndpointUrlsEnabled;
         }
 
+        @Override
+        public long getResponseFlushMaxDelayMicros() {
+            return responseFlushMaxDelayMicros;
+        }
+
+        @Override
+        public int getResponseFlushMaxBytes() {
+            return responseFlushMaxBytes;
+        }
+
+        @Override
+        public int getInterningCacheSize() {
+            return interningCacheSize;
+        }
+
+        @Override
+        public boolean isStreamingDecodeEnabled() {
+            return streamingDecodeEnabled;
+        }
+
         @Override
         public CertificateManager getCertificateManager() {
             return certificateManager;
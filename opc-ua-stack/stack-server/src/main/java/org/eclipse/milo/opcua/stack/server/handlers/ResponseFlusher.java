@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.server.handlers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.Future;
+import org.eclipse.milo.opcua.stack.server.tcp.ResponseFlushStatistics;
+
+/**
+ * Coalesces the flushes of the responses written to one channel, so responses completed close together share a
+ * flush.
+ * <p>
+ * Written responses are flushed once the unflushed bytes reach a maximum, or otherwise by a flush scheduled when the
+ * first of them was written. Only used from the channel's event loop.
+ */
+class ResponseFlusher {
+
+    private int unflushedResponses = 0;
+    private long unflushedBytes = 0L;
+
+    /*
+     * The flush scheduled for the unflushed responses, or null if there are none.
+     */
+    private Future<?> scheduledFlush;
+
+    private final long maxDelayMicros;
+    private final int maxBytes;
+    private final ResponseFlushStatistics statistics;
+
+    /**
+     * @param maxDelayMicros the maximum time, in microseconds, a written response may wait to be flushed; if
+     *                       {@code 0}, it waits only for the tasks already queued on the event loop.
+     * @param maxBytes       the number of unflushed bytes that triggers an immediate flush.
+     * @param statistics     the {@link ResponseFlushStatistics} each flush is recorded in.
+     */
+    ResponseFlusher(long maxDelayMicros, int maxBytes, ResponseFlushStatistics statistics) {
+        this.maxDelayMicros = maxDelayMicros;
+        this.maxBytes = maxBytes;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Write the chunks of an encoded response, then flush if the unflushed bytes have reached the maximum, or
+     * schedule a flush if one isn't already pending.
+     */
+    void write(ChannelHandlerContext ctx, List<ByteBuf> chunks) {
+        for (ByteBuf chunk : chunks) {
+            unflushedBytes += chunk.readableBytes();
+            ctx.write(chunk, ctx.voidPromise());
+        }
+
+        unflushedResponses++;
+
+        if (unflushedBytes >= maxBytes) {
+            flush(ctx);
+        } else if (scheduledFlush == null) {
+            if (maxDelayMicros > 0) {
+                scheduledFlush = ctx.executor().schedule(
+                    () -> flush(ctx),
+                    maxDelayMicros,
+                    TimeUnit.MICROSECONDS
+                );
+            } else {
+                // Runs after tasks already queued on the event loop, e.g. other responses ready to be written.
+                scheduledFlush = ctx.executor().submit(() -> flush(ctx));
+            }
+        }
+    }
+
+    /**
+     * Flush the unflushed responses, if any, and cancel the flush scheduled for them.
+     */
+    void flush(ChannelHandlerContext ctx) {
+        cancelScheduledFlush();
+
+        if (unflushedResponses > 0) {
+            ctx.flush();
+
+            statistics.record(unflushedResponses);
+
+            unflushedResponses = 0;
+            unflushedBytes = 0L;
+        }
+    }
+
+    /**
+     * Cancel the scheduled flush, if any, e.g. because the channel has been closed.
+     */
+    void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+
+}
@@ -37,6 +37,7 @@ import org.eclipse.milo.opcua.stack.core.channel.messages.HelloMessage;
 import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
 import org.eclipse.milo.opcua.stack.core.channel.messages.TcpMessageDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.messages.TcpMessageEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.binary.InterningCache;
 import org.eclipse.milo.opcua.stack.server.tcp.UaTcpStackServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -131,9 +132,20 @@ public class UaTcpServerHelloHandler extends ByteToMessageDecoder implements Hea
             server.getConfig().getExecutor(),
             parameters,
             maxArrayLength,
-            maxStringLength
+            maxStringLength,
+            config.getChunkCryptoPool().orElse(null),
+            server.getConfig().isStreamingDecodeEnabled()
         );
 
+        int interningCacheSize = server.getConfig().getInterningCacheSize();
+
+        if (interningCacheSize > 0) {
+            InterningCache interningCache = new InterningCache(interningCacheSize);
+
+            serializationQueue.decode((binaryDecoder, chunkDecoder) ->
+                binaryDecoder.setInterningCache(interningCache));
+        }
+
         ctx.pipeline().addLast(new UaTcpServerAsymmetricHandler(server, serializationQueue));
         ctx.pipeline().remove(this);
 
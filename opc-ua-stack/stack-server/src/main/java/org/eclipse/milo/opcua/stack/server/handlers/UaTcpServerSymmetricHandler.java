@@ -26,6 +26,7 @@ import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.application.services.ServiceRequest;
 import org.eclipse.milo.opcua.stack.core.application.services.ServiceResponse;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkedMessageBuffer;
 import org.eclipse.milo.opcua.stack.core.channel.ExceptionHandler;
 import org.eclipse.milo.opcua.stack.core.channel.SerializationQueue;
 import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
@@ -35,7 +36,8 @@ import org.eclipse.milo.opcua.stack.core.channel.messages.ErrorMessage;
 import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
 import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
-import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.eclipse.milo.opcua.stack.core.serialization.binary.BinaryDecoder;
+import org.eclipse.milo.opcua.stack.server.config.UaTcpStackServerConfig;
 import org.eclipse.milo.opcua.stack.server.tcp.UaTcpStackServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,9 +48,17 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
 
     private List<ByteBuf> chunkBuffers;
 
+    /*
+     * Chunks of the current message handed to the decoding queue so far, when decoding chunks as they arrive; only
+     * accessed from the channel's event loop.
+     */
+    private int pendingChunkCount = 0;
+
     private final int maxChunkCount;
     private final int maxChunkSize;
 
+    private final ResponseFlusher responseFlusher;
+
     private final UaTcpStackServer server;
     private final SerializationQueue serializationQueue;
     private final ServerSecureChannel secureChannel;
@@ -65,6 +75,12 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
         maxChunkSize = serializationQueue.getParameters().getLocalReceiveBufferSize();
 
         chunkBuffers = new ArrayList<>(maxChunkCount);
+
+        responseFlusher = new ResponseFlusher(
+            server.getConfig().getResponseFlushMaxDelayMicros(),
+            server.getConfig().getResponseFlushMaxBytes(),
+            server.getResponseFlushStatistics()
+        );
     }
 
     @Override
@@ -82,16 +98,22 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
             secureChannel.attr(UaTcpStackServer.BoundChannelKey).remove();
         }
 
+        discardChunks();
+
+        responseFlusher.cancelScheduledFlush();
+
         super.channelInactive(ctx);
     }
 
     @Override
     protected void encode(ChannelHandlerContext ctx, ServiceResponse message, ByteBuf out) throws Exception {
         serializationQueue.encode((binaryEncoder, chunkEncoder) -> {
-            ByteBuf messageBuffer = BufferUtil.buffer();
+            ChunkedMessageBuffer messageBuffer = null;
 
             try {
-                binaryEncoder.setBuffer(messageBuffer);
+                messageBuffer = chunkEncoder.allocateSymmetricMessageBuffer(secureChannel);
+
+                binaryEncoder.setBuffer(messageBuffer.order(ByteOrder.LITTLE_ENDIAN));
                 binaryEncoder.encodeMessage(null, message.getResponse());
 
                 final List<ByteBuf> chunks = chunkEncoder.encodeSymmetric(
@@ -101,15 +123,14 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
                     message.getRequestId()
                 );
 
-                ctx.executor().execute(() -> {
-                    chunks.forEach(c -> ctx.write(c, ctx.voidPromise()));
-                    ctx.flush();
-                });
+                ctx.executor().execute(() -> responseFlusher.write(ctx, chunks));
             } catch (UaException e) {
                 logger.error("Error encoding {}: {}", message.getResponse().getClass(), e.getMessage(), e);
                 ctx.close();
             } finally {
-                messageBuffer.release();
+                if (messageBuffer != null) {
+                    messageBuffer.release();
+                }
             }
         });
     }
@@ -141,8 +162,7 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
         char chunkType = (char) buffer.readByte();
 
         if (chunkType == 'A') {
-            chunkBuffers.forEach(ByteBuf::release);
-            chunkBuffers.clear();
+            discardChunks();
         } else {
             buffer.skipBytes(4); // Skip messageSize
 
@@ -158,78 +178,149 @@ public class UaTcpServerSymmetricHandler extends ByteToMessageCodec<ServiceRespo
                     String.format("max chunk size exceeded (%s)", maxChunkSize));
             }
 
-            chunkBuffers.add(buffer.retain());
-
-            if (chunkBuffers.size() > maxChunkCount) {
-                throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
-                    String.format("max chunk count exceeded (%s)", maxChunkCount));
+            if (serializationQueue.isStreamingDecode()) {
+                onSecureMessageChunk(ctx, buffer, chunkType == 'F');
+            } else {
+                accumulateSecureMessageChunk(ctx, buffer, chunkType == 'F');
             }
+        }
+    }
 
-            if (chunkType == 'F') {
-                final List<ByteBuf> buffersToDecode = chunkBuffers;
-                chunkBuffers = new ArrayList<>(maxChunkCount);
+    /**
+     * Decode each chunk as soon as it arrives, if {@link UaTcpStackServerConfig#isStreamingDecodeEnabled()}; only
+     * slices of the plain text bodies of a message's chunks are retained until its final chunk arrives.
+     */
+    private void onSecureMessageChunk(ChannelHandlerContext ctx, ByteBuf buffer, boolean finalChunk)
+        throws UaException {
 
-                serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
-                    try {
-                        validateChunkHeaders(buffersToDecode);
+        if (++pendingChunkCount > maxChunkCount) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                String.format("max chunk count exceeded (%s)", maxChunkCount));
+        }
 
-                        ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(secureChannel, buffersToDecode);
+        if (finalChunk) {
+            pendingChunkCount = 0;
+        }
 
-                        binaryDecoder.setBuffer(messageBuffer);
-                        UaRequestMessage request = binaryDecoder.decodeMessage(null);
+        final ByteBuf chunkBuffer = buffer.retain();
 
-                        ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest = new ServiceRequest<>(
-                            request,
-                            chunkDecoder.getLastRequestId(),
-                            server,
-                            secureChannel
-                        );
+        serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
+            try {
+                validateChunkHeader(chunkBuffer);
 
-                        server.getExecutorService().execute(() -> server.receiveRequest(serviceRequest));
+                ByteBuf messageBuffer = chunkDecoder.decodeSymmetricChunk(secureChannel, chunkBuffer);
 
-                        messageBuffer.release();
-                        buffersToDecode.clear();
-                    } catch (UaException e) {
-                        logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
-                        ctx.close();
-                    }
-                });
+                if (messageBuffer != null) {
+                    receiveMessage(binaryDecoder, chunkDecoder.getLastRequestId(), messageBuffer);
+                }
+            } catch (UaException e) {
+                logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
+                chunkDecoder.discardPendingChunks();
+                ctx.close();
+            } finally {
+                chunkBuffer.release();
             }
+        });
+    }
+
+    /**
+     * Retain every chunk of a message until its final chunk arrives, then decode them together.
+     */
+    private void accumulateSecureMessageChunk(ChannelHandlerContext ctx, ByteBuf buffer, boolean finalChunk)
+        throws UaException {
+
+        chunkBuffers.add(buffer.retain());
+
+        if (chunkBuffers.size() > maxChunkCount) {
+            throw new UaException(StatusCodes.Bad_TcpMessageTooLarge,
+                String.format("max chunk count exceeded (%s)", maxChunkCount));
+        }
+
+        if (finalChunk) {
+            final List<ByteBuf> buffersToDecode = chunkBuffers;
+            chunkBuffers = new ArrayList<>(maxChunkCount);
+
+            serializationQueue.decode((binaryDecoder, chunkDecoder) -> {
+                try {
+                    for (ByteBuf chunkBuffer : buffersToDecode) {
+                        validateChunkHeader(chunkBuffer);
+                    }
+
+                    ByteBuf messageBuffer = chunkDecoder.decodeSymmetric(secureChannel, buffersToDecode);
+
+                    receiveMessage(binaryDecoder, chunkDecoder.getLastRequestId(), messageBuffer);
+
+                    buffersToDecode.clear();
+                } catch (UaException e) {
+                    logger.error("Error decoding symmetric message: {}", e.getMessage(), e);
+                    ctx.close();
+                }
+            });
         }
     }
 
+    /**
+     * Decode the request in {@code messageBuffer}, release it, and hand the request off to the server.
+     */
+    private void receiveMessage(BinaryDecoder binaryDecoder, long requestId, ByteBuf messageBuffer) {
+        try {
+            binaryDecoder.setBuffer(messageBuffer);
+            UaRequestMessage request = binaryDecoder.decodeMessage(null);
+
+            ServiceRequest<UaRequestMessage, UaResponseMessage> serviceRequest = new ServiceRequest<>(
+                request,
+                requestId,
+                server,
+                secureChannel
+            );
+
+            server.getExecutorService().execute(() -> server.receiveRequest(serviceRequest));
+        } finally {
+            messageBuffer.release();
+        }
+    }
 
-    private void validateChunkHeaders(List<ByteBuf> chunkBuffers) throws UaException {
+    private void validateChunkHeader(ByteBuf chunkBuffer) throws UaException {
         ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
         long currentTokenId = channelSecurity.getCurrentToken().getTokenId().longValue();
         long previousTokenId = channelSecurity.getPreviousToken()
             .map(t -> t.getTokenId().longValue())
             .orElse(-1L);
 
-        for (ByteBuf chunkBuffer : chunkBuffers) {
-            chunkBuffer.skipBytes(3 + 1 + 4 + 4); // skip messageType, chunkType, messageSize, secureChannelId
+        chunkBuffer.skipBytes(3 + 1 + 4 + 4); // skip messageType, chunkType, messageSize, secureChannelId
 
-            SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(chunkBuffer);
+        SymmetricSecurityHeader securityHeader = SymmetricSecurityHeader.decode(chunkBuffer);
 
-            if (securityHeader.getTokenId() != currentTokenId) {
-                if (securityHeader.getTokenId() != previousTokenId) {
-                    String message = String.format(
-                        "received unknown secure channel token. " +
-                            "tokenId=%s, currentTokenId=%s, previousTokenId=%s",
-                        securityHeader.getTokenId(), currentTokenId, previousTokenId);
+        if (securityHeader.getTokenId() != currentTokenId) {
+            if (securityHeader.getTokenId() != previousTokenId) {
+                String message = String.format(
+                    "received unknown secure channel token. " +
+                        "tokenId=%s, currentTokenId=%s, previousTokenId=%s",
+                    securityHeader.getTokenId(), currentTokenId, previousTokenId);
 
-                    throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown, message);
-                }
+                throw new UaException(StatusCodes.Bad_SecureChannelTokenUnknown, message);
             }
+        }
+
+        chunkBuffer.readerIndex(0);
+    }
 
-            chunkBuffer.readerIndex(0);
+    /**
+     * Discard the chunks of a partially received message, whether retained here or already decoded.
+     */
+    private void discardChunks() {
+        chunkBuffers.forEach(ByteBuf::release);
+        chunkBuffers.clear();
+
+        if (pendingChunkCount > 0) {
+            pendingChunkCount = 0;
+            serializationQueue.decode((binaryDecoder, chunkDecoder) -> chunkDecoder.discardPendingChunks());
         }
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
-        chunkBuffers.forEach(ByteBuf::release);
-        chunkBuffers.clear();
+        discardChunks();
 
         if (cause instanceof IOException) {
             ctx.close();
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.server.tcp;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the flushes of coalesced service responses across all channels of a {@link UaTcpStackServer}.
+ */
+public class ResponseFlushStatistics {
+
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder responseCount = new LongAdder();
+
+    /**
+     * Record a flush of {@code responses} responses that were written since the previous flush.
+     *
+     * @param responses the number of responses flushed.
+     */
+    public void record(int responses) {
+        flushCount.increment();
+        responseCount.add(responses);
+    }
+
+    /**
+     * @return the number of flushes.
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * @return the number of responses flushed.
+     */
+    public long getResponseCount() {
+        return responseCount.sum();
+    }
+
+    /**
+     * @return the average number of responses per flush.
+     */
+    public double getResponsesPerFlush() {
+        long flushes = flushCount.sum();
+
+        return flushes > 0 ? (double) responseCount.sum() / flushes : 0.0;
+    }
+
+}
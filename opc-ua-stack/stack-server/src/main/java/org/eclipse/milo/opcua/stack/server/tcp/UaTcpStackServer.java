@@ -111,6 +111,8 @@ public class UaTcpStackServer implements UaStackServer {
     private final HashedWheelTimer wheelTimer = Stack.sharedWheelTimer();
     private final Map<Long, Timeout> timeouts = Maps.newConcurrentMap();
 
+    private final ResponseFlushStatistics responseFlushStatistics = new ResponseFlushStatistics();
+
     private final UaTcpStackServerConfig config;
 
     public UaTcpStackServer(UaTcpStackServerConfig config) {
@@ -142,6 +144,13 @@ public class UaTcpStackServer implements UaStackServer {
         return config;
     }
 
+    /**
+     * @return the {@link ResponseFlushStatistics} for responses written by this server.
+     */
+    public ResponseFlushStatistics getResponseFlushStatistics() {
+        return responseFlushStatistics;
+    }
+
     @Override
     public CompletableFuture<UaTcpStackServer> startup() {
         Stream<CompletableFuture<Unit>> stream = endpoints.stream().map(endpoint -> {
@@ -227,7 +236,8 @@ public class UaTcpStackServer implements UaStackServer {
                     } else {
                         logger.trace("Sending {} on {}.", serviceResponse, secureChannel);
                     }
-                    channel.writeAndFlush(serviceResponse, channel.voidPromise());
+                    // The channel's UaTcpServerSymmetricHandler coalesces and flushes encoded responses.
+                    channel.write(serviceResponse, channel.voidPromise());
                 } else {
                     logger.trace("Queueing {} for unbound {}.", serviceResponse, secureChannel);
                     responseQueues.put(secureChannel.getChannelId(), serviceResponse);
@@ -13,17 +13,34 @@
 
 package org.eclipse.milo.opcua.stack;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCountUtil;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelConfig;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelParameters;
+import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkedMessageBuffer;
 import org.eclipse.milo.opcua.stack.core.channel.ClientSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.MessageAbortedException;
 import org.eclipse.milo.opcua.stack.core.channel.SecureChannel;
 import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
+import org.eclipse.milo.opcua.stack.core.channel.messages.ErrorMessage;
 import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -31,12 +48,19 @@ import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
 import org.eclipse.milo.opcua.stack.core.util.CryptoRestrictions;
 import org.eclipse.milo.opcua.stack.core.util.LongSequence;
+import org.eclipse.milo.opcua.stack.core.util.SignatureUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static org.eclipse.milo.opcua.stack.core.channel.headers.SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 public class ChunkSerializationTest extends SecureChannelFixture {
 
@@ -218,4 +242,623 @@ public class ChunkSerializationTest extends SecureChannelFixture {
         }
     }
 
+    @DataProvider
+    public Object[][] getSymmetricSecurityPolicies() {
+        return new Object[][]{
+            {SecurityPolicy.None, MessageSecurityMode.None},
+            {SecurityPolicy.Basic128Rsa15, MessageSecurityMode.Sign},
+            {SecurityPolicy.Basic128Rsa15, MessageSecurityMode.SignAndEncrypt},
+            {SecurityPolicy.Basic256, MessageSecurityMode.Sign},
+            {SecurityPolicy.Basic256, MessageSecurityMode.SignAndEncrypt},
+            {SecurityPolicy.Basic256Sha256, MessageSecurityMode.Sign},
+            {SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt},
+        };
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testSymmetricMessagesAcrossTokenRenewal(SecurityPolicy securityPolicy,
+                                                        MessageSecurityMode messageSecurity) throws Exception {
+
+        logger.info("Symmetric chunk serialization across token renewal, securityPolicy={}, messageSecurityMode={}",
+            securityPolicy, messageSecurity);
+
+        ChunkEncoder encoder = new ChunkEncoder(smallParameters);
+        ChunkDecoder decoder = new ChunkDecoder(smallParameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        LongSequence requestId = new LongSequence(1L, UInteger.MAX_VALUE);
+
+        for (int i = 0; i < 3; i++) {
+            encodeAndDecodeSymmetric(encoder, decoder, clientChannel, serverChannel, requestId.getAndIncrement());
+        }
+
+        if (messageSecurity != MessageSecurityMode.None) {
+            renewChannelSecurity(clientChannel, serverChannel);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            encodeAndDecodeSymmetric(encoder, decoder, clientChannel, serverChannel, requestId.getAndIncrement());
+        }
+    }
+
+    private void encodeAndDecodeSymmetric(ChunkEncoder encoder,
+                                          ChunkDecoder decoder,
+                                          ClientSecureChannel clientChannel,
+                                          ServerSecureChannel serverChannel,
+                                          long requestId) throws Exception {
+
+        byte[] messageBytes = new byte[ChannelConfig.DEFAULT_MAX_CHUNK_SIZE];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) (i + requestId);
+        }
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+            clientChannel,
+            MessageType.SecureMessage,
+            messageBuffer,
+            requestId
+        );
+
+        ByteBuf decodedBuffer = decoder.decodeSymmetric(
+            serverChannel,
+            chunkBuffers
+        );
+
+        ReferenceCountUtil.releaseLater(messageBuffer);
+        ReferenceCountUtil.releaseLater(decodedBuffer);
+
+        messageBuffer.readerIndex(0);
+        assertEquals(decodedBuffer, messageBuffer);
+        assertEquals(decoder.getLastRequestId(), requestId);
+    }
+
+    @DataProvider
+    public Object[][] getSymmetricEncryptionParameters() {
+        return new Object[][]{
+            {SecurityPolicy.Basic128Rsa15, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE},
+            {SecurityPolicy.Basic256, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE},
+            {SecurityPolicy.Basic256Sha256, ChannelConfig.DEFAULT_MAX_CHUNK_SIZE},
+
+            {SecurityPolicy.Basic128Rsa15, ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE},
+            {SecurityPolicy.Basic256, ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE},
+            {SecurityPolicy.Basic256Sha256, ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE},
+        };
+    }
+
+    /**
+     * Symmetric chunks are encrypted and decrypted in place when the chunk buffer is backed by a single NIO buffer.
+     * Verify that the cipher text produced in place is identical to what a separate out-of-place {@link Cipher}
+     * produces, and that decrypting in place yields the same message as decrypting from chunks that force the
+     * copying path.
+     */
+    @Test(dataProvider = "getSymmetricEncryptionParameters")
+    public void testSymmetricInPlaceEncryption(SecurityPolicy securityPolicy, int messageSize) throws Exception {
+        logger.info("Symmetric in-place encryption, securityPolicy={}, messageSize={}", securityPolicy, messageSize);
+
+        ChunkEncoder encoder = new ChunkEncoder(defaultParameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, MessageSecurityMode.SignAndEncrypt);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+            clientChannel,
+            MessageType.SecureMessage,
+            messageBuffer,
+            1L
+        );
+
+        ChannelSecurity.SecretKeys secretKeys = clientChannel.getEncryptionKeys(
+            clientChannel.getChannelSecurity().getCurrentKeys());
+
+        String transformation = securityPolicy.getSymmetricEncryptionAlgorithm().getTransformation();
+        SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
+        IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
+
+        int encryptedStart = SECURE_MESSAGE_HEADER_SIZE + SymmetricSecurityHeader.SYMMETRIC_SECURITY_HEADER_SIZE;
+
+        List<ByteBuf> inPlaceChunks = new ArrayList<>();
+        List<ByteBuf> copyingChunks = new ArrayList<>();
+
+        for (ByteBuf chunkBuffer : chunkBuffers) {
+            byte[] chunkBytes = new byte[chunkBuffer.readableBytes()];
+            chunkBuffer.getBytes(0, chunkBytes);
+
+            byte[] cipherText = Arrays.copyOfRange(chunkBytes, encryptedStart, chunkBytes.length);
+
+            Cipher decryptCipher = Cipher.getInstance(transformation);
+            decryptCipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
+            byte[] plainText = decryptCipher.doFinal(cipherText);
+
+            Cipher encryptCipher = Cipher.getInstance(transformation);
+            encryptCipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+            assertEquals(encryptCipher.doFinal(plainText), cipherText);
+
+            inPlaceChunks.add(chunkBuffer);
+
+            // A chunk made of two components can't be exposed as one NIO buffer and is decrypted via a copy.
+            CompositeByteBuf composite = BufferUtil.compositeBuffer();
+            composite.addComponents(
+                Unpooled.wrappedBuffer(chunkBytes, 0, encryptedStart),
+                Unpooled.wrappedBuffer(chunkBytes, encryptedStart, chunkBytes.length - encryptedStart)
+            );
+            composite.writerIndex(chunkBytes.length);
+            copyingChunks.add(composite.order(ByteOrder.LITTLE_ENDIAN));
+        }
+
+        ByteBuf copyingBuffer = new ChunkDecoder(defaultParameters).decodeSymmetric(serverChannel, copyingChunks);
+        ByteBuf inPlaceBuffer = new ChunkDecoder(defaultParameters).decodeSymmetric(serverChannel, inPlaceChunks);
+
+        ReferenceCountUtil.releaseLater(messageBuffer);
+        ReferenceCountUtil.releaseLater(copyingBuffer);
+        ReferenceCountUtil.releaseLater(inPlaceBuffer);
+
+        messageBuffer.readerIndex(0);
+        assertEquals(copyingBuffer, messageBuffer);
+        assertEquals(inPlaceBuffer, copyingBuffer);
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testSymmetricMessageParallelChunkCrypto(SecurityPolicy securityPolicy,
+                                                        MessageSecurityMode messageSecurity) throws Exception {
+
+        logger.info("Symmetric chunk serialization with parallel chunk crypto, " +
+            "securityPolicy={}, messageSecurityMode={}", securityPolicy, messageSecurity);
+
+        ForkJoinPool cryptoPool = new ForkJoinPool(4);
+
+        try {
+            ChunkEncoder sequentialEncoder = new ChunkEncoder(defaultParameters);
+            ChunkEncoder parallelEncoder = new ChunkEncoder(defaultParameters, cryptoPool);
+            ChunkDecoder parallelDecoder = new ChunkDecoder(defaultParameters, cryptoPool);
+
+            SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+            ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+            ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+            byte[] messageBytes = new byte[ChannelConfig.DEFAULT_MAX_MESSAGE_SIZE];
+            for (int i = 0; i < messageBytes.length; i++) {
+                messageBytes[i] = (byte) i;
+            }
+
+            ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+
+            List<ByteBuf> sequentialChunks = sequentialEncoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                messageBuffer,
+                1L
+            );
+
+            messageBuffer.readerIndex(0);
+
+            List<ByteBuf> parallelChunks = parallelEncoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                messageBuffer,
+                1L
+            );
+
+            assertEquals(parallelChunks, sequentialChunks);
+
+            sequentialChunks.forEach(ReferenceCountUtil::releaseLater);
+
+            ByteBuf decodedBuffer = parallelDecoder.decodeSymmetric(
+                serverChannel,
+                parallelChunks
+            );
+
+            ReferenceCountUtil.releaseLater(messageBuffer);
+            ReferenceCountUtil.releaseLater(decodedBuffer);
+
+            messageBuffer.readerIndex(0);
+            assertEquals(decodedBuffer, messageBuffer);
+        } finally {
+            cryptoPool.shutdown();
+        }
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testSymmetricMessageChunkedBuffer(SecurityPolicy securityPolicy,
+                                                  MessageSecurityMode messageSecurity) throws Exception {
+
+        logger.info("Symmetric chunk serialization from a chunked message buffer, " +
+            "securityPolicy={}, messageSecurityMode={}", securityPolicy, messageSecurity);
+
+        for (ChannelParameters parameters : new ChannelParameters[]{smallParameters, defaultParameters}) {
+            ChunkEncoder copyingEncoder = new ChunkEncoder(parameters);
+            ChunkEncoder chunkedEncoder = new ChunkEncoder(parameters);
+            ChunkDecoder decoder = new ChunkDecoder(parameters);
+
+            SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+            ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+            ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+            byte[] messageBytes = new byte[parameters.getLocalSendBufferSize() * 3 + 17];
+            for (int i = 0; i < messageBytes.length; i++) {
+                messageBytes[i] = (byte) i;
+            }
+
+            ByteBuf messageBuffer = BufferUtil.buffer().writeBytes(messageBytes);
+
+            List<ByteBuf> copiedChunks = copyingEncoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                messageBuffer,
+                1L
+            );
+
+            ChunkedMessageBuffer chunkedBuffer = chunkedEncoder.allocateSymmetricMessageBuffer(clientChannel);
+
+            // Write in small pieces so values straddle the boundaries between chunks.
+            ByteBuf chunkedMessageBuffer = chunkedBuffer.order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < messageBytes.length; i += 7) {
+                chunkedMessageBuffer.writeBytes(messageBytes, i, Math.min(7, messageBytes.length - i));
+            }
+
+            List<ByteBuf> chunks = chunkedEncoder.encodeSymmetric(
+                clientChannel,
+                MessageType.SecureMessage,
+                chunkedBuffer,
+                1L
+            );
+
+            chunkedBuffer.release();
+
+            assertEquals(chunks, copiedChunks);
+
+            copiedChunks.forEach(ReferenceCountUtil::releaseLater);
+
+            ByteBuf decodedBuffer = decoder.decodeSymmetric(serverChannel, chunks);
+
+            ReferenceCountUtil.releaseLater(messageBuffer);
+            ReferenceCountUtil.releaseLater(decodedBuffer);
+
+            messageBuffer.readerIndex(0);
+            assertEquals(decodedBuffer, messageBuffer);
+        }
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testChunkedMessageBufferGrowsByWholeChunks(SecurityPolicy securityPolicy,
+                                                           MessageSecurityMode messageSecurity) throws Exception {
+
+        logger.info("Chunked message buffer growth, securityPolicy={}, messageSecurityMode={}",
+            securityPolicy, messageSecurity);
+
+        ChunkEncoder encoder = new ChunkEncoder(smallParameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+
+        ChunkedMessageBuffer chunkedBuffer = encoder.allocateSymmetricMessageBuffer(clientChannel);
+        ReferenceCountUtil.releaseLater(chunkedBuffer);
+
+        assertEquals(chunkedBuffer.numComponents(), 0);
+
+        chunkedBuffer.ensureWritable(1);
+        int maxBodySize = chunkedBuffer.capacity();
+
+        // A large write adds only the chunks it spans, not a doubled capacity.
+        chunkedBuffer.writeBytes(new byte[maxBodySize * 5 + 1]);
+
+        assertEquals(chunkedBuffer.numComponents(), 6);
+        assertEquals(chunkedBuffer.capacity(), maxBodySize * 6);
+
+        // Filling the last chunk exactly adds nothing; a small write past it adds one chunk.
+        chunkedBuffer.writeBytes(new byte[maxBodySize - 1]);
+        assertEquals(chunkedBuffer.numComponents(), 6);
+
+        chunkedBuffer.writeInt(0);
+
+        assertEquals(chunkedBuffer.numComponents(), 7);
+        assertEquals(chunkedBuffer.capacity(), maxBodySize * 7);
+
+        assertEquals(chunkedBuffer.ensureWritable(maxBodySize * 2, false), 2);
+        assertEquals(chunkedBuffer.numComponents(), 9);
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testSymmetricMessageChunkAtATime(SecurityPolicy securityPolicy,
+                                                 MessageSecurityMode messageSecurity) throws Exception {
+
+        logger.info("Symmetric chunk serialization decoded a chunk at a time, " +
+            "securityPolicy={}, messageSecurityMode={}", securityPolicy, messageSecurity);
+
+        ChunkEncoder encoder = new ChunkEncoder(smallParameters);
+        ChunkDecoder decoder = new ChunkDecoder(smallParameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        ByteBuf messageBuffer = messageBuffer(smallParameters.getLocalSendBufferSize() * 3 + 17);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+            clientChannel,
+            MessageType.SecureMessage,
+            messageBuffer,
+            1L
+        );
+
+        assertTrue(chunkBuffers.size() > 1);
+
+        ByteBuf decodedBuffer = null;
+
+        for (int i = 0; i < chunkBuffers.size(); i++) {
+            ByteBuf chunkBuffer = chunkBuffers.get(i);
+
+            decodedBuffer = decoder.decodeSymmetricChunk(serverChannel, chunkBuffer);
+            chunkBuffer.release();
+
+            if (i < chunkBuffers.size() - 1) {
+                assertNull(decodedBuffer);
+            }
+        }
+
+        assertNotNull(decodedBuffer);
+
+        // The decoded message holds slices of the chunks rather than copies of their bodies.
+        for (ByteBuf chunkBuffer : chunkBuffers) {
+            assertEquals(chunkBuffer.refCnt(), 1);
+        }
+
+        ReferenceCountUtil.releaseLater(messageBuffer);
+
+        messageBuffer.readerIndex(0);
+        assertEquals(decodedBuffer, messageBuffer);
+
+        decodedBuffer.release();
+
+        for (ByteBuf chunkBuffer : chunkBuffers) {
+            assertEquals(chunkBuffer.refCnt(), 0);
+        }
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testSymmetricAbortChunkReleasesPendingChunks(SecurityPolicy securityPolicy,
+                                                             MessageSecurityMode messageSecurity) throws Exception {
+
+        logger.info("Symmetric abort chunk, securityPolicy={}, messageSecurityMode={}",
+            securityPolicy, messageSecurity);
+
+        ChunkEncoder encoder = new ChunkEncoder(smallParameters);
+        ChunkDecoder decoder = new ChunkDecoder(smallParameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        List<ByteBuf> pendingChunks = encodePendingChunks(encoder, clientChannel, 2);
+
+        // A second encoder, advanced by one single-chunk message per pending chunk, so that its next sequence
+        // number follows on from the pending chunks.
+        ChunkEncoder abortEncoder = new ChunkEncoder(smallParameters);
+
+        for (int i = 0; i < pendingChunks.size(); i++) {
+            ByteBuf messageBuffer = messageBuffer(1);
+            abortEncoder.encodeSymmetric(clientChannel, MessageType.SecureMessage, messageBuffer, 1L)
+                .forEach(ReferenceCountUtil::release);
+            messageBuffer.release();
+        }
+
+        ByteBuf errorBuffer = BufferUtil.buffer();
+        ErrorMessage.encode(new ErrorMessage(StatusCodes.Bad_RequestCancelledByClient, "aborted"), errorBuffer);
+
+        List<ByteBuf> abortChunks = abortEncoder.encodeSymmetric(
+            clientChannel,
+            MessageType.SecureMessage,
+            errorBuffer,
+            1L
+        );
+
+        errorBuffer.release();
+
+        assertEquals(abortChunks.size(), 1);
+
+        ByteBuf abortChunk = abortChunks.get(0);
+        toAbortChunk(clientChannel, abortChunk);
+
+        for (ByteBuf chunkBuffer : pendingChunks) {
+            assertNull(decoder.decodeSymmetricChunk(serverChannel, chunkBuffer));
+            chunkBuffer.release();
+        }
+
+        try {
+            decoder.decodeSymmetricChunk(serverChannel, abortChunk);
+            fail("expected MessageAbortedException");
+        } catch (MessageAbortedException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_RequestCancelledByClient);
+        } finally {
+            abortChunk.release();
+        }
+
+        for (ByteBuf chunkBuffer : pendingChunks) {
+            assertEquals(chunkBuffer.refCnt(), 0);
+        }
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testSymmetricBadSequenceNumberReleasesPendingChunks(SecurityPolicy securityPolicy,
+                                                                    MessageSecurityMode messageSecurity)
+        throws Exception {
+
+        logger.info("Symmetric chunk with a bad sequence number, securityPolicy={}, messageSecurityMode={}",
+            securityPolicy, messageSecurity);
+
+        ChunkEncoder encoder = new ChunkEncoder(smallParameters);
+        ChunkDecoder decoder = new ChunkDecoder(smallParameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        List<ByteBuf> chunkBuffers = encodePendingChunks(encoder, clientChannel, 3);
+
+        // Skip the second chunk so the third arrives out of sequence.
+        assertNull(decoder.decodeSymmetricChunk(serverChannel, chunkBuffers.get(0)));
+        chunkBuffers.get(0).release();
+        chunkBuffers.get(1).release();
+
+        assertEquals(chunkBuffers.get(0).refCnt(), 1);
+
+        assertBadChunk(decoder, serverChannel, chunkBuffers.get(2));
+
+        assertEquals(chunkBuffers.get(0).refCnt(), 0);
+    }
+
+    @Test(dataProvider = "getSymmetricSecurityPolicies")
+    public void testSymmetricBadSignatureReleasesPendingChunks(SecurityPolicy securityPolicy,
+                                                               MessageSecurityMode messageSecurity) throws Exception {
+
+        if (messageSecurity == MessageSecurityMode.None) {
+            throw new SkipException("chunks aren't signed");
+        }
+
+        logger.info("Symmetric chunk failing signature verification, securityPolicy={}, messageSecurityMode={}",
+            securityPolicy, messageSecurity);
+
+        ChunkEncoder encoder = new ChunkEncoder(smallParameters);
+        ChunkDecoder decoder = new ChunkDecoder(smallParameters);
+
+        SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        List<ByteBuf> chunkBuffers = encodePendingChunks(encoder, clientChannel, 3);
+
+        for (ByteBuf chunkBuffer : chunkBuffers.subList(0, 2)) {
+            assertNull(decoder.decodeSymmetricChunk(serverChannel, chunkBuffer));
+            chunkBuffer.release();
+        }
+
+        ByteBuf badChunk = chunkBuffers.get(2);
+        int index = badChunk.writerIndex() - 1;
+        badChunk.setByte(index, ~badChunk.getByte(index));
+
+        assertBadChunk(decoder, serverChannel, badChunk);
+
+        for (ByteBuf chunkBuffer : chunkBuffers) {
+            assertEquals(chunkBuffer.refCnt(), 0);
+        }
+    }
+
+    private static ByteBuf messageBuffer(int messageSize) {
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        return BufferUtil.buffer().writeBytes(messageBytes);
+    }
+
+    /**
+     * Encode a message that spans at least {@code chunkCount} chunks and return its first {@code chunkCount} chunks,
+     * none of them final; the rest are released.
+     */
+    private List<ByteBuf> encodePendingChunks(ChunkEncoder encoder,
+                                              ClientSecureChannel clientChannel,
+                                              int chunkCount) throws UaException {
+
+        ByteBuf messageBuffer = messageBuffer(smallParameters.getLocalSendBufferSize() * chunkCount + 17);
+
+        List<ByteBuf> chunkBuffers = encoder.encodeSymmetric(
+            clientChannel,
+            MessageType.SecureMessage,
+            messageBuffer,
+            1L
+        );
+
+        messageBuffer.release();
+
+        assertTrue(chunkBuffers.size() > chunkCount);
+
+        chunkBuffers.subList(chunkCount, chunkBuffers.size()).forEach(ReferenceCountUtil::release);
+
+        return new ArrayList<>(chunkBuffers.subList(0, chunkCount));
+    }
+
+    /**
+     * Turn a final chunk sent by {@code clientChannel} into an abort chunk. The chunk type is covered by the
+     * signature, so the chunk is decrypted, re-signed and encrypted again with the client's keys.
+     */
+    private static void toAbortChunk(ClientSecureChannel clientChannel, ByteBuf chunkBuffer) throws Exception {
+        SecurityPolicy securityPolicy = clientChannel.getSecurityPolicy();
+
+        byte[] chunkBytes = new byte[chunkBuffer.readableBytes()];
+        chunkBuffer.getBytes(0, chunkBytes);
+
+        int encryptedStart = SECURE_MESSAGE_HEADER_SIZE + SymmetricSecurityHeader.SYMMETRIC_SECURITY_HEADER_SIZE;
+        int encryptedSize = chunkBytes.length - encryptedStart;
+
+        ChannelSecurity.SecretKeys secretKeys = clientChannel.isSymmetricSigningEnabled() ?
+            clientChannel.getEncryptionKeys(clientChannel.getChannelSecurity().getCurrentKeys()) : null;
+
+        Cipher decryptCipher = null;
+        Cipher encryptCipher = null;
+
+        if (clientChannel.isSymmetricEncryptionEnabled()) {
+            String transformation = securityPolicy.getSymmetricEncryptionAlgorithm().getTransformation();
+            SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
+            IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
+
+            decryptCipher = Cipher.getInstance(transformation);
+            decryptCipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
+
+            encryptCipher = Cipher.getInstance(transformation);
+            encryptCipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+        }
+
+        if (decryptCipher != null) {
+            decryptCipher.doFinal(chunkBytes, encryptedStart, encryptedSize, chunkBytes, encryptedStart);
+        }
+
+        assertEquals(chunkBytes[3], (byte) 'F');
+        chunkBytes[3] = 'A';
+
+        if (clientChannel.isSymmetricSigningEnabled()) {
+            int signatureSize = clientChannel.getSymmetricSignatureSize();
+
+            byte[] signature = SignatureUtil.hmac(
+                securityPolicy.getSymmetricSignatureAlgorithm(),
+                secretKeys.getSignatureKey(),
+                ByteBuffer.wrap(chunkBytes, 0, chunkBytes.length - signatureSize)
+            );
+
+            System.arraycopy(signature, 0, chunkBytes, chunkBytes.length - signatureSize, signatureSize);
+        }
+
+        if (encryptCipher != null) {
+            encryptCipher.doFinal(chunkBytes, encryptedStart, encryptedSize, chunkBytes, encryptedStart);
+        }
+
+        chunkBuffer.setBytes(0, chunkBytes);
+    }
+
+    private static void assertBadChunk(ChunkDecoder decoder,
+                                       ServerSecureChannel serverChannel,
+                                       ByteBuf chunkBuffer) {
+
+        try {
+            decoder.decodeSymmetricChunk(serverChannel, chunkBuffer);
+            fail("expected UaException");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_SecurityChecksFailed);
+        } finally {
+            chunkBuffer.release();
+        }
+    }
+
 }
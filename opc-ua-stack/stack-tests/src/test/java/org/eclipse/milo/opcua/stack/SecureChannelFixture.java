@@ -103,4 +103,57 @@ public abstract class SecureChannelFixture extends SecurityFixture {
         return new SecureChannel[]{clientChannel, serverChannel};
     }
 
+    /**
+     * Simulate a renewal of the security token: new nonces and keys are installed on both channels, with the
+     * current keys and token retained as the previous ones.
+     */
+    protected void renewChannelSecurity(ClientSecureChannel clientChannel, ServerSecureChannel serverChannel) {
+        SecurityPolicy securityPolicy = clientChannel.getSecurityPolicy();
+
+        ByteString clientNonce = generateNonce(getNonceLength(securityPolicy.getSymmetricEncryptionAlgorithm()));
+        ByteString serverNonce = generateNonce(getNonceLength(securityPolicy.getSymmetricEncryptionAlgorithm()));
+
+        clientChannel.setLocalNonce(clientNonce);
+        clientChannel.setRemoteNonce(serverNonce);
+        serverChannel.setLocalNonce(serverNonce);
+        serverChannel.setRemoteNonce(clientNonce);
+
+        ChannelSecurity oldClientSecurity = clientChannel.getChannelSecurity();
+        long tokenId = oldClientSecurity.getCurrentToken().getTokenId().longValue() + 1;
+
+        ChannelSecurity.SecuritySecrets clientSecrets = ChannelSecurity.generateKeyPair(
+            clientChannel,
+            clientChannel.getLocalNonce(),
+            clientChannel.getRemoteNonce()
+        );
+
+        ChannelSecurityToken clientToken = new ChannelSecurityToken(
+            uint(0), uint(tokenId), DateTime.now(), uint(60000));
+
+        clientChannel.setChannelSecurity(new ChannelSecurity(
+            clientSecrets,
+            clientToken,
+            oldClientSecurity.getCurrentKeys(),
+            oldClientSecurity.getCurrentToken()
+        ));
+
+        ChannelSecurity oldServerSecurity = serverChannel.getChannelSecurity();
+
+        ChannelSecurity.SecuritySecrets serverSecrets = ChannelSecurity.generateKeyPair(
+            serverChannel,
+            serverChannel.getRemoteNonce(),
+            serverChannel.getLocalNonce()
+        );
+
+        ChannelSecurityToken serverToken = new ChannelSecurityToken(
+            uint(0), uint(tokenId), DateTime.now(), uint(60000));
+
+        serverChannel.setChannelSecurity(new ChannelSecurity(
+            serverSecrets,
+            serverToken,
+            oldServerSecurity.getCurrentKeys(),
+            oldServerSecurity.getCurrentToken()
+        ));
+    }
+
 }
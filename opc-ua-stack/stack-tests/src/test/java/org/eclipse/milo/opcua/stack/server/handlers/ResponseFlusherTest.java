@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2016 Kevin Herron
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v1.0 which accompany this distribution.
+ *
+ * The Eclipse Public License is available at
+ *   http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ *   http://www.eclipse.org/org/documents/edl-v10.html.
+ */
+
+package org.eclipse.milo.opcua.stack.server.handlers;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.eclipse.milo.opcua.stack.server.tcp.ResponseFlushStatistics;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Writes responses through a {@link ResponseFlusher} to an {@link EmbeddedChannel}, which only passes written
+ * messages on to {@link EmbeddedChannel#outboundMessages()} once they've been flushed.
+ */
+public class ResponseFlusherTest {
+
+    private EmbeddedChannel channel;
+    private ChannelHandlerContext ctx;
+    private ResponseFlushStatistics statistics;
+
+    @BeforeMethod
+    public void createChannel() {
+        channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        ctx = channel.pipeline().firstContext();
+        statistics = new ResponseFlushStatistics();
+    }
+
+    @AfterMethod
+    public void closeChannel() {
+        channel.finish();
+
+        Object message;
+        while ((message = channel.readOutbound()) != null) {
+            ReferenceCountUtil.release(message);
+        }
+    }
+
+    @Test
+    public void testResponsesWrittenTogetherShareAFlush() {
+        ResponseFlusher flusher = new ResponseFlusher(0L, 65536, statistics);
+
+        write(flusher, 100);
+        write(flusher, 100);
+        write(flusher, 100);
+
+        assertEquals(channel.outboundMessages().size(), 0);
+
+        channel.runPendingTasks();
+
+        assertEquals(channel.outboundMessages().size(), 3);
+        assertEquals(statistics.getFlushCount(), 1L);
+        assertEquals(statistics.getResponseCount(), 3L);
+    }
+
+    @Test
+    public void testMaxBytesFlushesImmediately() {
+        ResponseFlusher flusher = new ResponseFlusher(0L, 150, statistics);
+
+        write(flusher, 100);
+        assertEquals(channel.outboundMessages().size(), 0);
+
+        write(flusher, 100);
+        assertEquals(channel.outboundMessages().size(), 2);
+        assertEquals(statistics.getFlushCount(), 1L);
+        assertEquals(statistics.getResponseCount(), 2L);
+
+        // The flush scheduled by the first write was cancelled, so the next write schedules its own.
+        write(flusher, 100);
+        channel.runPendingTasks();
+
+        assertEquals(channel.outboundMessages().size(), 3);
+        assertEquals(statistics.getFlushCount(), 2L);
+        assertEquals(statistics.getResponseCount(), 3L);
+    }
+
+    @Test
+    public void testMaxDelayFlushesOnTimer() throws Exception {
+        ResponseFlusher flusher = new ResponseFlusher(TimeUnit.MILLISECONDS.toMicros(10), 65536, statistics);
+
+        write(flusher, 100);
+        write(flusher, 100);
+
+        channel.runPendingTasks();
+        assertEquals(channel.outboundMessages().size(), 0);
+
+        Thread.sleep(100);
+
+        channel.runPendingTasks();
+        assertEquals(channel.outboundMessages().size(), 2);
+        assertEquals(statistics.getFlushCount(), 1L);
+        assertEquals(statistics.getResponseCount(), 2L);
+    }
+
+    @Test
+    public void testFlushWithNothingWrittenIsNotRecorded() {
+        ResponseFlusher flusher = new ResponseFlusher(0L, 65536, statistics);
+
+        flusher.flush(ctx);
+        channel.runPendingTasks();
+
+        assertEquals(statistics.getFlushCount(), 0L);
+    }
+
+    private void write(ResponseFlusher flusher, int responseSize) {
+        flusher.write(ctx, ImmutableList.of(Unpooled.buffer(responseSize).writerIndex(responseSize)));
+    }
+
+}